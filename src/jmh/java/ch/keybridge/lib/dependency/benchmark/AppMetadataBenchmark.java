@@ -0,0 +1,31 @@
+package ch.keybridge.lib.dependency.benchmark;
+
+import ch.keybridge.lib.dependency.AppMetadata;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Loading of application metadata from the META-INF/build resources written
+ * by this project's own build.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AppMetadataBenchmark {
+
+  @Benchmark
+  public AppMetadata getInstance() throws IOException {
+    return AppMetadata.getInstance();
+  }
+
+  @Benchmark
+  public AppMetadata getSharedInstance() throws IOException {
+    return AppMetadata.getSharedInstance();
+  }
+}
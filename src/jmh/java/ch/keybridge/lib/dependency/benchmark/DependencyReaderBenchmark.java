@@ -0,0 +1,26 @@
+package ch.keybridge.lib.dependency.benchmark;
+
+import ch.keybridge.lib.dependency.io.DependencyReader;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Parsing of dependency:tree output.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DependencyReaderBenchmark {
+
+  @Benchmark
+  public MavenDependency parseDependencyHierarchy(TreeState state) throws IOException {
+    return DependencyReader.parseDependencyHierarchy(state.dependencyTree);
+  }
+}
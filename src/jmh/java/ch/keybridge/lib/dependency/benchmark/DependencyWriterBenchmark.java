@@ -0,0 +1,85 @@
+package ch.keybridge.lib.dependency.benchmark;
+
+import ch.keybridge.lib.dependency.io.DependencyFormat;
+import ch.keybridge.lib.dependency.io.DependencyWriter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Printing of a parsed dependency hierarchy. Output goes to an Appendable
+ * that only feeds a Blackhole, so the numbers exclude buffer growth and I/O.
+ * The formatted writers are also measured into a reused StringBuilder,
+ * which is what a buffered HTTP response or log writer sees.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DependencyWriterBenchmark {
+
+  @Benchmark
+  public void printHierarchy(TreeState state, Blackhole blackhole) throws IOException {
+    DependencyWriter.printHierarchy(state.hierarchy, new BlackholeAppendable(blackhole));
+  }
+
+  @Benchmark
+  public void write(TreeState state, FormatState format, Blackhole blackhole) throws IOException {
+    DependencyWriter.write(state.hierarchy, format.format, new BlackholeAppendable(blackhole));
+  }
+
+  @Benchmark
+  public int writeBuffered(TreeState state, FormatState format) throws IOException {
+    format.buffer.setLength(0);
+    DependencyWriter.write(state.hierarchy, format.format, format.buffer);
+    return format.buffer.length();
+  }
+
+  /**
+   * The output format, and a buffer reused across invocations.
+   */
+  @State(Scope.Thread)
+  public static class FormatState {
+
+    @Param({"TREE", "JSON", "DOT", "CSV"})
+    public DependencyFormat format;
+
+    final StringBuilder buffer = new StringBuilder();
+  }
+
+  /**
+   * An Appendable that discards its input.
+   */
+  static final class BlackholeAppendable implements Appendable {
+
+    private final Blackhole blackhole;
+
+    BlackholeAppendable(Blackhole blackhole) {
+      this.blackhole = blackhole;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) {
+      blackhole.consume(csq);
+      return this;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) {
+      blackhole.consume(csq);
+      blackhole.consume(end - start);
+      return this;
+    }
+
+    @Override
+    public Appendable append(char c) {
+      blackhole.consume(c);
+      return this;
+    }
+  }
+}
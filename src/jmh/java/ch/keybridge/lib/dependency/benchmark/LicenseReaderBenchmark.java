@@ -0,0 +1,57 @@
+package ch.keybridge.lib.dependency.benchmark;
+
+import ch.keybridge.lib.dependency.io.LicenseReader;
+import ch.keybridge.lib.dependency.io.LicenseSummary;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import javax.xml.bind.JAXBException;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Parsing of license:download-licenses output.
+ * <p>
+ * The number of entries tops out at 100,000: a licenses.xml for a million
+ * dependencies is several hundred megabytes, well beyond any real build.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LicenseReaderBenchmark {
+
+  /**
+   * Number of dependency entries in the license file.
+   */
+  @Param({"100", "10000", "100000"})
+  public int entries;
+
+  private Path licenses;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    licenses = Files.createTempFile("licenses-", ".xml");
+    SyntheticData.writeLicenses(licenses, entries);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(licenses);
+  }
+
+  @Benchmark
+  public LicenseSummary read() throws IOException {
+    return LicenseReader.read(licenses);
+  }
+
+  @Benchmark
+  public LicenseSummary readJaxb() throws IOException, JAXBException {
+    return LicenseReader.readJaxb(licenses);
+  }
+}
@@ -0,0 +1,41 @@
+package ch.keybridge.lib.dependency.benchmark;
+
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import ch.keybridge.lib.dependency.model.MavenDependencyScope;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Traversal of a parsed dependency hierarchy.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MavenDependencyBenchmark {
+
+  /**
+   * Flatten an open hierarchy. The flattened dependencies of a frozen
+   * hierarchy are cached, so flattening the parsed tree would only read the
+   * cache.
+   */
+  @Benchmark
+  public Collection<MavenDependency> getFlattenedDependencies(TreeState state) {
+    return state.open.getFlattenedDependencies();
+  }
+
+  @Benchmark
+  public long stream(TreeState state) {
+    return state.hierarchy.stream().filter(d -> d.getScope() == MavenDependencyScope.TEST).count();
+  }
+
+  @Benchmark
+  public long parallelStream(TreeState state) {
+    return state.hierarchy.stream().parallel().filter(d -> d.getScope() == MavenDependencyScope.TEST).count();
+  }
+}
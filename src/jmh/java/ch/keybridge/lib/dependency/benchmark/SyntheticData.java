@@ -0,0 +1,88 @@
+package ch.keybridge.lib.dependency.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Generates synthetic output of the Maven dependency:tree and
+ * license:download-licenses goals for benchmarking.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+final class SyntheticData {
+
+  private static final String[] SCOPES = {"compile", "runtime", "provided", "test"};
+
+  private SyntheticData() {
+  }
+
+  /**
+   * Write a dependency:tree file. Nodes are laid out in a saw-tooth pattern
+   * so that the tree reaches the requested depth (when there are enough
+   * nodes) and every level has many siblings.
+   *
+   * @param file  the output file
+   * @param nodes number of dependency lines, excluding the project itself
+   * @param depth maximum tree depth, at least 1
+   * @throws IOException on write error
+   */
+  static void writeDependencyTree(Path file, int nodes, int depth) throws IOException {
+    try (BufferedWriter w = Files.newBufferedWriter(file)) {
+      w.write("org.example.application:synthetic-app:war:1.0.0\n");
+      StringBuilder line = new StringBuilder(3 * depth + 80);
+      for (int i = 0; i < nodes; i++) {
+        int level = 1 + i % depth;
+        line.setLength(0);
+        for (int l = 1; l < level; l++) {
+          line.append("|  ");
+        }
+        line.append("+- ").append(groupId(i)).append(':').append(artifactId(i))
+          .append(":jar:").append(version(i)).append(':').append(SCOPES[i % SCOPES.length]).append('\n');
+        w.write(line.toString());
+      }
+    }
+  }
+
+  /**
+   * Write a license:download-licenses XML file.
+   *
+   * @param file    the output file
+   * @param entries number of dependency entries
+   * @throws IOException on write error
+   */
+  static void writeLicenses(Path file, int entries) throws IOException {
+    try (BufferedWriter w = Files.newBufferedWriter(file)) {
+      w.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n");
+      w.write("<licenseSummary>\n  <dependencies>\n");
+      for (int i = 0; i < entries; i++) {
+        w.write("    <dependency>\n");
+        w.write("      <groupId>" + groupId(i) + "</groupId>\n");
+        w.write("      <artifactId>" + artifactId(i) + "</artifactId>\n");
+        w.write("      <version>" + version(i) + "</version>\n");
+        w.write("      <licenses>\n        <license>\n");
+        w.write("          <name>" + (i % 2 == 0 ? "The Apache Software License, Version 2.0" : "The MIT License") + "</name>\n");
+        w.write("          <url>" + (i % 2 == 0 ? "http://www.apache.org/licenses/LICENSE-2.0.txt" : "https://opensource.org/licenses/MIT") + "</url>\n");
+        w.write("          <distribution>repo</distribution>\n");
+        w.write("          <file>license-" + (i % 2) + ".txt</file>\n");
+        w.write("        </license>\n      </licenses>\n");
+        w.write("    </dependency>\n");
+      }
+      w.write("  </dependencies>\n</licenseSummary>\n");
+    }
+  }
+
+  private static String groupId(int i) {
+    return "org.example.group" + i % 997;
+  }
+
+  private static String artifactId(int i) {
+    return "artifact-" + i;
+  }
+
+  private static String version(int i) {
+    return "1." + i % 50 + ".0";
+  }
+}
@@ -0,0 +1,72 @@
+package ch.keybridge.lib.dependency.benchmark;
+
+import ch.keybridge.lib.dependency.io.DependencyReader;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmark state holding a synthetic dependency:tree file and its parsed
+ * hierarchy, generated once per trial for every size and depth combination.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+@State(Scope.Benchmark)
+public class TreeState {
+
+  /**
+   * Number of dependency nodes in the tree.
+   */
+  @Param({"100", "10000", "1000000"})
+  public int nodes;
+  /**
+   * Maximum depth of the tree.
+   */
+  @Param({"3", "20", "200"})
+  public int depth;
+
+  Path dependencyTree;
+  MavenDependency hierarchy;
+  /**
+   * An open copy of the hierarchy. A frozen hierarchy caches its flattened
+   * dependencies, so only an open one is flattened on every call.
+   */
+  MavenDependency open;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    dependencyTree = Files.createTempFile("dependency-tree-", ".txt");
+    SyntheticData.writeDependencyTree(dependencyTree, nodes, depth);
+    hierarchy = DependencyReader.parseDependencyHierarchy(dependencyTree);
+    open = open(hierarchy);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(dependencyTree);
+  }
+
+  /**
+   * Copy a hierarchy into open dependencies, iteratively so that deep trees
+   * do not exhaust the thread stack.
+   */
+  private static MavenDependency open(MavenDependency hierarchy) {
+    MavenDependency root = new MavenDependency(hierarchy.getArtifact(), hierarchy.getScope());
+    Deque<MavenDependency[]> pending = new ArrayDeque<>();
+    pending.push(new MavenDependency[]{hierarchy, root});
+    while (!pending.isEmpty()) {
+      MavenDependency[] pair = pending.pop();
+      for (MavenDependency child : pair[0].getTransitiveDependencies()) {
+        MavenDependency copy = new MavenDependency(child.getArtifact(), child.getScope());
+        pair[1].getTransitiveDependencies().add(copy);
+        pending.push(new MavenDependency[]{child, copy});
+      }
+    }
+    return root;
+  }
+}
@@ -1,22 +1,52 @@
 package ch.keybridge.lib.dependency;
 
+import ch.keybridge.lib.dependency.MetadataMetrics.Phase;
 import ch.keybridge.lib.dependency.io.DependencyReader;
 import ch.keybridge.lib.dependency.io.LicenseReader;
 import ch.keybridge.lib.dependency.io.LicenseSummary;
+import ch.keybridge.lib.dependency.io.MetadataIndex;
+import ch.keybridge.lib.dependency.io.MetadataIndexReader;
+import ch.keybridge.lib.dependency.io.MetadataIndexWriter;
+import ch.keybridge.lib.dependency.model.InternPool;
 import ch.keybridge.lib.dependency.model.License;
 import ch.keybridge.lib.dependency.model.MavenArtifact;
 import ch.keybridge.lib.dependency.model.MavenDependency;
+import ch.keybridge.lib.dependency.util.CacheCounter;
 import ch.keybridge.lib.dependency.util.ResourceUtility;
+import java.io.BufferedInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.stream.Collectors;
-import javax.xml.bind.JAXBException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * The main entry point to the library.
  * <p>
  * Has default paths of data files pre-specified.
+ * <p>
+ * The metadata has two sections, the dependency hierarchy and the licenses,
+ * each loaded from its own file. {@link #getInstance()} loads both before it
+ * returns. {@link #getInstanceAsync(Executor)} parses both files in parallel
+ * in the background and completes as soon as the dependency hierarchy is
+ * available, so that {@link #getApplicationArtifact()} never waits for the
+ * license XML. {@link #getLazyInstance()} reads nothing until a section is
+ * first accessed. In every case a section is loaded at most once per
+ * instance.
  *
  * @author Andrius Druzinis-Vitkus
  * @since 0.0.1 created 2019-02-05
@@ -26,25 +56,253 @@ public class AppMetadata {
   public static final String DEPENDENCY_FILE = "META-INF/build/dependency-tree.txt";
   public static final String LICENSE_FILE = "META-INF/build/licenses.xml";
   public static final String LICENSES_DIR = "META-INF/build/licenses/";
+  /**
+   * Optional precompiled index of the dependency and license files, written
+   * at build time by {@link MetadataIndexWriter}.
+   */
+  public static final String INDEX_FILE = "META-INF/build/metadata.idx";
+  /**
+   * The directory of the data files.
+   */
+  private static final String BUILD_DIR = "META-INF/build/";
 
-  private MavenDependency dependencies;
-  private Map<MavenArtifact, List<License>> licenses;
+  /**
+   * The process-wide shared instance. Volatile so that, once initialized, the
+   * hot path of {@link #getSharedInstance()} is a single volatile read.
+   */
+  private static volatile AppMetadata sharedInstance;
+  /**
+   * Guards initialization and replacement of the shared instance.
+   */
+  private static final Object SHARED_INSTANCE_LOCK = new Object();
+  private static final CacheCounter SHARED_INSTANCE_COUNTER = CacheCounter.of("shared-instance");
+
+  /**
+   * Canonical strings, artifacts and licenses shared by both data files.
+   */
+  private final InternPool pool = new InternPool();
+  /**
+   * The META-INF/build directory the data files are read from, or null to
+   * read them from the class path of this library.
+   */
+  private final URL directory;
+  /**
+   * Whether the license contents cannot be opened: the metadata was read
+   * elsewhere, without its directory, e.g. by {@link MetadataStore}.
+   */
+  private final boolean detached;
+  /**
+   * The precompiled index. Its value is null when there is no index and the
+   * text files are read; the section itself is null for metadata that has
+   * already been read.
+   */
+  private final Section<MetadataIndex> indexSection;
+  private final Section<MavenDependency> dependencySection;
+  /**
+   * The parsed license file, before it is mapped onto the hierarchy.
+   */
+  private final Section<LicenseSummary> licenseSummarySection;
+  private final Section<Map<MavenArtifact, List<License>>> licenseSection;
+  /**
+   * Lookup indexes, built on first use.
+   */
+  private volatile DependencyIndex index;
+  /**
+   * Reverse dependency index, built on first use.
+   */
+  private volatile ReverseDependencyIndex reverseIndex;
+  /**
+   * Rendered responses, created on first use.
+   */
+  private volatile MetadataResponseCache responseCache;
+  /**
+   * Time spent in each load phase, in nanoseconds, by phase ordinal.
+   */
+  private final AtomicLongArray phaseNanos = new AtomicLongArray(Phase.values().length);
+  /**
+   * Counts and estimated size of the loaded model, measured on first use.
+   */
+  private volatile ModelSize modelSize;
 
   /**
    * Get an instance with pre-loaded dependency and license lists.
+   * <p>
+   * Each call re-reads the data files. Use {@link #getSharedInstance()} when
+   * the same metadata is needed repeatedly, e.g. on a request path.
+   * <p>
+   * When the precompiled {@link #INDEX_FILE} is present it is used instead of
+   * parsing the dependency tree and license files.
    *
    * @return a new AppMetadata instance
    * @throws IOException on error
    */
   public static AppMetadata getInstance() throws IOException {
-    AppMetadata appMetadata = new AppMetadata();
+    return load(new AppMetadata((URL) null));
+  }
 
-    appMetadata.loadDependencyData();
-    appMetadata.loadLicenseData();
+  /**
+   * Get an instance with pre-loaded dependency and license lists, read from
+   * the META-INF/build directory of a module.
+   *
+   * @param directory the URL of the META-INF/build directory
+   * @return a new AppMetadata instance
+   * @throws IOException on error
+   */
+  static AppMetadata getInstance(URL directory) throws IOException {
+    return load(new AppMetadata(directory));
+  }
 
+  /**
+   * Load both sections of an instance.
+   */
+  private static AppMetadata load(AppMetadata appMetadata) throws IOException {
+    appMetadata.dependencySection.get();
+    appMetadata.licenseSection.get();
     return appMetadata;
   }
 
+  /**
+   * Get an instance that loads each section on first access, on the calling
+   * thread. No file is read by this method.
+   * <p>
+   * Errors surface on first access of a section as an
+   * {@link UncheckedIOException}, and again on every later access of that
+   * section.
+   *
+   * @return a new AppMetadata instance
+   */
+  public static AppMetadata getLazyInstance() {
+    return new AppMetadata((URL) null);
+  }
+
+  /**
+   * Load an instance in the background on a small pool of daemon threads
+   * owned by this class. The files are read with blocking I/O, so they are
+   * not parsed on the common fork/join pool.
+   *
+   * @return a future of a new AppMetadata instance
+   * @see #getInstanceAsync(Executor)
+   */
+  public static CompletableFuture<AppMetadata> getInstanceAsync() {
+    return getInstanceAsync(LoadExecutor.EXECUTOR);
+  }
+
+  /**
+   * Load an instance in the background. The dependency tree and the license
+   * file are parsed in parallel on the executor. The returned future
+   * completes once the dependency hierarchy is available; the licenses may
+   * still be loading and {@link #getLicenses()} waits for them.
+   *
+   * @param executor the executor that parses the data files
+   * @return a future of a new AppMetadata instance, completed exceptionally
+   *         with an IOException if the dependency hierarchy cannot be read
+   */
+  public static CompletableFuture<AppMetadata> getInstanceAsync(Executor executor) {
+    return load(new AppMetadata((URL) null), executor);
+  }
+
+  /**
+   * Load an instance in the background, reading the data files from the
+   * META-INF/build directory of a module.
+   *
+   * @param directory the URL of the META-INF/build directory
+   * @param executor  the executor that parses the data files
+   * @return a future of a new AppMetadata instance
+   */
+  static CompletableFuture<AppMetadata> getInstanceAsync(URL directory, Executor executor) {
+    return load(new AppMetadata(directory), executor);
+  }
+
+  /**
+   * Start loading both sections of an instance on an executor.
+   */
+  private static CompletableFuture<AppMetadata> load(AppMetadata appMetadata, Executor executor) {
+    /**
+     * Without an index, the task that looked for it goes on to parse the
+     * dependency tree while a second task parses the license file.
+     */
+    CompletableFuture<MavenDependency> dependencies = appMetadata.indexSection.start(executor).thenCompose(index -> {
+      if (index != null) {
+        return CompletableFuture.completedFuture(index.getDependencyHierarchy());
+      }
+      appMetadata.licenseSummarySection.start(executor);
+      return appMetadata.dependencySection.start(Runnable::run);
+    });
+    return dependencies.handle((hierarchy, failure) -> {
+      if (failure != null) {
+        throw new CompletionException(unwrap(failure));
+      }
+      return appMetadata;
+    });
+  }
+
+  /**
+   * Get the process-wide shared instance, loading it on first access.
+   * <p>
+   * The data files are read at most once, even when many threads call this
+   * method concurrently before the instance is available. Once loaded, the
+   * same instance is returned until {@link #reload()} or
+   * {@link #invalidate()} is called.
+   *
+   * @return the shared AppMetadata instance
+   * @throws IOException on error; a failed load is not cached and will be
+   *                     retried by the next call
+   */
+  public static AppMetadata getSharedInstance() throws IOException {
+    AppMetadata instance = sharedInstance;
+    if (instance != null) {
+      SHARED_INSTANCE_COUNTER.hit();
+    } else {
+      SHARED_INSTANCE_COUNTER.miss();
+      synchronized (SHARED_INSTANCE_LOCK) {
+        instance = sharedInstance;
+        if (instance == null) {
+          instance = getInstance();
+          sharedInstance = instance;
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * Re-read the data files and replace the shared instance. Readers calling
+   * {@link #getSharedInstance()} concurrently see either the previous or the
+   * new instance, never a partially loaded one.
+   *
+   * @return the new shared AppMetadata instance
+   * @throws IOException on error; the previous shared instance is kept
+   */
+  public static AppMetadata reload() throws IOException {
+    synchronized (SHARED_INSTANCE_LOCK) {
+      AppMetadata instance = getInstance();
+      sharedInstance = instance;
+      return instance;
+    }
+  }
+
+  /**
+   * Discard the shared instance. The next call to
+   * {@link #getSharedInstance()} loads the data files again.
+   */
+  public static void invalidate() {
+    synchronized (SHARED_INSTANCE_LOCK) {
+      sharedInstance = null;
+    }
+  }
+
+  /**
+   * Replace the shared instance with metadata loaded elsewhere, e.g. by
+   * {@link MetadataWatcher}.
+   *
+   * @param instance the new shared instance
+   */
+  static void replaceSharedInstance(AppMetadata instance) {
+    synchronized (SHARED_INSTANCE_LOCK) {
+      sharedInstance = instance;
+    }
+  }
+
   /**
    * Get the Maven artifact for the application itself. Can be used to get the
    * application version.
@@ -52,7 +310,7 @@ public class AppMetadata {
    * @return MavenArtifact for the application itself.
    */
   public MavenArtifact getApplicationArtifact() {
-    return dependencies.getArtifact();
+    return getDependencyHierarchy().getArtifact();
   }
 
   /**
@@ -61,20 +319,127 @@ public class AppMetadata {
    * @return dependency tree.
    */
   public MavenDependency getDependencyHierarchy() {
-    return dependencies;
+    return dependencySection.join();
   }
 
   /**
    * Get all dependencies (including transitive ones) in a list.
+   * <p>
+   * The hierarchy is frozen, so the list is computed once and shared by all
+   * callers.
    *
-   * @return collection of all dependencies.
+   * @return unmodifiable collection of all dependencies.
    */
   public Collection<MavenDependency> getDependencies() {
-    return dependencies.getFlattenedDependencies();
+    return getDependencyHierarchy().getFlattenedDependencies();
   }
 
+  /**
+   * Get the licenses of all dependencies, loading them on first access.
+   *
+   * @return unmodifiable map of artifacts to their licenses
+   */
   public Map<MavenArtifact, List<License>> getLicenses() {
-    return licenses;
+    return licenseSection.join();
+  }
+
+  /**
+   * Test whether the licenses have been loaded, without loading them.
+   *
+   * @return true if the license section is available
+   */
+  boolean isLicenseDataLoaded() {
+    return licenseSection.isDone();
+  }
+
+  /**
+   * Get the lookup indexes over the dependency hierarchy. The index is built
+   * once, on first access, and shared by all callers.
+   *
+   * @return the dependency index
+   */
+  public DependencyIndex getIndex() {
+    DependencyIndex result = index;
+    if (result == null) {
+      synchronized (this) {
+        result = index;
+        if (result == null) {
+          result = new DependencyIndex(getDependencyHierarchy(), getLicenses());
+          index = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Get the upward links through the dependency hierarchy, to find the paths
+   * to an artifact and the direct dependencies that bring it in. The index
+   * is built once, on first access, and shared by all callers.
+   *
+   * @return the reverse dependency index
+   */
+  public ReverseDependencyIndex getReverseIndex() {
+    ReverseDependencyIndex result = reverseIndex;
+    if (result == null) {
+      synchronized (this) {
+        result = reverseIndex;
+        if (result == null) {
+          result = new ReverseDependencyIndex(getDependencyHierarchy());
+          reverseIndex = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Get the pre-rendered responses of this metadata, for serving it over
+   * HTTP. The cache is created once, on first access, and compresses every
+   * response as it is rendered.
+   *
+   * @return the response cache
+   */
+  public MetadataResponseCache getResponseCache() {
+    MetadataResponseCache result = responseCache;
+    if (result == null) {
+      synchronized (this) {
+        result = responseCache;
+        if (result == null) {
+          result = new MetadataResponseCache(this, true);
+          responseCache = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Get a snapshot of the load-time instrumentation: the time spent in each
+   * load phase, the counts and estimated retained size of the model, and
+   * the hit and miss counts of the library's caches. Sections that are not
+   * loaded yet are loaded first. The model is measured once, on first
+   * access.
+   *
+   * @return the metrics
+   */
+  public MetadataMetrics getMetrics() {
+    ModelSize size = modelSize;
+    if (size == null) {
+      synchronized (this) {
+        size = modelSize;
+        if (size == null) {
+          size = ModelSize.measure(getDependencyHierarchy(), getLicenses(), pool);
+          modelSize = size;
+        }
+      }
+    }
+    Map<Phase, Long> phases = new EnumMap<>(Phase.class);
+    for (Phase phase : Phase.values()) {
+      phases.put(phase, phaseNanos.get(phase.ordinal()));
+    }
+    return new MetadataMetrics(Collections.unmodifiableMap(phases), size.dependencyCount, size.artifactCount, size.licenseCount,
+                               size.retainedBytes, Collections.unmodifiableMap(CacheCounter.getStatistics()));
   }
 
   /**
@@ -85,49 +450,357 @@ public class AppMetadata {
    * @throws IOException in case of failure to create path.
    */
   public Path resolveLicencePath(License license) throws IOException {
-    return ResourceUtility.getResourcePath(LICENSES_DIR + license.getFile());
+    requireDirectory(license);
+    if (directory == null) {
+      return ResourceUtility.getResourcePath(LICENSES_DIR + license.getFile());
+    }
+    return ResourceUtility.getResourcePath(resolve(LICENSES_DIR + license.getFile()));
+  }
+
+  /**
+   * Open the content of a License. Unlike {@link #resolveLicencePath(License)}
+   * this works for any deployment, including nested archives.
+   *
+   * @param license a non-null license instance
+   * @return a stream of the license content; the caller must close it
+   * @throws IOException in case the content is not found.
+   */
+  public InputStream openLicenseContent(License license) throws IOException {
+    requireDirectory(license);
+    return openResource(LICENSES_DIR + license.getFile());
+  }
+
+  /**
+   * Create an instance whose sections are loaded on first access, as
+   * {@link #getLazyInstance()} does. The precompiled {@link #INDEX_FILE} is
+   * used when it is present.
+   *
+   * @deprecated use {@link #getInstance()} or {@link #getLazyInstance()}
+   */
+  @Deprecated
+  public AppMetadata() {
+    this((URL) null);
+  }
+
+  /**
+   * Create an instance whose sections are not loaded yet, reading the data
+   * files from a META-INF/build directory. The precompiled
+   * {@link #INDEX_FILE} is used when it is present.
+   *
+   * @param directory the URL of the directory, or null for the class path of
+   *                  this library
+   */
+  private AppMetadata(URL directory) {
+    this.directory = directory;
+    this.detached = false;
+    /**
+     * Whether there is an index is decided on first access, so that no file
+     * is touched here.
+     */
+    indexSection = new Section<>(this::loadIndexData);
+    dependencySection = new Section<>(() -> {
+      MetadataIndex index = indexSection.get();
+      return index != null ? index.getDependencyHierarchy() : loadDependencyData();
+    });
+    licenseSummarySection = new Section<>(this::loadLicenseData);
+    licenseSection = new Section<>(() -> {
+      MetadataIndex index = indexSection.get();
+      return index != null ? index.getLicenses() : joinLicenseData();
+    });
+  }
+
+  /**
+   * Create an instance of metadata that has already been read, e.g. by
+   * {@link ClasspathMetadata}.
+   *
+   * @param hierarchy the dependency hierarchy
+   * @param licenses  the licenses of the artifacts in the hierarchy
+   * @param directory the META-INF/build directory the metadata was read
+   *                  from, which holds the license contents; null if the
+   *                  license contents are not available
+   */
+  AppMetadata(MavenDependency hierarchy, Map<MavenArtifact, List<License>> licenses, URL directory) {
+    this.directory = directory;
+    this.detached = directory == null;
+    indexSection = null;
+    dependencySection = new Section<>(() -> hierarchy);
+    licenseSummarySection = null;
+    licenseSection = new Section<>(() -> licenses);
+  }
+
+  /**
+   * Load the precompiled index file, if there is one.
+   *
+   * @return the index content, or null if there is no index
+   * @throws IOException in case of failure to read the file
+   */
+  private MetadataIndex loadIndexData() throws IOException {
+    long start = System.nanoTime();
+    if (!hasResource(INDEX_FILE)) {
+      record(Phase.RESOLVE, start);
+      return null;
+    }
+    ByteBuffer buffer = directory == null ? ResourceUtility.mapResource(INDEX_FILE) : ResourceUtility.mapResource(resolve(INDEX_FILE));
+    start = record(Phase.RESOLVE, start);
+    MetadataIndex index = MetadataIndexReader.read(buffer, pool);
+    record(Phase.READ_INDEX, start);
+    return index;
   }
 
   /**
    * Load the dependency hierarchy file.
    *
+   * @return the dependency hierarchy
    * @throws IOException in case of failure to find or read the file
    */
-  private void loadDependencyData() throws IOException {
-    Path dependencyPath = ResourceUtility.getResourcePath(DEPENDENCY_FILE);
-    dependencies = DependencyReader.parseDependencyHierarchy(dependencyPath);
+  private MavenDependency loadDependencyData() throws IOException {
+    long start = System.nanoTime();
+    try (InputStream inputStream = openResource(DEPENDENCY_FILE)) {
+      start = record(Phase.RESOLVE, start);
+      MavenDependency hierarchy = DependencyReader.parseDependencyHierarchy(inputStream, pool);
+      record(Phase.PARSE_DEPENDENCIES, start);
+      return hierarchy;
+    }
   }
 
   /**
    * Load the license file.
    *
+   * @return the parsed license file
    * @throws IOException in case of failure to find or read the file
    */
-  private void loadLicenseData() throws IOException {
-    Path licensePath = ResourceUtility.getResourcePath(LICENSE_FILE);
+  private LicenseSummary loadLicenseData() throws IOException {
+    long start = System.nanoTime();
+    try (InputStream inputStream = new BufferedInputStream(openResource(LICENSE_FILE))) {
+      start = record(Phase.RESOLVE, start);
+      LicenseSummary summary = LicenseReader.read(inputStream, pool);
+      record(Phase.PARSE_LICENSES, start);
+      return summary;
+    }
+  }
 
+  /**
+   * Map the parsed license file onto the dependency hierarchy, once both
+   * are loaded.
+   *
+   * @return the licenses by artifact
+   * @throws IOException in case of failure to load either section
+   */
+  private Map<MavenArtifact, List<License>> joinLicenseData() throws IOException {
+    LicenseSummary summary = licenseSummarySection.get();
+    MavenDependency hierarchy = dependencySection.get();
+    long start = System.nanoTime();
+    Map<MavenArtifact, List<License>> licenses = LicenseReader.mapLicenses(summary, hierarchy);
+    record(Phase.JOIN_LICENSES, start);
+    return licenses;
+  }
+
+  /**
+   * Fail if the license contents of this instance cannot be opened.
+   *
+   * @throws FileNotFoundException if the metadata was read without its
+   *                               directory
+   */
+  private void requireDirectory(License license) throws FileNotFoundException {
+    if (detached) {
+      throw new FileNotFoundException("No license content for " + license.getFile() + ": the metadata was read without its directory");
+    }
+  }
+
+  /**
+   * Resolve a data file in the directory of this instance.
+   *
+   * @param file the path of the file within the class path
+   * @return the URL of the file
+   * @throws IOException if the URL cannot be formed
+   */
+  private URL resolve(String file) throws IOException {
     try {
       /**
-       * Read license information into a map of groupId:artifactId:version to
-       * List-of-licenses.
+       * Encode the relative path: license file names contain spaces.
        */
-      LicenseSummary summary = LicenseReader.read(licensePath);
-      Map<String, List<License>> licenseMap = summary.getDependencies().stream()
-        .collect(Collectors.toMap(LicenseSummary.Dependency::getVersionedArtifactName,
-                                  LicenseSummary.Dependency::getLicenses));
+      return new URL(directory, new URI(null, file.substring(BUILD_DIR.length()), null).toASCIIString());
+    } catch (URISyntaxException e) {
+      throw new IOException("Invalid file name " + file, e);
+    }
+  }
 
+  /**
+   * Test whether a data file exists, without reading it.
+   */
+  private boolean hasResource(String file) throws IOException {
+    if (directory == null) {
+      return ResourceUtility.hasResource(file);
+    }
+    URL url = resolve(file);
+    if ("file".equals(url.getProtocol())) {
+      return Files.exists(ResourceUtility.getResourcePath(url));
+    }
+    try {
       /**
-       * Map licenses to our actual artifacts.
+       * A jar connection looks up the entry when it connects.
        */
-      licenses = new LinkedHashMap<>();
-      for (MavenDependency dependency : dependencies.getFlattenedDependencies()) {
-        final String versionedArtifact = dependency.getArtifact().getVersionedArtifactName();
-        List<License> licenseList = licenseMap.getOrDefault(versionedArtifact, Collections.emptyList());
-        licenses.put(dependency.getArtifact(), Collections.unmodifiableList(licenseList));
+      url.openConnection().connect();
+      return true;
+    } catch (FileNotFoundException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Open a stream to a data file.
+   *
+   * @param file the path of the file within the class path
+   * @return an unbuffered stream; the caller must close it
+   * @throws IOException in case the file is not found.
+   */
+  private InputStream openResource(String file) throws IOException {
+    if (directory == null) {
+      return ResourceUtility.openResource(file);
+    }
+    return resolve(file).openStream();
+  }
+
+  /**
+   * Get the name of a data file within its META-INF/build directory.
+   *
+   * @param resource the path of the file within the class path, e.g.
+   *                 {@link #INDEX_FILE}
+   * @return the file name
+   */
+  static String fileName(String resource) {
+    return resource.substring(resource.lastIndexOf('/') + 1);
+  }
+
+  /**
+   * Add the time since a start to a phase.
+   *
+   * @return the current time, to start the next phase
+   */
+  private long record(Phase phase, long start) {
+    long now = System.nanoTime();
+    phaseNanos.addAndGet(phase.ordinal(), now - start);
+    return now;
+  }
+
+  /**
+   * Get the cause of a failed future.
+   */
+  private static Throwable unwrap(Throwable failure) {
+    return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+  }
+
+  /**
+   * The pool of {@link #getInstanceAsync()}, created on first use. One
+   * thread per data file; idle threads exit.
+   */
+  private static final class LoadExecutor {
+
+    static final ThreadPoolExecutor EXECUTOR;
+
+    static {
+      AtomicInteger threads = new AtomicInteger();
+      EXECUTOR = new ThreadPoolExecutor(2, 2, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+        Thread thread = new Thread(runnable, "metadata-loader-" + threads.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+      EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+  }
+
+  /**
+   * Loads a value.
+   */
+  @FunctionalInterface
+  private interface Loader<T> {
+
+    T load() throws IOException;
+  }
+
+  /**
+   * A section of the metadata that is loaded at most once, either in the
+   * background on an executor or on the first thread that needs it. Other
+   * threads that need the section meanwhile wait for that load.
+   */
+  private static final class Section<T> {
+
+    private final Loader<T> loader;
+    private volatile CompletableFuture<T> future;
+
+    Section(Loader<T> loader) {
+      this.loader = loader;
+    }
+
+    /**
+     * Start loading on an executor, unless loading has already started.
+     */
+    CompletableFuture<T> start(Executor executor) {
+      CompletableFuture<T> result;
+      synchronized (this) {
+        if (future != null) {
+          return future;
+        }
+        result = new CompletableFuture<>();
+        future = result;
+      }
+      executor.execute(() -> complete(result));
+      return result;
+    }
+
+    /**
+     * Get the value, loading it on the calling thread if loading has not
+     * started.
+     */
+    T get() throws IOException {
+      CompletableFuture<T> result = future;
+      if (result == null) {
+        boolean owner = false;
+        synchronized (this) {
+          result = future;
+          if (result == null) {
+            result = new CompletableFuture<>();
+            future = result;
+            owner = true;
+          }
+        }
+        if (owner) {
+          complete(result);
+        }
+      }
+      try {
+        return result.join();
+      } catch (CompletionException e) {
+        Throwable cause = unwrap(e);
+        if (cause instanceof IOException) {
+          throw (IOException) cause;
+        }
+        throw e;
+      }
+    }
+
+    /**
+     * Get the value for an accessor that cannot throw IOException.
+     */
+    T join() {
+      try {
+        return get();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    boolean isDone() {
+      CompletableFuture<T> result = future;
+      return result != null && result.isDone() && !result.isCompletedExceptionally();
+    }
+
+    private void complete(CompletableFuture<T> result) {
+      try {
+        result.complete(loader.load());
+      } catch (IOException | RuntimeException | Error e) {
+        result.completeExceptionally(e);
       }
-      licenses = Collections.unmodifiableMap(licenses);
-    } catch (JAXBException e) {
-      throw new IOException("Unable to parse XML of the license file");
     }
   }
 }
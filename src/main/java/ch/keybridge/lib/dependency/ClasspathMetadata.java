@@ -0,0 +1,235 @@
+package ch.keybridge.lib.dependency;
+
+import ch.keybridge.lib.dependency.io.DependencyReader;
+import ch.keybridge.lib.dependency.io.LicenseReader;
+import ch.keybridge.lib.dependency.io.LicenseSummary;
+import ch.keybridge.lib.dependency.io.MetadataIndex;
+import ch.keybridge.lib.dependency.io.MetadataIndexReader;
+import ch.keybridge.lib.dependency.model.InternPool;
+import ch.keybridge.lib.dependency.model.License;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import java.io.BufferedInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The metadata of every module on the classpath.
+ * <p>
+ * {@link AppMetadata} reads the first META-INF/build directory its class
+ * loader finds. In a plugin-style deployment each plugin JAR carries its own
+ * directory; this class finds all of them with
+ * {@link ClassLoader#getResources(String)}, reads each module's precompiled
+ * index or else its dependency tree and license file, and keeps one
+ * AppMetadata per application artifact. When the same application occurs
+ * more than once, e.g. the same JAR in two places, the first in class path
+ * order is kept.
+ * <p>
+ * The files of all modules are parsed in parallel on a bounded pool, with
+ * the dependency tree and the license file of a module parsed side by side.
+ * All modules share one {@link InternPool}, so coordinates and licenses
+ * repeated across plugins are held once.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class ClasspathMetadata {
+
+  private static final String INDEX_NAME = AppMetadata.fileName(AppMetadata.INDEX_FILE);
+  private static final String DEPENDENCY_NAME = AppMetadata.fileName(AppMetadata.DEPENDENCY_FILE);
+  private static final String LICENSE_NAME = AppMetadata.fileName(AppMetadata.LICENSE_FILE);
+
+  private final Map<MavenArtifact, AppMetadata> applications;
+
+  private ClasspathMetadata(Map<MavenArtifact, AppMetadata> applications) {
+    this.applications = Collections.unmodifiableMap(applications);
+  }
+
+  /**
+   * Discover the metadata on the class path of the context class loader,
+   * on a pool with one thread per processor.
+   *
+   * @return the metadata of every module
+   * @throws IOException if the metadata of a module cannot be read
+   */
+  public static ClasspathMetadata discover() throws IOException {
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    if (classLoader == null) {
+      classLoader = ClasspathMetadata.class.getClassLoader();
+    }
+    return discover(classLoader, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Discover the metadata on a class path, on a pool of at most the given
+   * number of threads. The pool is shut down before this method returns.
+   *
+   * @param classLoader the class loader to search
+   * @param parallelism the maximum number of files parsed at once
+   * @return the metadata of every module
+   * @throws IOException if the metadata of a module cannot be read
+   */
+  public static ClasspathMetadata discover(ClassLoader classLoader, int parallelism) throws IOException {
+    AtomicInteger threads = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+      Thread thread = new Thread(runnable, "metadata-discovery-" + threads.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      return discover(classLoader, executor);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Discover the metadata on a class path, parsing on an executor.
+   *
+   * @param classLoader the class loader to search
+   * @param executor    the executor that parses the files
+   * @return the metadata of every module
+   * @throws IOException if the metadata of a module cannot be read
+   */
+  public static ClasspathMetadata discover(ClassLoader classLoader, Executor executor) throws IOException {
+    /**
+     * Module directories in class path order, keyed by URL string: URL.equals
+     * may resolve host names.
+     */
+    Map<String, URL> directories = new LinkedHashMap<>();
+    Set<String> indexed = new HashSet<>();
+    for (URL url : Collections.list(classLoader.getResources(AppMetadata.INDEX_FILE))) {
+      URL directory = new URL(url, ".");
+      directories.putIfAbsent(directory.toString(), directory);
+      indexed.add(directory.toString());
+    }
+    for (URL url : Collections.list(classLoader.getResources(AppMetadata.DEPENDENCY_FILE))) {
+      URL directory = new URL(url, ".");
+      directories.putIfAbsent(directory.toString(), directory);
+    }
+
+    InternPool pool = new InternPool();
+    List<URL> modules = new ArrayList<>(directories.values());
+    List<CompletableFuture<AppMetadata>> futures = new ArrayList<>(modules.size());
+    for (URL directory : modules) {
+      if (indexed.contains(directory.toString())) {
+        futures.add(CompletableFuture.supplyAsync(() -> {
+          MetadataIndex index = read(directory, INDEX_NAME, false, in -> MetadataIndexReader.read(in, pool));
+          return new AppMetadata(index.getDependencyHierarchy(), index.getLicenses(), directory);
+        }, executor));
+      } else {
+        CompletableFuture<MavenDependency> hierarchy = CompletableFuture.supplyAsync(
+          () -> read(directory, DEPENDENCY_NAME, false, in -> DependencyReader.parseDependencyHierarchy(in, pool)), executor);
+        CompletableFuture<LicenseSummary> licenses = CompletableFuture.supplyAsync(
+          () -> read(directory, LICENSE_NAME, true, in -> LicenseReader.read(in, pool)), executor);
+        futures.add(hierarchy.thenCombineAsync(licenses, (h, l) -> new AppMetadata(
+          h, l == null ? Collections.<MavenArtifact, List<License>>emptyMap() : LicenseReader.mapLicenses(l, h), directory), executor));
+      }
+    }
+
+    Map<MavenArtifact, AppMetadata> applications = new LinkedHashMap<>();
+    for (int i = 0; i < futures.size(); i++) {
+      AppMetadata metadata;
+      try {
+        metadata = futures.get(i).join();
+      } catch (CompletionException e) {
+        Throwable cause = e.getCause() instanceof UncheckedIOException ? e.getCause().getCause() : e.getCause();
+        if (cause instanceof IOException) {
+          throw new IOException("Unable to read the metadata in " + modules.get(i), cause);
+        }
+        throw e;
+      }
+      applications.putIfAbsent(metadata.getApplicationArtifact(), metadata);
+    }
+    return new ClasspathMetadata(applications);
+  }
+
+  /**
+   * Get the metadata of every application, in class path order.
+   *
+   * @return unmodifiable map of metadata by application artifact
+   */
+  public Map<MavenArtifact, AppMetadata> getApplications() {
+    return applications;
+  }
+
+  /**
+   * Get the metadata of an application.
+   *
+   * @param application the application artifact
+   * @return the metadata, or null if the application was not found
+   */
+  public AppMetadata getApplication(MavenArtifact application) {
+    return applications.get(application);
+  }
+
+  /**
+   * Get the licenses of the dependencies of every application. An artifact
+   * used by several applications is listed once, with its licenses as the
+   * first application declares them.
+   *
+   * @return map of artifacts to their licenses
+   */
+  public Map<MavenArtifact, List<License>> getLicenses() {
+    Map<MavenArtifact, List<License>> licenses = new LinkedHashMap<>();
+    for (AppMetadata metadata : applications.values()) {
+      metadata.getLicenses().forEach(licenses::putIfAbsent);
+    }
+    return licenses;
+  }
+
+  /**
+   * Open the content of a License of an application from that application's
+   * own META-INF/build/licenses directory.
+   *
+   * @param application the application artifact
+   * @param license     a license of one of its dependencies
+   * @return a stream of the license content; the caller must close it
+   * @throws IOException in case the content is not found.
+   */
+  public InputStream openLicenseContent(MavenArtifact application, License license) throws IOException {
+    AppMetadata metadata = applications.get(application);
+    if (metadata == null) {
+      throw new FileNotFoundException("Application not found: " + application);
+    }
+    return metadata.openLicenseContent(license);
+  }
+
+  /**
+   * Read a file of a module directory.
+   *
+   * @return the content, or null if an optional file does not exist
+   * @throws UncheckedIOException if the file cannot be read
+   */
+  private static <T> T read(URL directory, String name, boolean optional, Parser<T> parser) {
+    try (InputStream inputStream = new BufferedInputStream(new URL(directory, name).openStream())) {
+      return parser.parse(inputStream);
+    } catch (FileNotFoundException e) {
+      if (optional) {
+        return null;
+      }
+      throw new UncheckedIOException(e);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Parses a file.
+   */
+  @FunctionalInterface
+  private interface Parser<T> {
+
+    T parse(InputStream inputStream) throws IOException;
+  }
+}
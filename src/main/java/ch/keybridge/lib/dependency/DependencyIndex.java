@@ -0,0 +1,250 @@
+package ch.keybridge.lib.dependency;
+
+import ch.keybridge.lib.dependency.model.License;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import ch.keybridge.lib.dependency.model.MavenDependencyScope;
+import ch.keybridge.lib.dependency.model.MavenVersion;
+import ch.keybridge.lib.dependency.util.CacheCounter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Hash indexes over a dependency hierarchy for constant-time lookups.
+ * <p>
+ * Every lookup returns the matching dependencies in depth-first tree order.
+ * An artifact that occurs several times in the tree is returned once per
+ * occurrence. Returned lists are unmodifiable and never null.
+ * <p>
+ * The index is built once, in a single traversal, and is immutable and
+ * thread-safe afterwards. Version-ordered views for range queries are
+ * sorted on first use per group and cached. Use
+ * {@link AppMetadata#getIndex()} to get the index of the application.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class DependencyIndex {
+
+  private static final CacheCounter VERSION_COUNTER = CacheCounter.of("version-range");
+  private final Map<String, List<MavenDependency>> byGroupId;
+  private final Map<String, Map<String, List<MavenDependency>>> byGroupArtifact;
+  private final Map<MavenArtifact, List<MavenDependency>> byArtifact;
+  private final Map<String, List<MavenDependency>> byCoordinate;
+  private final Map<MavenDependencyScope, List<MavenDependency>> byScope;
+  private final Map<String, List<MavenDependency>> byLicense;
+  /**
+   * Version-ordered views by groupId, and by groupId and artifactId, sorted
+   * on first use.
+   */
+  private final ConcurrentMap<String, NavigableMap<MavenVersion, List<MavenDependency>>> byGroupIdVersion = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, NavigableMap<MavenVersion, List<MavenDependency>>> byGroupArtifactVersion = new ConcurrentHashMap<>();
+
+  /**
+   * Build the indexes of a dependency hierarchy.
+   *
+   * @param hierarchy the dependency hierarchy
+   * @param licenses  licenses of the artifacts in the hierarchy; artifacts
+   *                  without an entry are not indexed by license
+   */
+  public DependencyIndex(MavenDependency hierarchy, Map<MavenArtifact, List<License>> licenses) {
+    Map<String, List<MavenDependency>> groupIds = new HashMap<>();
+    Map<String, Map<String, List<MavenDependency>>> groupArtifacts = new HashMap<>();
+    Map<MavenArtifact, List<MavenDependency>> artifacts = new HashMap<>();
+    Map<String, List<MavenDependency>> coordinates = new HashMap<>();
+    Map<MavenDependencyScope, List<MavenDependency>> scopes = new EnumMap<>(MavenDependencyScope.class);
+    Map<String, List<MavenDependency>> licenseNames = new HashMap<>();
+
+    for (MavenDependency dependency : hierarchy.getFlattenedDependencies()) {
+      MavenArtifact artifact = dependency.getArtifact();
+      add(groupIds, artifact.getGroupId(), dependency);
+      add(groupArtifacts.computeIfAbsent(artifact.getGroupId(), g -> new HashMap<>()), artifact.getArtifactId(), dependency);
+      List<MavenDependency> occurrences = artifacts.get(artifact);
+      if (occurrences == null) {
+        /**
+         * First occurrence of this artifact. The full coordinate shares the
+         * occurrence list.
+         */
+        occurrences = new ArrayList<>(1);
+        artifacts.put(artifact, occurrences);
+        coordinates.put(artifact.toString(), occurrences);
+      }
+      occurrences.add(dependency);
+      /**
+       * The short coordinate has no packaging, so it collects the
+       * occurrences of every packaging, e.g. a jar and a test-jar.
+       */
+      add(coordinates, artifact.getVersionedArtifactName(), dependency);
+      if (dependency.getScope() != null) {
+        add(scopes, dependency.getScope(), dependency);
+      }
+      for (License license : licenses.getOrDefault(artifact, Collections.emptyList())) {
+        if (license.getName() != null) {
+          add(licenseNames, license.getName(), dependency);
+        }
+      }
+    }
+
+    this.byGroupId = freeze(groupIds);
+    Map<String, Map<String, List<MavenDependency>>> frozenGroupArtifacts = new HashMap<>();
+    groupArtifacts.forEach((groupId, map) -> frozenGroupArtifacts.put(groupId, freeze(map)));
+    this.byGroupArtifact = frozenGroupArtifacts;
+    this.byArtifact = freeze(artifacts);
+    this.byCoordinate = freeze(coordinates);
+    this.byScope = freeze(scopes);
+    this.byLicense = freeze(licenseNames);
+  }
+
+  /**
+   * Get all dependencies with a group id.
+   *
+   * @param groupId the group id, e.g. org.glassfish.jersey.core
+   * @return matching dependencies
+   */
+  public List<MavenDependency> getByGroupId(String groupId) {
+    return byGroupId.getOrDefault(groupId, Collections.emptyList());
+  }
+
+  /**
+   * Get all dependencies with a group id and artifact id, in any version.
+   *
+   * @param groupId    the group id, e.g. org.glassfish.jersey.core
+   * @param artifactId the artifact id, e.g. jersey-client
+   * @return matching dependencies
+   */
+  public List<MavenDependency> getByGroupArtifact(String groupId, String artifactId) {
+    Map<String, List<MavenDependency>> artifacts = byGroupArtifact.get(groupId);
+    return artifacts == null ? Collections.emptyList() : artifacts.getOrDefault(artifactId, Collections.emptyList());
+  }
+
+  /**
+   * Get all dependencies with a group id, ordered by version. Use the views
+   * of the map for range queries, e.g. all dependencies of a group below a
+   * version:
+   * <pre>
+   * index.getVersions("org.glassfish.jersey.core").headMap(MavenVersion.of("2.30"), false)
+   * </pre>
+   * Versions that order the same, such as 1.0 and 1.0.0, share an entry.
+   *
+   * @param groupId the group id, e.g. org.glassfish.jersey.core
+   * @return unmodifiable map of matching dependencies by version, in
+   *         ascending order; empty if none match
+   */
+  public NavigableMap<MavenVersion, List<MavenDependency>> getVersions(String groupId) {
+    NavigableMap<MavenVersion, List<MavenDependency>> versions = byGroupIdVersion.get(groupId);
+    if (versions != null) {
+      VERSION_COUNTER.hit();
+      return versions;
+    }
+    VERSION_COUNTER.miss();
+    return byGroupIdVersion.computeIfAbsent(groupId, g -> sortByVersion(getByGroupId(g)));
+  }
+
+  /**
+   * Get all dependencies with a group id and artifact id, ordered by
+   * version.
+   *
+   * @param groupId    the group id, e.g. org.glassfish.jersey.core
+   * @param artifactId the artifact id, e.g. jersey-client
+   * @return unmodifiable map of matching dependencies by version, in
+   *         ascending order; empty if none match
+   * @see #getVersions(String)
+   */
+  public NavigableMap<MavenVersion, List<MavenDependency>> getVersions(String groupId, String artifactId) {
+    String key = groupId + ':' + artifactId;
+    NavigableMap<MavenVersion, List<MavenDependency>> versions = byGroupArtifactVersion.get(key);
+    if (versions != null) {
+      VERSION_COUNTER.hit();
+      return versions;
+    }
+    VERSION_COUNTER.miss();
+    return byGroupArtifactVersion.computeIfAbsent(key, k -> sortByVersion(getByGroupArtifact(groupId, artifactId)));
+  }
+
+  /**
+   * Get all occurrences of an artifact.
+   *
+   * @param artifact the artifact
+   * @return matching dependencies
+   */
+  public List<MavenDependency> getByArtifact(MavenArtifact artifact) {
+    return byArtifact.getOrDefault(artifact, Collections.emptyList());
+  }
+
+  /**
+   * Get all occurrences of an artifact by its coordinate. The full
+   * coordinate {groupId}:{artifactId}:{packaging}:{version} matches one
+   * artifact. The short coordinate {groupId}:{artifactId}:{version} matches
+   * every packaging of that version, e.g. both the jar and the test-jar, in
+   * tree order.
+   *
+   * @param coordinate the coordinate, e.g. keybridge.lib:wadl:jar:1.0.0
+   * @return matching dependencies
+   */
+  public List<MavenDependency> getByCoordinate(String coordinate) {
+    return byCoordinate.getOrDefault(coordinate, Collections.emptyList());
+  }
+
+  /**
+   * Get all dependencies with a scope. The root of the hierarchy has no scope
+   * and is never returned.
+   *
+   * @param scope the scope
+   * @return matching dependencies
+   */
+  public List<MavenDependency> getByScope(MavenDependencyScope scope) {
+    return byScope.getOrDefault(scope, Collections.emptyList());
+  }
+
+  /**
+   * Get all dependencies distributed under a license.
+   *
+   * @param licenseName the license name as written by the license plugin,
+   *                    e.g. The MIT License
+   * @return matching dependencies
+   */
+  public List<MavenDependency> getByLicense(String licenseName) {
+    return byLicense.getOrDefault(licenseName, Collections.emptyList());
+  }
+
+  /**
+   * Get the distinct artifacts in the hierarchy.
+   *
+   * @return unmodifiable set of artifacts
+   */
+  public Set<MavenArtifact> getArtifacts() {
+    return byArtifact.keySet();
+  }
+
+  /**
+   * Group dependencies by their parsed version. Dependencies without a
+   * version are left out.
+   */
+  private static NavigableMap<MavenVersion, List<MavenDependency>> sortByVersion(List<MavenDependency> dependencies) {
+    NavigableMap<MavenVersion, List<MavenDependency>> map = new TreeMap<>();
+    for (MavenDependency dependency : dependencies) {
+      MavenVersion version = dependency.getArtifact().getMavenVersion();
+      if (version != null) {
+        add(map, version, dependency);
+      }
+    }
+    map.replaceAll((key, list) -> Collections.unmodifiableList(list));
+    return Collections.unmodifiableNavigableMap(map);
+  }
+
+  /**
+   * Add a value to a multi-map.
+   */
+  private static <K> void add(Map<K, List<MavenDependency>> map, K key, MavenDependency dependency) {
+    map.computeIfAbsent(key, k -> new ArrayList<>()).add(dependency);
+  }
+
+  /**
+   * Wrap a multi-map and its lists in unmodifiable views.
+   */
+  private static <K> Map<K, List<MavenDependency>> freeze(Map<K, List<MavenDependency>> map) {
+    map.replaceAll((key, list) -> Collections.unmodifiableList(list));
+    return Collections.unmodifiableMap(map);
+  }
+}
@@ -0,0 +1,230 @@
+package ch.keybridge.lib.dependency;
+
+import ch.keybridge.lib.dependency.util.CacheCounter;
+import ch.keybridge.lib.dependency.util.CacheStatistics;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import lombok.Value;
+
+/**
+ * A snapshot of the load-time instrumentation of an {@link AppMetadata}
+ * instance: how long each phase of loading took, how large the loaded model
+ * is, and the process-wide hit and miss counts of the library's caches.
+ * <p>
+ * Take a snapshot with {@link AppMetadata#getMetrics()}. To monitor the
+ * shared instance over JMX, register its MBean once at startup:
+ * <pre>
+ * MetadataMetrics.registerMBean();
+ * </pre>
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+@Value
+public class MetadataMetrics {
+
+  /**
+   * The JMX object name of the shared instance's metrics.
+   */
+  public static final String OBJECT_NAME = "ch.keybridge.lib.dependency:type=AppMetadata";
+
+  /**
+   * A phase of loading the metadata. A phase that did not run, e.g. parsing
+   * the text files when the precompiled index is used, takes no time.
+   */
+  public enum Phase {
+    /**
+     * Finding and opening the data files on the class path.
+     */
+    RESOLVE,
+    /**
+     * Reading the precompiled index.
+     */
+    READ_INDEX,
+    /**
+     * Reading and parsing the dependency tree.
+     */
+    PARSE_DEPENDENCIES,
+    /**
+     * Reading and parsing the license file.
+     */
+    PARSE_LICENSES,
+    /**
+     * Mapping the licenses onto the dependency hierarchy.
+     */
+    JOIN_LICENSES
+  }
+
+  /**
+   * The time spent in each phase, in nanoseconds. Phases that run in
+   * parallel are each counted in full.
+   */
+  private final Map<Phase, Long> phaseNanos;
+  /**
+   * Number of dependencies in the hierarchy, including the application.
+   */
+  private final int dependencyCount;
+  /**
+   * Number of distinct artifacts in the model.
+   */
+  private final int artifactCount;
+  /**
+   * Number of distinct licenses in the model.
+   */
+  private final int licenseCount;
+  /**
+   * Estimated heap retained by the model, in bytes.
+   */
+  private final long estimatedRetainedBytes;
+  /**
+   * Hit and miss counts of every cache, by cache name.
+   */
+  private final Map<String, CacheStatistics> caches;
+
+  /**
+   * Get the time spent in a phase.
+   *
+   * @param phase the phase
+   * @return the time in milliseconds
+   */
+  public double getPhaseMillis(Phase phase) {
+    return phaseNanos.get(phase) / 1e6;
+  }
+
+  /**
+   * Get the total time spent loading, the sum of all phases.
+   *
+   * @return the time in milliseconds
+   */
+  public double getLoadMillis() {
+    long nanos = 0;
+    for (long n : phaseNanos.values()) {
+      nanos += n;
+    }
+    return nanos / 1e6;
+  }
+
+  /**
+   * Register the MBean of the shared instance's metrics with the platform
+   * MBean server, unless it is already registered. Each attribute read
+   * takes a new snapshot of {@link AppMetadata#getSharedInstance()}, so the
+   * MBean follows reloads.
+   *
+   * @return the object name of the MBean
+   * @throws JMException if the MBean cannot be registered
+   */
+  public static ObjectName registerMBean() throws JMException {
+    ObjectName name = new ObjectName(OBJECT_NAME);
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(new SharedMetrics(), name);
+    } catch (InstanceAlreadyExistsException e) {
+      /**
+       * Registered earlier.
+       */
+    }
+    return name;
+  }
+
+  /**
+   * Unregister the MBean of the shared instance's metrics, if it is
+   * registered.
+   *
+   * @throws JMException if the MBean cannot be unregistered
+   */
+  public static void unregisterMBean() throws JMException {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      server.unregisterMBean(new ObjectName(OBJECT_NAME));
+    } catch (InstanceNotFoundException e) {
+      /**
+       * Not registered.
+       */
+    }
+  }
+
+  /**
+   * The MBean of the shared instance's metrics.
+   */
+  private static final class SharedMetrics implements MetadataMetricsMXBean {
+
+    private static MetadataMetrics metrics() {
+      try {
+        return AppMetadata.getSharedInstance().getMetrics();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public double getLoadMillis() {
+      return metrics().getLoadMillis();
+    }
+
+    @Override
+    public double getResolveMillis() {
+      return metrics().getPhaseMillis(Phase.RESOLVE);
+    }
+
+    @Override
+    public double getIndexReadMillis() {
+      return metrics().getPhaseMillis(Phase.READ_INDEX);
+    }
+
+    @Override
+    public double getDependencyParseMillis() {
+      return metrics().getPhaseMillis(Phase.PARSE_DEPENDENCIES);
+    }
+
+    @Override
+    public double getLicenseParseMillis() {
+      return metrics().getPhaseMillis(Phase.PARSE_LICENSES);
+    }
+
+    @Override
+    public double getLicenseJoinMillis() {
+      return metrics().getPhaseMillis(Phase.JOIN_LICENSES);
+    }
+
+    @Override
+    public int getDependencyCount() {
+      return metrics().getDependencyCount();
+    }
+
+    @Override
+    public int getArtifactCount() {
+      return metrics().getArtifactCount();
+    }
+
+    @Override
+    public int getLicenseCount() {
+      return metrics().getLicenseCount();
+    }
+
+    @Override
+    public long getEstimatedRetainedBytes() {
+      return metrics().getEstimatedRetainedBytes();
+    }
+
+    @Override
+    public Map<String, Long> getCacheHits() {
+      Map<String, Long> hits = new TreeMap<>();
+      CacheCounter.getStatistics().forEach((name, statistics) -> hits.put(name, statistics.getHits()));
+      return hits;
+    }
+
+    @Override
+    public Map<String, Long> getCacheMisses() {
+      Map<String, Long> misses = new TreeMap<>();
+      CacheCounter.getStatistics().forEach((name, statistics) -> misses.put(name, statistics.getMisses()));
+      return misses;
+    }
+  }
+}
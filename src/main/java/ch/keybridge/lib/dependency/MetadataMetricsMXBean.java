@@ -0,0 +1,48 @@
+package ch.keybridge.lib.dependency;
+
+import java.util.Map;
+
+/**
+ * The JMX view of the metrics of the shared {@link AppMetadata} instance,
+ * registered by {@link MetadataMetrics#registerMBean()}. Times are in
+ * milliseconds.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public interface MetadataMetricsMXBean {
+
+  double getLoadMillis();
+
+  double getResolveMillis();
+
+  double getIndexReadMillis();
+
+  double getDependencyParseMillis();
+
+  double getLicenseParseMillis();
+
+  double getLicenseJoinMillis();
+
+  int getDependencyCount();
+
+  int getArtifactCount();
+
+  int getLicenseCount();
+
+  long getEstimatedRetainedBytes();
+
+  /**
+   * Get the hit counts of the library's caches.
+   *
+   * @return hits by cache name
+   */
+  Map<String, Long> getCacheHits();
+
+  /**
+   * Get the miss counts of the library's caches.
+   *
+   * @return misses by cache name
+   */
+  Map<String, Long> getCacheMisses();
+}
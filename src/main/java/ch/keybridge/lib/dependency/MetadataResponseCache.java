@@ -0,0 +1,290 @@
+package ch.keybridge.lib.dependency;
+
+import ch.keybridge.lib.dependency.io.DependencyFormat;
+import ch.keybridge.lib.dependency.io.DependencyWriter;
+import ch.keybridge.lib.dependency.io.LicenseFormat;
+import ch.keybridge.lib.dependency.io.LicenseWriter;
+import ch.keybridge.lib.dependency.util.CacheCounter;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-rendered responses for serving application metadata over HTTP.
+ * <p>
+ * The metadata does not change for the life of an AppMetadata instance, so
+ * every format is serialized once, on first request, and kept as UTF-8
+ * bytes together with a strong ETag derived from the SHA-256 hash of the
+ * content. Serving a response is then a single write of a byte array:
+ * <pre>
+ * MetadataResponseCache.Response response = cache.getDependencies(DependencyFormat.JSON);
+ * if (response.matches(request.getHeader("If-None-Match"))) {
+ *   // 304 Not Modified
+ * }
+ * httpResponse.setContentType(response.getContentType());
+ * httpResponse.setHeader("ETag", response.getETag());
+ * response.writeTo(httpResponse.getOutputStream());
+ * </pre>
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class MetadataResponseCache {
+
+  private static final CacheCounter COUNTER = CacheCounter.of("metadata-response");
+  private final AppMetadata metadata;
+  /**
+   * Whether to gzip every response when it is rendered, rather than on the
+   * first gzip request.
+   */
+  private final boolean gzip;
+  /**
+   * Rendered responses by DependencyFormat or LicenseFormat.
+   */
+  private final ConcurrentMap<Enum<?>, Response> responses = new ConcurrentHashMap<>();
+
+  /**
+   * Create a response cache.
+   *
+   * @param metadata the metadata to render
+   * @param gzip     true to also compress every response as soon as it is
+   *                 rendered; otherwise the compressed form is built on
+   *                 first use
+   */
+  public MetadataResponseCache(AppMetadata metadata, boolean gzip) {
+    this.metadata = metadata;
+    this.gzip = gzip;
+  }
+
+  /**
+   * Get the dependency hierarchy rendered in a format.
+   *
+   * @param format the format
+   * @return the rendered response
+   */
+  public Response getDependencies(DependencyFormat format) {
+    Response response = lookup(format);
+    if (response != null) {
+      return response;
+    }
+    return responses.computeIfAbsent(format, f -> render(contentType(format),
+                                                         out -> DependencyWriter.write(metadata.getDependencyHierarchy(), format, out)));
+  }
+
+  /**
+   * Get the licenses rendered in a format.
+   *
+   * @param format the format
+   * @return the rendered response
+   */
+  public Response getLicenses(LicenseFormat format) {
+    Response response = lookup(format);
+    if (response != null) {
+      return response;
+    }
+    return responses.computeIfAbsent(format, f -> render(format == LicenseFormat.JSON ? "application/json" : "text/csv; charset=UTF-8",
+                                                         out -> LicenseWriter.write(metadata.getLicenses(), format, out)));
+  }
+
+  /**
+   * Get a rendered response, counting the lookup.
+   */
+  private Response lookup(Enum<?> format) {
+    Response response = responses.get(format);
+    if (response == null) {
+      COUNTER.miss();
+    } else {
+      COUNTER.hit();
+    }
+    return response;
+  }
+
+  private static String contentType(DependencyFormat format) {
+    switch (format) {
+      case JSON:
+        return "application/json";
+      case DOT:
+        return "text/vnd.graphviz; charset=UTF-8";
+      case CSV:
+        return "text/csv; charset=UTF-8";
+      default:
+        return "text/plain; charset=UTF-8";
+    }
+  }
+
+  /**
+   * Render content into a response.
+   */
+  private Response render(String contentType, Renderer renderer) {
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+      try (Writer writer = new BufferedWriter(new OutputStreamWriter(bytes, StandardCharsets.UTF_8), 8192)) {
+        renderer.render(writer);
+      }
+      Response response = new Response(contentType, bytes.toByteArray());
+      if (gzip) {
+        response.getGzipContent();
+      }
+      return response;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Writes content.
+   */
+  @FunctionalInterface
+  private interface Renderer {
+
+    void render(Appendable out) throws IOException;
+  }
+
+  /**
+   * A rendered response: its content, optionally gzip-compressed, and the
+   * HTTP headers that describe it.
+   */
+  public static final class Response {
+
+    private final String contentType;
+    private final byte[] content;
+    private final String etag;
+    private volatile byte[] gzipContent;
+
+    Response(String contentType, byte[] content) {
+      this.contentType = contentType;
+      this.content = content;
+      this.etag = Base64.getUrlEncoder().withoutPadding().encodeToString(sha256(content));
+    }
+
+    /**
+     * Get the value of the Content-Type header.
+     *
+     * @return the content type
+     */
+    public String getContentType() {
+      return contentType;
+    }
+
+    /**
+     * Get the value of the ETag header for the uncompressed content.
+     *
+     * @return a quoted strong entity tag
+     */
+    public String getETag() {
+      return '"' + etag + '"';
+    }
+
+    /**
+     * Get the value of the ETag header for the gzip-compressed content, which
+     * is a different representation of the same content.
+     *
+     * @return a quoted strong entity tag
+     */
+    public String getGzipETag() {
+      return '"' + etag + "-gzip\"";
+    }
+
+    /**
+     * Test whether an If-None-Match header matches this response, in either
+     * encoding. Weak tags are compared by value, as the header requires.
+     *
+     * @param ifNoneMatch the header value, may be null
+     * @return true if the client already has this content
+     */
+    public boolean matches(String ifNoneMatch) {
+      if (ifNoneMatch == null) {
+        return false;
+      }
+      for (String tag : ifNoneMatch.split(",")) {
+        tag = tag.trim();
+        if (tag.startsWith("W/")) {
+          tag = tag.substring(2);
+        }
+        if (tag.equals("*") || tag.equals(getETag()) || tag.equals(getGzipETag())) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Get the length of the uncompressed content.
+     *
+     * @return the value of the Content-Length header
+     */
+    public int getContentLength() {
+      return content.length;
+    }
+
+    /**
+     * Get the length of the gzip-compressed content, compressing it if that
+     * has not been done yet.
+     *
+     * @return the value of the Content-Length header
+     */
+    public int getGzipContentLength() {
+      return getGzipContent().length;
+    }
+
+    /**
+     * Write the uncompressed content.
+     *
+     * @param out output; not closed
+     * @throws IOException in case of failure to write to the output.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+      out.write(content);
+    }
+
+    /**
+     * Write the gzip-compressed content, compressing it if that has not been
+     * done yet.
+     *
+     * @param out output; not closed
+     * @throws IOException in case of failure to write to the output.
+     */
+    public void writeGzipTo(OutputStream out) throws IOException {
+      out.write(getGzipContent());
+    }
+
+    private byte[] getGzipContent() {
+      byte[] result = gzipContent;
+      if (result == null) {
+        synchronized (this) {
+          result = gzipContent;
+          if (result == null) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(content.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(bytes, 8192)) {
+              gzip.write(content);
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+            result = bytes.toByteArray();
+            gzipContent = result;
+          }
+        }
+      }
+      return result;
+    }
+
+    private static byte[] sha256(byte[] content) {
+      try {
+        return MessageDigest.getInstance("SHA-256").digest(content);
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException("SHA-256 is not available", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package ch.keybridge.lib.dependency;
+
+import ch.keybridge.lib.dependency.io.DependencyReader;
+import ch.keybridge.lib.dependency.io.LicenseReader;
+import ch.keybridge.lib.dependency.model.InternPool;
+import ch.keybridge.lib.dependency.model.License;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The metadata of many applications at once, e.g. of every application
+ * deployed in a fleet, held in one shared store.
+ * <p>
+ * Applications built on the same libraries repeat the same artifacts,
+ * licenses and whole subtrees of dependencies. Every application added to
+ * the store is canonicalized through one {@link InternPool}: artifacts,
+ * licenses and license lists are held once, equal subtrees are the same
+ * instance in every application that contains them, and the license map of
+ * an application is a view of the licenses in the pool. Memory therefore
+ * grows with the number of distinct artifacts and subtrees rather than with
+ * the number of applications, and comparing two applications' subtrees is
+ * mostly an identity check.
+ * <p>
+ * A store is thread-safe. Applications may be added, replaced and removed
+ * concurrently with each other and with readers; the pool and the
+ * application table are concurrent hash maps, so ingestion locks at most
+ * one bin at a time and lookups take no lock. Removing an application does
+ * not release the canonical instances it shared with the pool.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class MetadataStore {
+
+  private final InternPool pool = new InternPool();
+  private final ConcurrentMap<MavenArtifact, AppMetadata> applications = new ConcurrentHashMap<>();
+
+  /**
+   * Add the metadata of an application, replacing any earlier metadata of
+   * the same application artifact. The license contents of the stored
+   * metadata cannot be opened.
+   *
+   * @param hierarchy the dependency hierarchy
+   * @param licenses  the licenses of the artifacts in the hierarchy
+   * @return the stored metadata, which references canonical instances only
+   */
+  public AppMetadata add(MavenDependency hierarchy, Map<MavenArtifact, List<License>> licenses) {
+    return add(hierarchy, licenses, null);
+  }
+
+  /**
+   * Add the metadata of an application, replacing any earlier metadata of
+   * the same application artifact.
+   *
+   * @param hierarchy the dependency hierarchy
+   * @param licenses  the licenses of the artifacts in the hierarchy
+   * @param directory the META-INF/build directory of the application, which
+   *                  holds its license contents; null if they are not
+   *                  available
+   * @return the stored metadata, which references canonical instances only
+   */
+  public AppMetadata add(MavenDependency hierarchy, Map<MavenArtifact, List<License>> licenses, URL directory) {
+    MavenDependency canonical = pool.intern(hierarchy);
+    AppMetadata metadata = new AppMetadata(canonical, pool.licenses(canonical, licenses), directory);
+    applications.put(canonical.getArtifact(), metadata);
+    return metadata;
+  }
+
+  /**
+   * Read and add the metadata of an application, replacing any earlier
+   * metadata of the same application artifact. The license contents of the
+   * stored metadata cannot be opened.
+   *
+   * @param dependencyTree the dependency:tree output; not closed
+   * @param licenses       the license file; not closed; null if the
+   *                       application has none
+   * @return the stored metadata
+   * @throws IOException in case of failure to read either stream
+   */
+  public AppMetadata read(InputStream dependencyTree, InputStream licenses) throws IOException {
+    return read(dependencyTree, licenses, null);
+  }
+
+  /**
+   * Read and add the metadata of an application, replacing any earlier
+   * metadata of the same application artifact.
+   *
+   * @param dependencyTree the dependency:tree output; not closed
+   * @param licenses       the license file; not closed; null if the
+   *                       application has none
+   * @param directory      the META-INF/build directory of the application,
+   *                       which holds its license contents; null if they are
+   *                       not available
+   * @return the stored metadata
+   * @throws IOException in case of failure to read either stream
+   */
+  public AppMetadata read(InputStream dependencyTree, InputStream licenses, URL directory) throws IOException {
+    MavenDependency hierarchy = DependencyReader.parseDependencyHierarchy(dependencyTree, pool);
+    Map<MavenArtifact, List<License>> licenseMap = licenses == null
+                                                   ? Collections.emptyMap()
+                                                   : LicenseReader.mapLicenses(LicenseReader.read(new BufferedInputStream(licenses), pool), hierarchy);
+    return add(hierarchy, licenseMap, directory);
+  }
+
+  /**
+   * Get the metadata of an application.
+   *
+   * @param application the application artifact
+   * @return the metadata, or null if the application is not in the store
+   */
+  public AppMetadata get(MavenArtifact application) {
+    return applications.get(application);
+  }
+
+  /**
+   * Remove the metadata of an application.
+   *
+   * @param application the application artifact
+   * @return the removed metadata, or null if the application was not in the
+   *         store
+   */
+  public AppMetadata remove(MavenArtifact application) {
+    return applications.remove(application);
+  }
+
+  /**
+   * Get the metadata of every application in the store.
+   *
+   * @return unmodifiable live view of the metadata by application artifact
+   */
+  public Map<MavenArtifact, AppMetadata> getApplications() {
+    return Collections.unmodifiableMap(applications);
+  }
+
+  /**
+   * Get the pool of canonical instances shared by all applications, e.g. to
+   * read more metadata through it or to report its size.
+   *
+   * @return the shared pool
+   */
+  public InternPool getPool() {
+    return pool;
+  }
+}
@@ -0,0 +1,440 @@
+package ch.keybridge.lib.dependency;
+
+import ch.keybridge.lib.dependency.io.DependencyReader;
+import ch.keybridge.lib.dependency.io.LicenseReader;
+import ch.keybridge.lib.dependency.io.LicenseSummary;
+import ch.keybridge.lib.dependency.io.MetadataIndex;
+import ch.keybridge.lib.dependency.io.MetadataIndexReader;
+import ch.keybridge.lib.dependency.model.InternPool;
+import ch.keybridge.lib.dependency.model.License;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import ch.keybridge.lib.dependency.util.ResourceUtility;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the metadata of an exploded deployment up to date while it is
+ * rebuilt.
+ * <p>
+ * A watcher watches a META-INF/build directory with a {@link WatchService}.
+ * A rebuild writes several files in quick succession, so events are
+ * debounced: the directory is checked once no event has arrived for the
+ * debounce interval. Each data file is then compared with the fingerprint
+ * of the last load: a file whose size and modification time are unchanged
+ * is skipped, and a file that was rewritten with the same content, as its
+ * SHA-256 hash shows, is not parsed again. Only the sections whose files
+ * changed are re-parsed; the other sections of the previous snapshot are
+ * reused.
+ * <p>
+ * The precompiled index is preferred as long as it is up to date. A rebuild
+ * that regenerates the dependency tree or the license file without the
+ * index leaves it older than them; the text files are then read until the
+ * index is written again.
+ * <p>
+ * Each reload builds a complete new {@link AppMetadata} and publishes it
+ * with a single volatile write, so {@link #getMetadata()} never blocks and
+ * never returns a partially loaded snapshot. A reload that fails, e.g.
+ * because a file is still being written, keeps the previous snapshot and is
+ * retried on the next event.
+ * <pre>
+ * try (MetadataWatcher watcher = MetadataWatcher.watchShared()) {
+ *   // AppMetadata.getSharedInstance() follows every rebuild
+ * }
+ * </pre>
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class MetadataWatcher implements Closeable {
+
+  /**
+   * The default quiet period before a change is loaded, in milliseconds.
+   */
+  public static final long DEFAULT_DEBOUNCE_MILLIS = 250;
+
+  private static final String DEPENDENCY_NAME = AppMetadata.fileName(AppMetadata.DEPENDENCY_FILE);
+  private static final String LICENSE_NAME = AppMetadata.fileName(AppMetadata.LICENSE_FILE);
+  private static final String INDEX_NAME = AppMetadata.fileName(AppMetadata.INDEX_FILE);
+
+  private final Path directory;
+  /**
+   * The URL of the directory, against which license contents are resolved.
+   */
+  private final URL location;
+  private final long debounceMillis;
+  /**
+   * Called with every new snapshot, on the thread that loaded it.
+   */
+  private final Consumer<AppMetadata> listener;
+  private final WatchService watchService;
+  private final Thread thread;
+  /**
+   * The published snapshot.
+   */
+  private volatile AppMetadata metadata;
+  private volatile int reloadCount;
+  /**
+   * The failure of the last reload, or null if it succeeded.
+   */
+  private volatile Exception lastFailure;
+  /**
+   * The state of the last successful load, guarded by this watcher.
+   */
+  private Fingerprint dependencyFingerprint;
+  private Fingerprint licenseFingerprint;
+  private Fingerprint indexFingerprint;
+  private MavenDependency hierarchy;
+  private LicenseSummary licenseSummary;
+
+  private MetadataWatcher(Path directory, long debounceMillis, Consumer<AppMetadata> listener) throws IOException {
+    this.directory = directory;
+    this.location = directory.toUri().toURL();
+    this.debounceMillis = debounceMillis;
+    this.listener = listener;
+    /**
+     * Register before the initial load so that a change written in between is
+     * not missed.
+     */
+    this.watchService = directory.getFileSystem().newWatchService();
+    if (!register()) {
+      watchService.close();
+      throw new IOException("Unable to watch " + directory);
+    }
+    if (!refresh()) {
+      watchService.close();
+      throw new IOException("Unable to read the metadata in " + directory, lastFailure);
+    }
+    this.thread = new Thread(this::run, "metadata-watcher-" + directory.getFileName());
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Load the metadata in a directory and watch it for changes.
+   *
+   * @param directory the META-INF/build directory of an exploded deployment
+   * @return the running watcher
+   * @throws IOException if the metadata cannot be read or the directory
+   *                     cannot be watched
+   */
+  public static MetadataWatcher watch(Path directory) throws IOException {
+    return watch(directory, DEFAULT_DEBOUNCE_MILLIS);
+  }
+
+  /**
+   * Load the metadata in a directory and watch it for changes.
+   *
+   * @param directory      the META-INF/build directory of an exploded
+   *                       deployment
+   * @param debounceMillis the quiet period after the last change event
+   *                       before the directory is checked
+   * @return the running watcher
+   * @throws IOException if the metadata cannot be read or the directory
+   *                     cannot be watched
+   */
+  public static MetadataWatcher watch(Path directory, long debounceMillis) throws IOException {
+    return new MetadataWatcher(directory, debounceMillis, null);
+  }
+
+  /**
+   * Watch the META-INF/build directory on the class path and publish every
+   * new snapshot as the {@link AppMetadata#getSharedInstance() shared
+   * instance}.
+   *
+   * @return the running watcher
+   * @throws IOException if the metadata is not in a directory, e.g. because
+   *                     the application runs from an archive, or cannot be
+   *                     read
+   */
+  public static MetadataWatcher watchShared() throws IOException {
+    Path file = ResourceUtility.getResourcePath(AppMetadata.DEPENDENCY_FILE);
+    if (file.getFileSystem() != FileSystems.getDefault()) {
+      throw new IOException("Not an exploded deployment: " + file.toUri());
+    }
+    return new MetadataWatcher(file.getParent(), DEFAULT_DEBOUNCE_MILLIS, AppMetadata::replaceSharedInstance);
+  }
+
+  /**
+   * Get the current snapshot. Never blocks.
+   *
+   * @return the metadata as of the last successful load
+   */
+  public AppMetadata getMetadata() {
+    return metadata;
+  }
+
+  /**
+   * Get the number of snapshots published since the watcher started,
+   * including the first.
+   *
+   * @return reload count
+   */
+  public int getReloadCount() {
+    return reloadCount;
+  }
+
+  /**
+   * Get the reason the last reload failed, while the previous snapshot is
+   * still published.
+   *
+   * @return the failure, or null if the last reload succeeded
+   */
+  public Exception getLastFailure() {
+    return lastFailure;
+  }
+
+  /**
+   * Check the data files now, without waiting for a change event, and load
+   * any that changed.
+   *
+   * @return true if the current snapshot reflects the files, i.e. nothing
+   *         changed or the changes were loaded; false if loading failed and
+   *         the previous snapshot was kept
+   */
+  public synchronized boolean refresh() {
+    try {
+      load();
+      lastFailure = null;
+      return true;
+    } catch (IOException | RuntimeException e) {
+      lastFailure = e;
+      return false;
+    }
+  }
+
+  /**
+   * Load the files that changed since the last successful load, preferring
+   * the precompiled index as AppMetadata does unless it is older than a text
+   * file, and publish a new snapshot if any did.
+   */
+  private void load() throws IOException {
+    long indexModified = lastModified(INDEX_NAME);
+    boolean stale = indexModified < Math.max(lastModified(DEPENDENCY_NAME), lastModified(LICENSE_NAME));
+    Fingerprint index = stale ? null : fingerprint(INDEX_NAME, indexFingerprint);
+    if (index != null) {
+      if (index != indexFingerprint) {
+        MetadataIndex content = MetadataIndexReader.read(ByteBuffer.wrap(index.content));
+        publish(content.getDependencyHierarchy(), content.getLicenses());
+        indexFingerprint = index.release();
+        dependencyFingerprint = null;
+        licenseFingerprint = null;
+        hierarchy = null;
+        licenseSummary = null;
+      }
+      return;
+    }
+    Fingerprint dependencies = fingerprint(DEPENDENCY_NAME, dependencyFingerprint);
+    if (dependencies == null) {
+      throw new NoSuchFileException(directory.resolve(DEPENDENCY_NAME).toString());
+    }
+    Fingerprint licenses = fingerprint(LICENSE_NAME, licenseFingerprint);
+    boolean dependenciesChanged = dependencies != dependencyFingerprint;
+    boolean licensesChanged = licenses != licenseFingerprint;
+    if (!dependenciesChanged && !licensesChanged) {
+      return;
+    }
+    /**
+     * Re-parse only the changed files. The license mapping depends on both
+     * sections, so it is redone when either changed.
+     */
+    InternPool pool = new InternPool();
+    MavenDependency newHierarchy = hierarchy;
+    if (dependenciesChanged) {
+      newHierarchy = DependencyReader.parseDependencyHierarchy(new ByteArrayInputStream(dependencies.content), pool);
+    }
+    LicenseSummary newSummary = licenseSummary;
+    if (licenses != null && licensesChanged) {
+      newSummary = LicenseReader.read(new ByteArrayInputStream(licenses.content), pool);
+    }
+    publish(newHierarchy, newSummary == null || licenses == null
+                          ? Collections.emptyMap()
+                          : LicenseReader.mapLicenses(newSummary, newHierarchy));
+    hierarchy = newHierarchy;
+    licenseSummary = licenses == null ? null : newSummary;
+    dependencyFingerprint = dependencies.release();
+    licenseFingerprint = licenses == null ? null : licenses.release();
+    indexFingerprint = null;
+  }
+
+  /**
+   * Stop watching. The last snapshot remains available.
+   *
+   * @throws IOException if the watch service cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    thread.interrupt();
+    watchService.close();
+  }
+
+  private void publish(MavenDependency newHierarchy, Map<MavenArtifact, List<License>> licenses) {
+    AppMetadata snapshot = new AppMetadata(newHierarchy, licenses, location);
+    metadata = snapshot;
+    reloadCount++;
+    if (listener != null) {
+      listener.accept(snapshot);
+    }
+  }
+
+  /**
+   * Wait for events, debounce them, and refresh. When the directory itself
+   * is deleted, e.g. by a clean build, wait for it to be created again.
+   */
+  private void run() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        WatchKey key = watchService.take();
+        boolean relevant = false;
+        boolean valid = true;
+        while (key != null) {
+          relevant |= isRelevant(key);
+          valid &= key.reset();
+          key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+        }
+        while (!valid) {
+          Thread.sleep(debounceMillis);
+          valid = Files.isDirectory(directory) && register();
+          relevant = true;
+        }
+        if (relevant) {
+          refresh();
+        }
+      }
+    } catch (InterruptedException | ClosedWatchServiceException e) {
+      /**
+       * Closed.
+       */
+    }
+  }
+
+  private boolean register() throws ClosedWatchServiceException {
+    try {
+      directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                         StandardWatchEventKinds.ENTRY_DELETE);
+      return true;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private static boolean isRelevant(WatchKey key) {
+    boolean relevant = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+        relevant = true;
+      } else {
+        String name = event.context().toString();
+        relevant |= name.equals(DEPENDENCY_NAME) || name.equals(LICENSE_NAME) || name.equals(INDEX_NAME);
+      }
+    }
+    return relevant;
+  }
+
+  /**
+   * Fingerprint a data file.
+   *
+   * @param name     the file name
+   * @param previous the fingerprint of the last load, may be null
+   * @return the previous fingerprint if the content is unchanged, a new
+   *         fingerprint holding the content if it changed, or null if the
+   *         file does not exist
+   */
+  private Fingerprint fingerprint(String name, Fingerprint previous) throws IOException {
+    Path file = directory.resolve(name);
+    BasicFileAttributes attributes;
+    try {
+      attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    } catch (NoSuchFileException e) {
+      return null;
+    }
+    long size = attributes.size();
+    long modified = attributes.lastModifiedTime().toMillis();
+    if (previous != null && previous.size == size && previous.modified == modified) {
+      return previous;
+    }
+    byte[] content = Files.readAllBytes(file);
+    byte[] hash = sha256(content);
+    if (previous != null && Arrays.equals(previous.hash, hash)) {
+      /**
+       * Rewritten with the same content: remember the new attributes so the
+       * file is not hashed again.
+       */
+      previous.size = content.length;
+      previous.modified = modified;
+      return previous;
+    }
+    return new Fingerprint(content.length, modified, hash, content);
+  }
+
+  /**
+   * Get the modification time of a data file.
+   *
+   * @param name the file name
+   * @return the modification time in milliseconds, or -1 if the file does
+   *         not exist
+   */
+  private long lastModified(String name) throws IOException {
+    try {
+      return Files.getLastModifiedTime(directory.resolve(name)).toMillis();
+    } catch (NoSuchFileException e) {
+      return -1;
+    }
+  }
+
+  private static byte[] sha256(byte[] content) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(content);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /**
+   * The size, modification time and hash of a data file as last loaded, and
+   * its content until it is parsed.
+   */
+  private static final class Fingerprint {
+
+    private long size;
+    private long modified;
+    private final byte[] hash;
+    private byte[] content;
+
+    Fingerprint(long size, long modified, byte[] hash, byte[] content) {
+      this.size = size;
+      this.modified = modified;
+      this.hash = hash;
+      this.content = content;
+    }
+
+    /**
+     * Drop the content once it has been parsed.
+     */
+    Fingerprint release() {
+      content = null;
+      return this;
+    }
+  }
+}
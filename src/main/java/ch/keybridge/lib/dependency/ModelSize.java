@@ -0,0 +1,170 @@
+package ch.keybridge.lib.dependency;
+
+import ch.keybridge.lib.dependency.model.InternPool;
+import ch.keybridge.lib.dependency.model.License;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The size of a loaded metadata model: its counts and an estimate of the
+ * heap it retains.
+ * <p>
+ * The estimate counts every distinct object of the model once, by identity,
+ * so canonical instances shared through an InternPool are not counted twice,
+ * and adds the tables of the pool itself.
+ * Object sizes assume a 64-bit JVM with compressed references and 8-byte
+ * alignment, the default for heaps below 32 GB. Derived structures built on
+ * demand, such as indexes and rendered responses, are not included.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+final class ModelSize {
+
+  private static final int HEADER = 12;
+  private static final int REFERENCE = 4;
+  private static final int ARRAY_HEADER = 16;
+  /**
+   * Java 8 strings hold a char array; later versions hold Latin-1 strings in
+   * a byte array.
+   */
+  private static final int BYTES_PER_CHAR = System.getProperty("java.specification.version").startsWith("1.") ? 2 : 1;
+
+  /**
+   * Number of dependencies in the hierarchy, including the root.
+   */
+  final int dependencyCount;
+  /**
+   * Number of distinct artifacts.
+   */
+  final int artifactCount;
+  /**
+   * Number of distinct licenses.
+   */
+  final int licenseCount;
+  /**
+   * Estimated bytes retained by the model.
+   */
+  final long retainedBytes;
+
+  private final Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+  private long bytes;
+
+  private ModelSize(MavenDependency hierarchy, Map<MavenArtifact, List<License>> licenses, InternPool pool) {
+    int dependencies = 0;
+    int artifacts = 0;
+    Deque<MavenDependency> stack = new ArrayDeque<>();
+    stack.push(hierarchy);
+    while (!stack.isEmpty()) {
+      MavenDependency dependency = stack.pop();
+      dependencies++;
+      for (MavenDependency child : dependency.getTransitiveDependencies()) {
+        stack.push(child);
+      }
+      if (!seen.add(dependency)) {
+        continue;
+      }
+      /**
+       * Header, artifact, scope, list, content hash, size, flattened cache.
+       */
+      bytes += align(HEADER + 3 * REFERENCE + 8 + 4 + REFERENCE);
+      bytes += list(dependency.getTransitiveDependencies().size());
+      if (addArtifact(dependency.getArtifact())) {
+        artifacts++;
+      }
+    }
+    int distinctLicenses = 0;
+    bytes += align(HEADER + 44) + array(licenses.size() * 4 / 3 + 1);
+    for (Map.Entry<MavenArtifact, List<License>> entry : licenses.entrySet()) {
+      bytes += align(HEADER + 4 + 5 * REFERENCE);
+      if (addArtifact(entry.getKey())) {
+        artifacts++;
+      }
+      if (seen.add(entry.getValue())) {
+        bytes += align(HEADER + 2 * REFERENCE) + list(entry.getValue().size());
+        for (License license : entry.getValue()) {
+          if (seen.add(license)) {
+            distinctLicenses++;
+            bytes += align(HEADER + 5 * REFERENCE + 4);
+            bytes += string(license.getName()) + string(license.getUrl())
+              + string(license.getDistribution()) + string(license.getFile());
+          }
+        }
+      }
+    }
+    /**
+     * A concurrent hash map node and its share of the table per pooled
+     * value.
+     */
+    bytes += (long) (pool.getStringCount() + pool.getArtifactCount() + pool.getLicenseCount()
+                     + pool.getDependencyCount()) * (align(HEADER + 3 * REFERENCE + 4) + 2 * REFERENCE);
+    this.dependencyCount = dependencies;
+    this.artifactCount = artifacts;
+    this.licenseCount = distinctLicenses;
+    this.retainedBytes = bytes;
+    seen.clear();
+  }
+
+  /**
+   * Measure a model.
+   *
+   * @param hierarchy the dependency hierarchy
+   * @param licenses  the licenses of the artifacts in the hierarchy
+   * @param pool      the pool the model was read through and that it keeps
+   * @return the counts and estimated size
+   */
+  static ModelSize measure(MavenDependency hierarchy, Map<MavenArtifact, List<License>> licenses, InternPool pool) {
+    return new ModelSize(hierarchy, licenses, pool);
+  }
+
+  /**
+   * Count an artifact and its strings, unless already counted.
+   *
+   * @return true if the artifact was not seen before
+   */
+  private boolean addArtifact(MavenArtifact artifact) {
+    if (artifact == null || !seen.add(artifact)) {
+      return false;
+    }
+    /**
+     * Header, four strings, hash, content hash.
+     */
+    bytes += align(HEADER + 4 * REFERENCE + 4 + 8);
+    bytes += string(artifact.getGroupId()) + string(artifact.getArtifactId())
+      + string(artifact.getPackaging()) + string(artifact.getVersion());
+    return true;
+  }
+
+  /**
+   * The size of a string and its characters, unless already counted.
+   */
+  private long string(String value) {
+    if (value == null || !seen.add(value)) {
+      return 0;
+    }
+    return align(HEADER + REFERENCE + 4 + 4) + align(ARRAY_HEADER + (long) BYTES_PER_CHAR * value.length());
+  }
+
+  /**
+   * The size of a list object and its backing array; empty lists are
+   * shared.
+   */
+  private static long list(int size) {
+    return size == 0 ? 0 : align(HEADER + 2 * REFERENCE + 4) + array(size);
+  }
+
+  private static long array(int length) {
+    return align(ARRAY_HEADER + (long) REFERENCE * length);
+  }
+
+  private static long align(long size) {
+    return (size + 7) & ~7L;
+  }
+}
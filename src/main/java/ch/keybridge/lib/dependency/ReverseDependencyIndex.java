@@ -0,0 +1,242 @@
+package ch.keybridge.lib.dependency;
+
+import ch.keybridge.lib.dependency.analysis.DependencyPath;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import java.util.*;
+
+/**
+ * Upward links through a dependency hierarchy, to answer which dependencies
+ * bring in an artifact.
+ * <p>
+ * Dependencies only link to their transitive dependencies, and a frozen
+ * subtree may occur in several places, so the parent links are kept here
+ * rather than on the dependencies. Every occurrence of a dependency in the
+ * hierarchy is recorded once, with a link to the occurrence of its parent
+ * and the position of the direct dependency it descends from. Lookups then
+ * start at the occurrences of the artifact and walk up, so they cost time
+ * proportional to the size of the answer, not of the hierarchy.
+ * <p>
+ * The index is built once, in a single traversal, and is immutable and
+ * thread-safe afterwards. Use {@link AppMetadata#getReverseIndex()} to get
+ * the index of the application.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class ReverseDependencyIndex {
+
+  private final MavenDependency hierarchy;
+  /**
+   * The last occurrence of every artifact; earlier ones are chained through
+   * {@link Occurrence#previous}.
+   */
+  private final Map<MavenArtifact, Occurrence> byArtifact;
+  /**
+   * The versions of every groupId and artifactId.
+   */
+  private final Map<String, Map<String, List<MavenArtifact>>> byGroupArtifact;
+
+  /**
+   * Build the reverse index of a dependency hierarchy.
+   *
+   * @param hierarchy the dependency hierarchy
+   */
+  public ReverseDependencyIndex(MavenDependency hierarchy) {
+    this.hierarchy = hierarchy;
+    this.byArtifact = new HashMap<>();
+    this.byGroupArtifact = new HashMap<>();
+    /**
+     * Pre-order traversal with an explicit stack, numbering occurrences in
+     * tree order. The occurrences of an artifact form a chain, so no list is
+     * allocated per artifact.
+     */
+    Deque<Occurrence> stack = new ArrayDeque<>();
+    stack.push(new Occurrence(hierarchy, null, -1));
+    int position = 0;
+    while (!stack.isEmpty()) {
+      Occurrence occurrence = stack.pop();
+      occurrence.position = position++;
+      MavenArtifact artifact = occurrence.dependency.getArtifact();
+      occurrence.previous = byArtifact.put(artifact, occurrence);
+      if (occurrence.previous == null) {
+        byGroupArtifact.computeIfAbsent(artifact.getGroupId(), g -> new HashMap<>(4))
+          .computeIfAbsent(artifact.getArtifactId(), a -> new ArrayList<>(1)).add(artifact);
+      }
+      List<MavenDependency> children = occurrence.dependency.getTransitiveDependencies();
+      for (int i = children.size() - 1; i >= 0; i--) {
+        stack.push(new Occurrence(children.get(i), occurrence, occurrence.parent == null ? i : occurrence.direct));
+      }
+    }
+  }
+
+  /**
+   * Get every path from the root to an artifact.
+   *
+   * @param artifact the artifact
+   * @return the paths in tree order; empty if the artifact does not occur
+   */
+  public List<DependencyPath> getPaths(MavenArtifact artifact) {
+    return paths(find(artifact));
+  }
+
+  /**
+   * Get every path from the root to an artifact in any version.
+   *
+   * @param groupId    the group id, e.g. org.glassfish.jersey.core
+   * @param artifactId the artifact id, e.g. jersey-client
+   * @return the paths in tree order; empty if the artifact does not occur
+   */
+  public List<DependencyPath> getPaths(String groupId, String artifactId) {
+    return paths(find(groupId, artifactId));
+  }
+
+  /**
+   * Get the dependencies that directly depend on an artifact.
+   *
+   * @param artifact the artifact
+   * @return the parent of every occurrence in tree order, once per
+   *         occurrence; empty if the artifact does not occur or is the root
+   */
+  public List<MavenDependency> getParents(MavenArtifact artifact) {
+    List<Occurrence> occurrences = find(artifact);
+    List<MavenDependency> parents = new ArrayList<>(occurrences.size());
+    for (Occurrence occurrence : occurrences) {
+      if (occurrence.parent != null) {
+        parents.add(occurrence.parent.dependency);
+      }
+    }
+    return parents;
+  }
+
+  /**
+   * Get the direct dependencies of the root that bring in an artifact,
+   * either because they are the artifact or because it is one of their
+   * transitive dependencies.
+   *
+   * @param artifact the artifact
+   * @return the distinct direct dependencies in declaration order; empty if
+   *         the artifact does not occur or is the root
+   */
+  public List<MavenDependency> getDirectDependencies(MavenArtifact artifact) {
+    return directDependencies(find(artifact));
+  }
+
+  /**
+   * Get the direct dependencies of the root that bring in an artifact in any
+   * version.
+   *
+   * @param groupId    the group id, e.g. org.glassfish.jersey.core
+   * @param artifactId the artifact id, e.g. jersey-client
+   * @return the distinct direct dependencies in declaration order; empty if
+   *         the artifact does not occur or is the root
+   */
+  public List<MavenDependency> getDirectDependencies(String groupId, String artifactId) {
+    return directDependencies(find(groupId, artifactId));
+  }
+
+  /**
+   * Get the occurrences of an artifact in tree order.
+   */
+  private List<Occurrence> find(MavenArtifact artifact) {
+    List<Occurrence> occurrences = new ArrayList<>();
+    for (Occurrence o = byArtifact.get(artifact); o != null; o = o.previous) {
+      occurrences.add(o);
+    }
+    Collections.reverse(occurrences);
+    return occurrences;
+  }
+
+  /**
+   * Get the occurrences of every version of an artifact in tree order.
+   */
+  private List<Occurrence> find(String groupId, String artifactId) {
+    Map<String, List<MavenArtifact>> artifacts = byGroupArtifact.get(groupId);
+    List<MavenArtifact> versions = artifacts == null ? null : artifacts.get(artifactId);
+    if (versions == null) {
+      return Collections.emptyList();
+    }
+    if (versions.size() == 1) {
+      return find(versions.get(0));
+    }
+    List<Occurrence> occurrences = new ArrayList<>();
+    for (MavenArtifact version : versions) {
+      for (Occurrence o = byArtifact.get(version); o != null; o = o.previous) {
+        occurrences.add(o);
+      }
+    }
+    occurrences.sort(Comparator.comparingInt(o -> o.position));
+    return occurrences;
+  }
+
+  private static List<DependencyPath> paths(List<Occurrence> occurrences) {
+    List<DependencyPath> paths = new ArrayList<>(occurrences.size());
+    Deque<MavenArtifact> artifacts = new ArrayDeque<>();
+    for (Occurrence occurrence : occurrences) {
+      for (Occurrence o = occurrence; o != null; o = o.parent) {
+        artifacts.push(o.dependency.getArtifact());
+      }
+      DependencyPath path = DependencyPath.of(artifacts.pop());
+      while (!artifacts.isEmpty()) {
+        path = path.child(artifacts.pop());
+      }
+      paths.add(path);
+    }
+    return paths;
+  }
+
+  private List<MavenDependency> directDependencies(List<Occurrence> occurrences) {
+    /**
+     * Sort the positions of the direct dependencies to remove duplicates and
+     * restore declaration order.
+     */
+    int[] positions = new int[occurrences.size()];
+    int count = 0;
+    for (Occurrence occurrence : occurrences) {
+      if (occurrence.direct >= 0) {
+        positions[count++] = occurrence.direct;
+      }
+    }
+    Arrays.sort(positions, 0, count);
+    List<MavenDependency> children = hierarchy.getTransitiveDependencies();
+    List<MavenDependency> result = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      if (i == 0 || positions[i] != positions[i - 1]) {
+        result.add(children.get(positions[i]));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * One place a dependency occurs in the hierarchy.
+   */
+  private static final class Occurrence {
+
+    private final MavenDependency dependency;
+    /**
+     * The occurrence of the parent; null for the root.
+     */
+    private final Occurrence parent;
+    /**
+     * The position of the direct dependency this occurrence descends from
+     * among the transitive dependencies of the root; -1 for the root.
+     */
+    private final int direct;
+    /**
+     * The position of this occurrence in tree order.
+     */
+    private int position;
+    /**
+     * The previous occurrence of the same artifact in tree order; null for
+     * the first.
+     */
+    private Occurrence previous;
+
+    Occurrence(MavenDependency dependency, Occurrence parent, int direct) {
+      this.dependency = dependency;
+      this.parent = parent;
+      this.direct = direct;
+    }
+  }
+}
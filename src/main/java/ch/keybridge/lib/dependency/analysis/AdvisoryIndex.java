@@ -0,0 +1,360 @@
+package ch.keybridge.lib.dependency.analysis;
+
+import ch.keybridge.lib.dependency.io.OsvReader;
+import ch.keybridge.lib.dependency.model.Advisory;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import ch.keybridge.lib.dependency.model.MavenVersion;
+import ch.keybridge.lib.dependency.util.CacheCounter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Security advisories indexed for matching against dependencies, offline.
+ * <p>
+ * Advisories are indexed by groupId and artifactId. For each artifact the
+ * exactly listed versions are kept in a hash map, and the affected version
+ * ranges in a static interval tree ordered by {@link MavenVersion}, so
+ * matching an artifact costs a hash lookup, and for affected artifacts one
+ * version parse and a tree search proportional to the log of the number of
+ * ranges plus the number of matches. Artifacts no advisory mentions are
+ * never parsed.
+ * <pre>
+ * AdvisoryIndex advisories = AdvisoryIndex.read(Paths.get("/var/lib/osv/maven.zip"));
+ * for (AdvisoryMatch match : advisories.match(AppMetadata.getInstance().getDependencyHierarchy())) {
+ *   System.out.println(match);
+ * }
+ * </pre>
+ * The index is immutable and thread-safe.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class AdvisoryIndex {
+
+  /**
+   * Indexes read from snapshots, by the normalized snapshot path.
+   */
+  private static final ConcurrentMap<Path, Snapshot> SNAPSHOTS = new ConcurrentHashMap<>();
+  private static final CacheCounter COUNTER = CacheCounter.of("advisory-snapshot");
+
+  private final Map<String, Map<String, Entry>> byGroupArtifact;
+  private final int size;
+
+  /**
+   * Index advisories.
+   *
+   * @param advisories the advisories
+   */
+  public AdvisoryIndex(Collection<Advisory> advisories) {
+    Map<String, Map<String, EntryBuilder>> builders = new HashMap<>();
+    for (Advisory advisory : advisories) {
+      for (Advisory.Affected affected : advisory.getAffected()) {
+        EntryBuilder builder = builders.computeIfAbsent(affected.getGroupId(), g -> new HashMap<>(4))
+          .computeIfAbsent(affected.getArtifactId(), a -> new EntryBuilder());
+        for (String version : affected.getVersions()) {
+          builder.versions.computeIfAbsent(version, v -> new ArrayList<>(1)).add(advisory);
+        }
+        for (Advisory.Range range : affected.getRanges()) {
+          builder.ranges.add(range);
+          builder.rangeAdvisories.add(advisory);
+        }
+      }
+    }
+    this.byGroupArtifact = new HashMap<>(builders.size() * 4 / 3 + 1);
+    builders.forEach((groupId, artifacts) -> {
+      Map<String, Entry> entries = new HashMap<>(artifacts.size() * 4 / 3 + 1);
+      artifacts.forEach((artifactId, builder) -> entries.put(artifactId, builder.build()));
+      byGroupArtifact.put(groupId, entries);
+    });
+    this.size = advisories.size();
+  }
+
+  /**
+   * Read and index the advisories of a local snapshot with
+   * {@link OsvReader}. The index is cached per snapshot and read again only
+   * when the size or modification time of the snapshot changes. For a
+   * directory snapshot that is when files are added or removed.
+   *
+   * @param snapshot a directory, ZIP archive or JSON file of OSV advisories
+   * @return the index
+   * @throws IOException on read or parse error
+   */
+  public static AdvisoryIndex read(Path snapshot) throws IOException {
+    Path key = snapshot.toAbsolutePath().normalize();
+    long modified = Files.getLastModifiedTime(key).toMillis();
+    long length = Files.size(key);
+    Snapshot cached = SNAPSHOTS.get(key);
+    if (cached != null && cached.modified == modified && cached.length == length) {
+      COUNTER.hit();
+      return cached.index;
+    }
+    COUNTER.miss();
+    AdvisoryIndex index = new AdvisoryIndex(OsvReader.read(key));
+    SNAPSHOTS.put(key, new Snapshot(modified, length, index));
+    return index;
+  }
+
+  /**
+   * Get the number of indexed advisories.
+   *
+   * @return the number of advisories
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Find the advisories that affect an artifact.
+   *
+   * @param artifact the artifact
+   * @return the advisories, each once; empty if none
+   */
+  public List<Advisory> match(MavenArtifact artifact) {
+    List<Advisory> advisories = new ArrayList<>();
+    match(artifact, advisories);
+    return advisories;
+  }
+
+  /**
+   * Find the advisories that affect any dependency of a hierarchy, in one
+   * pass over its distinct artifacts.
+   *
+   * @param hierarchy the dependency hierarchy
+   * @return the matches in order of the first occurrence of each artifact;
+   *         empty if none
+   */
+  public List<AdvisoryMatch> match(MavenDependency hierarchy) {
+    Set<MavenArtifact> artifacts = new LinkedHashSet<>();
+    Deque<MavenDependency> stack = new ArrayDeque<>();
+    stack.push(hierarchy);
+    while (!stack.isEmpty()) {
+      MavenDependency dependency = stack.pop();
+      artifacts.add(dependency.getArtifact());
+      List<MavenDependency> children = dependency.getTransitiveDependencies();
+      for (int i = children.size() - 1; i >= 0; i--) {
+        stack.push(children.get(i));
+      }
+    }
+    return match(artifacts);
+  }
+
+  /**
+   * Find the advisories that affect any of a collection of artifacts.
+   *
+   * @param artifacts the artifacts
+   * @return the matches in iteration order of the artifacts; empty if none
+   */
+  public List<AdvisoryMatch> match(Collection<MavenArtifact> artifacts) {
+    List<AdvisoryMatch> matches = new ArrayList<>();
+    List<Advisory> advisories = new ArrayList<>();
+    for (MavenArtifact artifact : artifacts) {
+      match(artifact, advisories);
+      for (Advisory advisory : advisories) {
+        matches.add(new AdvisoryMatch(artifact, advisory));
+      }
+      advisories.clear();
+    }
+    return matches;
+  }
+
+  /**
+   * Add the advisories that affect an artifact. An advisory can list a
+   * version and also cover it with a range; it is added once.
+   */
+  private void match(MavenArtifact artifact, List<Advisory> advisories) {
+    Map<String, Entry> artifacts = byGroupArtifact.get(artifact.getGroupId());
+    Entry entry = artifacts == null ? null : artifacts.get(artifact.getArtifactId());
+    if (entry == null || artifact.getVersion() == null) {
+      return;
+    }
+    List<Advisory> listed = entry.versions.get(artifact.getVersion());
+    if (listed != null) {
+      for (Advisory advisory : listed) {
+        addDistinct(advisories, advisory);
+      }
+    }
+    if (entry.intervals != null) {
+      entry.intervals.stab(artifact.getMavenVersion(), advisories);
+    }
+  }
+
+  /**
+   * Add an advisory unless the list has it. Advisories are compared by
+   * identity: lists are short, and value equality would hash every affected
+   * range.
+   */
+  private static void addDistinct(List<Advisory> advisories, Advisory advisory) {
+    for (Advisory a : advisories) {
+      if (a == advisory) {
+        return;
+      }
+    }
+    advisories.add(advisory);
+  }
+
+  /**
+   * The advisories of one groupId and artifactId.
+   */
+  private static final class Entry {
+
+    private final Map<String, List<Advisory>> versions;
+    /**
+     * The affected ranges; null if there are none.
+     */
+    private final Intervals intervals;
+
+    Entry(Map<String, List<Advisory>> versions, Intervals intervals) {
+      this.versions = versions;
+      this.intervals = intervals;
+    }
+  }
+
+  private static final class EntryBuilder {
+
+    private final Map<String, List<Advisory>> versions = new HashMap<>();
+    private final List<Advisory.Range> ranges = new ArrayList<>();
+    private final List<Advisory> rangeAdvisories = new ArrayList<>();
+
+    Entry build() {
+      return new Entry(versions.isEmpty() ? Collections.emptyMap() : versions,
+                       ranges.isEmpty() ? null : new Intervals(ranges, rangeAdvisories));
+    }
+  }
+
+  /**
+   * A static interval tree: intervals sorted by lower bound, with the
+   * implicit binary tree over the sorted array annotated with the interval
+   * that ends last in each subtree. A search skips every subtree that ends
+   * before the version and everything right of an interval that starts
+   * after it.
+   */
+  private static final class Intervals {
+
+    /**
+     * Lower bounds, inclusive; null for unbounded.
+     */
+    private final MavenVersion[] lower;
+    /**
+     * Upper bounds; null for unbounded.
+     */
+    private final MavenVersion[] upper;
+    private final boolean[] upperInclusive;
+    private final Advisory[] advisories;
+    /**
+     * For each node of the implicit tree, the index of the interval with the
+     * greatest upper bound in its subtree.
+     */
+    private final int[] maxUpper;
+
+    Intervals(List<Advisory.Range> ranges, List<Advisory> rangeAdvisories) {
+      Integer[] order = new Integer[ranges.size()];
+      MavenVersion[] lowers = new MavenVersion[ranges.size()];
+      for (int i = 0; i < order.length; i++) {
+        order[i] = i;
+        String introduced = ranges.get(i).getIntroduced();
+        lowers[i] = introduced == null ? null : MavenVersion.ofUncached(introduced);
+      }
+      Arrays.sort(order, (a, b) -> lowers[a] == null ? (lowers[b] == null ? 0 : -1)
+                                   : lowers[b] == null ? 1 : lowers[a].compareTo(lowers[b]));
+      int n = order.length;
+      lower = new MavenVersion[n];
+      upper = new MavenVersion[n];
+      upperInclusive = new boolean[n];
+      advisories = new Advisory[n];
+      for (int i = 0; i < n; i++) {
+        Advisory.Range range = ranges.get(order[i]);
+        lower[i] = lowers[order[i]];
+        if (range.getFixed() != null) {
+          upper[i] = MavenVersion.ofUncached(range.getFixed());
+        } else if (range.getLastAffected() != null) {
+          upper[i] = MavenVersion.ofUncached(range.getLastAffected());
+          upperInclusive[i] = true;
+        }
+        advisories[i] = rangeAdvisories.get(order[i]);
+      }
+      maxUpper = new int[n];
+      annotate(0, n - 1);
+    }
+
+    private int annotate(int lo, int hi) {
+      int mid = (lo + hi) >>> 1;
+      int max = mid;
+      if (lo < mid) {
+        max = later(max, annotate(lo, mid - 1));
+      }
+      if (mid < hi) {
+        max = later(max, annotate(mid + 1, hi));
+      }
+      maxUpper[mid] = max;
+      return max;
+    }
+
+    /**
+     * Get whichever of two intervals ends later.
+     */
+    private int later(int a, int b) {
+      if (upper[a] == null || upper[b] == null) {
+        return upper[a] == null ? a : b;
+      }
+      int c = upper[a].compareTo(upper[b]);
+      return c > 0 || (c == 0 && upperInclusive[a]) ? a : b;
+    }
+
+    private boolean endsBefore(int i, MavenVersion version) {
+      if (upper[i] == null) {
+        return false;
+      }
+      int c = upper[i].compareTo(version);
+      return c < 0 || (c == 0 && !upperInclusive[i]);
+    }
+
+    private boolean startsAfter(int i, MavenVersion version) {
+      return lower[i] != null && lower[i].compareTo(version) > 0;
+    }
+
+    /**
+     * Add the advisories of every interval that contains a version.
+     */
+    void stab(MavenVersion version, List<Advisory> result) {
+      stab(0, lower.length - 1, version, result);
+    }
+
+    private void stab(int lo, int hi, MavenVersion version, List<Advisory> result) {
+      while (lo <= hi) {
+        int mid = (lo + hi) >>> 1;
+        if (endsBefore(maxUpper[mid], version)) {
+          return;
+        }
+        stab(lo, mid - 1, version, result);
+        if (startsAfter(mid, version)) {
+          return;
+        }
+        if (!endsBefore(mid, version)) {
+          addDistinct(result, advisories[mid]);
+        }
+        lo = mid + 1;
+      }
+    }
+  }
+
+  /**
+   * A cached index and the snapshot state it was read from.
+   */
+  private static final class Snapshot {
+
+    private final long modified;
+    private final long length;
+    private final AdvisoryIndex index;
+
+    Snapshot(long modified, long length, AdvisoryIndex index) {
+      this.modified = modified;
+      this.length = length;
+      this.index = index;
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package ch.keybridge.lib.dependency.analysis;
+
+import ch.keybridge.lib.dependency.model.Advisory;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import lombok.Value;
+
+/**
+ * An artifact affected by a security advisory, found by
+ * {@link AdvisoryIndex}.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+@Value
+public class AdvisoryMatch {
+
+  private final MavenArtifact artifact;
+  private final Advisory advisory;
+
+  /**
+   * Get the match as {@code groupId:artifactId:packaging:version advisoryId}.
+   */
+  @Override
+  public String toString() {
+    return artifact + " " + advisory.getId();
+  }
+}
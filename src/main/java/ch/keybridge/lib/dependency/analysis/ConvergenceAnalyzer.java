@@ -0,0 +1,140 @@
+package ch.keybridge.lib.dependency.analysis;
+
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import java.util.*;
+
+/**
+ * Finds the artifacts that do not converge: that occur in a dependency
+ * hierarchy with more than one version.
+ * <p>
+ * The hierarchy is traversed once, depth-first. Occurrences are collected
+ * per groupId and artifactId in nested hash maps keyed on the coordinate
+ * strings, which the readers intern, so no key is built per dependency.
+ * For every conflict the analyzer reports the paths that introduce each
+ * version and the occurrence Maven's "nearest wins" rule selects: the one
+ * with the shortest path from the root and, of those, the first declared.
+ * <pre>
+ * for (VersionConflict conflict : ConvergenceAnalyzer.analyze(hierarchy)) {
+ *   System.out.println(conflict + " via " + conflict.getResolvedPath());
+ * }
+ * </pre>
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class ConvergenceAnalyzer {
+
+  private ConvergenceAnalyzer() {
+  }
+
+  /**
+   * Find the artifacts that occur with more than one version. The root of
+   * the hierarchy is included.
+   *
+   * @param hierarchy the dependency hierarchy
+   * @return the conflicts in order of the first occurrence of each artifact;
+   *         empty if every artifact converges
+   */
+  public static List<VersionConflict> analyze(MavenDependency hierarchy) {
+    Map<String, Map<String, Occurrences>> groups = new HashMap<>();
+    List<Occurrences> conflicts = new ArrayList<>();
+    int count = 0;
+    /**
+     * Pre-order traversal with an explicit stack of dependencies and their
+     * paths. Among dependencies at the same depth, pre-order is declaration
+     * order, so the first occurrence found at the lowest depth is the one
+     * nearest wins selects.
+     */
+    Deque<MavenDependency> dependencies = new ArrayDeque<>();
+    Deque<DependencyPath> paths = new ArrayDeque<>();
+    dependencies.push(hierarchy);
+    paths.push(DependencyPath.of(hierarchy.getArtifact()));
+    while (!dependencies.isEmpty()) {
+      MavenDependency dependency = dependencies.pop();
+      DependencyPath path = paths.pop();
+      MavenArtifact artifact = dependency.getArtifact();
+      Map<String, Occurrences> artifacts = groups.get(artifact.getGroupId());
+      if (artifacts == null) {
+        artifacts = new HashMap<>(4);
+        groups.put(artifact.getGroupId(), artifacts);
+      }
+      Occurrences occurrences = artifacts.get(artifact.getArtifactId());
+      if (occurrences == null) {
+        artifacts.put(artifact.getArtifactId(), new Occurrences(count++, artifact, path));
+      } else if (occurrences.add(artifact, path)) {
+        conflicts.add(occurrences);
+      }
+      List<MavenDependency> children = dependency.getTransitiveDependencies();
+      for (int i = children.size() - 1; i >= 0; i--) {
+        MavenDependency child = children.get(i);
+        dependencies.push(child);
+        paths.push(path.child(child.getArtifact()));
+      }
+    }
+    conflicts.sort(Comparator.comparingInt(o -> o.order));
+    List<VersionConflict> result = new ArrayList<>(conflicts.size());
+    for (Occurrences occurrences : conflicts) {
+      result.add(occurrences.toConflict());
+    }
+    return result;
+  }
+
+  /**
+   * The occurrences of one groupId and artifactId. Most artifacts occur with
+   * a single version, so occurrences are kept in one list until a second
+   * version shows up.
+   */
+  private static class Occurrences {
+
+    /**
+     * The position of the first occurrence among all artifacts.
+     */
+    private final int order;
+    private final String version;
+    private final List<DependencyPath> paths = new ArrayList<>(1);
+    /**
+     * Occurrences by version once there is more than one; null until then.
+     */
+    private Map<String, List<DependencyPath>> versions;
+    private MavenArtifact nearest;
+    private DependencyPath nearestPath;
+
+    Occurrences(int order, MavenArtifact artifact, DependencyPath path) {
+      this.order = order;
+      this.version = artifact.getVersion();
+      this.paths.add(path);
+      this.nearest = artifact;
+      this.nearestPath = path;
+    }
+
+    /**
+     * Add an occurrence.
+     *
+     * @return true if this is the occurrence that makes a conflict
+     */
+    boolean add(MavenArtifact artifact, DependencyPath path) {
+      if (path.getLength() < nearestPath.getLength()) {
+        nearest = artifact;
+        nearestPath = path;
+      }
+      if (versions == null) {
+        if (Objects.equals(version, artifact.getVersion())) {
+          paths.add(path);
+          return false;
+        }
+        versions = new LinkedHashMap<>(4);
+        versions.put(version, paths);
+      }
+      versions.computeIfAbsent(artifact.getVersion(), v -> new ArrayList<>(1)).add(path);
+      return versions.size() == 2 && versions.get(artifact.getVersion()).size() == 1;
+    }
+
+    VersionConflict toConflict() {
+      Map<String, List<DependencyPath>> result = new LinkedHashMap<>(versions.size() * 2);
+      versions.forEach((v, list) -> result.put(v, Collections.unmodifiableList(list)));
+      return new VersionConflict(nearest.getGroupId(), nearest.getArtifactId(), nearest, nearestPath,
+                                 Collections.unmodifiableMap(result));
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package ch.keybridge.lib.dependency.analysis;
+
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import lombok.Value;
+
+/**
+ * A difference between two dependency hierarchies, found by
+ * {@link DependencyDiff}.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+@Value
+public class DependencyChange {
+
+  /**
+   * Kinds of changes.
+   */
+  public enum Type {
+    /**
+     * A dependency, with its subtree, that only occurs in the new hierarchy.
+     */
+    ADDED,
+    /**
+     * A dependency, with its subtree, that only occurs in the old hierarchy.
+     */
+    REMOVED,
+    /**
+     * A dependency whose version (or packaging) changed.
+     */
+    VERSION_CHANGED,
+    /**
+     * A dependency whose scope changed.
+     */
+    SCOPE_CHANGED
+  }
+
+  private final Type type;
+  /**
+   * The path to the dependency. It runs through the new hierarchy and ends in
+   * the changed dependency; for a removed dependency it ends in the
+   * dependency of the old hierarchy.
+   */
+  private final DependencyPath path;
+  /**
+   * The dependency in the old hierarchy; null if added.
+   */
+  private final MavenDependency before;
+  /**
+   * The dependency in the new hierarchy; null if removed.
+   */
+  private final MavenDependency after;
+
+  @Override
+  public String toString() {
+    switch (type) {
+      case ADDED:
+        return "+ " + path;
+      case REMOVED:
+        return "- " + path;
+      case VERSION_CHANGED:
+        return "~ " + path + " (was " + before.getArtifact().getVersion() + ")";
+      default:
+        return "~ " + path + " (scope " + before.getScope() + " -> " + after.getScope() + ")";
+    }
+  }
+}
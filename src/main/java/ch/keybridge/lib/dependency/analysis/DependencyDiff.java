@@ -0,0 +1,185 @@
+package ch.keybridge.lib.dependency.analysis;
+
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import java.util.*;
+
+/**
+ * The differences between two dependency hierarchies, e.g. of the running
+ * release and a candidate release.
+ * <p>
+ * The hierarchies are walked together from the root. Transitive dependencies
+ * are matched on groupId and artifactId, so a new version of a dependency is
+ * reported as a version change rather than a removal and an addition. A pair
+ * of subtrees with the same {@link MavenDependency#getContentHash() content
+ * hash} is identical and is skipped without being visited, so the cost of a
+ * diff is proportional to the changed part of the hierarchies, not to their
+ * size.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class DependencyDiff {
+
+  private final List<DependencyChange> changes;
+
+  private DependencyDiff(List<DependencyChange> changes) {
+    this.changes = Collections.unmodifiableList(changes);
+  }
+
+  /**
+   * Compare two dependency hierarchies. Open hierarchies are frozen first.
+   *
+   * @param before the old hierarchy
+   * @param after  the new hierarchy
+   * @return the differences
+   */
+  public static DependencyDiff compare(MavenDependency before, MavenDependency after) {
+    List<DependencyChange> changes = new ArrayList<>();
+    /**
+     * Pairs of matched dependencies still to compare, with the path of the
+     * parent in the new hierarchy.
+     */
+    Deque<MavenDependency> olds = new ArrayDeque<>();
+    Deque<MavenDependency> news = new ArrayDeque<>();
+    Deque<DependencyPath> parents = new ArrayDeque<>();
+    List<MavenDependency> pairs = new ArrayList<>();
+    olds.push(before.freeze());
+    news.push(after.freeze());
+    parents.push(DependencyPath.of(after.getArtifact()));
+
+    boolean root = true;
+    while (!olds.isEmpty()) {
+      MavenDependency a = olds.pop();
+      MavenDependency b = news.pop();
+      DependencyPath parent = parents.pop();
+      if (a.getContentHash() == b.getContentHash()) {
+        root = false;
+        continue;
+      }
+      DependencyPath path = root ? parent : parent.child(b.getArtifact());
+      root = false;
+      if (!a.getArtifact().equals(b.getArtifact())) {
+        changes.add(new DependencyChange(DependencyChange.Type.VERSION_CHANGED, path, a, b));
+      }
+      if (a.getScope() != b.getScope()) {
+        changes.add(new DependencyChange(DependencyChange.Type.SCOPE_CHANGED, path, a, b));
+      }
+
+      pairs.clear();
+      match(a.getTransitiveDependencies(), b.getTransitiveDependencies(), path, pairs, changes);
+      /**
+       * Push in reverse so that pairs are compared in order.
+       */
+      for (int i = pairs.size() - 2; i >= 0; i -= 2) {
+        olds.push(pairs.get(i));
+        news.push(pairs.get(i + 1));
+        parents.push(path);
+      }
+    }
+    return new DependencyDiff(changes);
+  }
+
+  /**
+   * Match the transitive dependencies of a pair of dependencies on groupId
+   * and artifactId. Dependencies in the same position with the same groupId
+   * and artifactId, the usual case, are matched without a lookup table.
+   *
+   * @param olds    transitive dependencies in the old hierarchy
+   * @param news    transitive dependencies in the new hierarchy
+   * @param path    path of the parent in the new hierarchy
+   * @param pairs   receives matched pairs, old then new
+   * @param changes receives added and removed dependencies
+   */
+  private static void match(List<MavenDependency> olds, List<MavenDependency> news, DependencyPath path,
+                            List<MavenDependency> pairs, List<DependencyChange> changes) {
+    int common = Math.min(olds.size(), news.size());
+    int i = 0;
+    while (i < common && sameGroupArtifact(olds.get(i).getArtifact(), news.get(i).getArtifact())) {
+      pairs.add(olds.get(i));
+      pairs.add(news.get(i));
+      i++;
+    }
+    if (i == olds.size() && i == news.size()) {
+      return;
+    }
+    Map<String, Deque<MavenDependency>> unmatched = new HashMap<>();
+    for (int j = i; j < olds.size(); j++) {
+      unmatched.computeIfAbsent(groupArtifact(olds.get(j).getArtifact()), k -> new ArrayDeque<>()).add(olds.get(j));
+    }
+    for (int j = i; j < news.size(); j++) {
+      MavenDependency b = news.get(j);
+      Deque<MavenDependency> candidates = unmatched.get(groupArtifact(b.getArtifact()));
+      MavenDependency a = candidates == null ? null : candidates.poll();
+      if (a == null) {
+        changes.add(new DependencyChange(DependencyChange.Type.ADDED, path.child(b.getArtifact()), null, b));
+      } else {
+        pairs.add(a);
+        pairs.add(b);
+      }
+    }
+    for (int j = i; j < olds.size(); j++) {
+      MavenDependency a = olds.get(j);
+      Deque<MavenDependency> candidates = unmatched.get(groupArtifact(a.getArtifact()));
+      /**
+       * Matching takes candidates from the front, so the unmatched ones are
+       * the rest of each queue, in order.
+       */
+      if (candidates.peek() == a) {
+        candidates.poll();
+        changes.add(new DependencyChange(DependencyChange.Type.REMOVED, path.child(a.getArtifact()), a, null));
+      }
+    }
+  }
+
+  private static boolean sameGroupArtifact(MavenArtifact a, MavenArtifact b) {
+    return Objects.equals(a.getGroupId(), b.getGroupId()) && Objects.equals(a.getArtifactId(), b.getArtifactId());
+  }
+
+  private static String groupArtifact(MavenArtifact artifact) {
+    return artifact.getGroupId() + ':' + artifact.getArtifactId();
+  }
+
+  /**
+   * Get all changes, parents before their transitive dependencies.
+   *
+   * @return unmodifiable list of changes
+   */
+  public List<DependencyChange> getChanges() {
+    return changes;
+  }
+
+  /**
+   * Get the changes of one type.
+   *
+   * @param type the type of change
+   * @return list of changes
+   */
+  public List<DependencyChange> getChanges(DependencyChange.Type type) {
+    List<DependencyChange> result = new ArrayList<>();
+    for (DependencyChange change : changes) {
+      if (change.getType() == type) {
+        result.add(change);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Test whether the hierarchies are identical.
+   *
+   * @return true if there are no changes
+   */
+  public boolean isEmpty() {
+    return changes.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    for (DependencyChange change : changes) {
+      sb.append(change).append('\n');
+    }
+    return sb.toString();
+  }
+}
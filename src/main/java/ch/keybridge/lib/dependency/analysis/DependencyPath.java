@@ -0,0 +1,157 @@
+package ch.keybridge.lib.dependency.analysis;
+
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The path from the root of a dependency hierarchy to one of its
+ * dependencies, as the list of artifacts along the way. A path shares its
+ * prefix with the path of its parent, so the paths of all dependencies of a
+ * hierarchy take one small object per dependency.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public final class DependencyPath {
+
+  private final DependencyPath parent;
+  private final MavenArtifact artifact;
+  private final int length;
+
+  private DependencyPath(DependencyPath parent, MavenArtifact artifact) {
+    this.parent = parent;
+    this.artifact = Objects.requireNonNull(artifact, "artifact");
+    this.length = parent == null ? 1 : parent.length + 1;
+  }
+
+  /**
+   * Create the path of the root of a hierarchy.
+   *
+   * @param root the artifact of the root
+   * @return a path of length 1
+   */
+  public static DependencyPath of(MavenArtifact root) {
+    return new DependencyPath(null, root);
+  }
+
+  /**
+   * Extend this path by a transitive dependency of its last artifact.
+   *
+   * @param child the artifact of the transitive dependency
+   * @return a path one longer than this one
+   */
+  public DependencyPath child(MavenArtifact child) {
+    return new DependencyPath(this, child);
+  }
+
+  /**
+   * Get the path without its last artifact.
+   *
+   * @return the parent path, or null for the path of the root
+   */
+  public DependencyPath getParent() {
+    return parent;
+  }
+
+  /**
+   * Get the last artifact of the path.
+   *
+   * @return the artifact the path leads to
+   */
+  public MavenArtifact getArtifact() {
+    return artifact;
+  }
+
+  /**
+   * Get the number of artifacts on the path. The depth of the dependency
+   * the path leads to is one less.
+   *
+   * @return the path length
+   */
+  public int getLength() {
+    return length;
+  }
+
+  /**
+   * Get the artifact at a position on the path.
+   *
+   * @param index the position; 0 for the root
+   * @return the artifact
+   */
+  public MavenArtifact get(int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+    }
+    DependencyPath path = this;
+    for (int i = length - 1; i > index; i--) {
+      path = path.parent;
+    }
+    return path.artifact;
+  }
+
+  /**
+   * Get the artifacts on the path, from the root.
+   *
+   * @return unmodifiable list of artifacts
+   */
+  public List<MavenArtifact> getArtifacts() {
+    MavenArtifact[] artifacts = new MavenArtifact[length];
+    DependencyPath path = this;
+    for (int i = length - 1; i >= 0; i--) {
+      artifacts[i] = path.artifact;
+      path = path.parent;
+    }
+    return Collections.unmodifiableList(Arrays.asList(artifacts));
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof DependencyPath)) {
+      return false;
+    }
+    DependencyPath a = this;
+    DependencyPath b = (DependencyPath) o;
+    if (a.length != b.length) {
+      return false;
+    }
+    while (a != null && a != b) {
+      if (!a.artifact.equals(b.artifact)) {
+        return false;
+      }
+      a = a.parent;
+      b = b.parent;
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int h = 1;
+    for (MavenArtifact a : getArtifacts()) {
+      h = 31 * h + a.hashCode();
+    }
+    return h;
+  }
+
+  /**
+   * Get the path as artifacts joined by " > ", e.g.
+   * {@code g:app:war:1.0 > g:lib:jar:2.0}.
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    for (MavenArtifact a : getArtifacts()) {
+      if (sb.length() > 0) {
+        sb.append(" > ");
+      }
+      sb.append(a);
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,161 @@
+package ch.keybridge.lib.dependency.analysis;
+
+import ch.keybridge.lib.dependency.model.License;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.util.CacheCounter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A license compliance policy: which SPDX licenses are allowed, which are
+ * denied and which need review.
+ * <p>
+ * Licenses are identified by {@link License#getSpdxId()}, which is looked up
+ * once per license instance, and decisions are cached per SPDX identifier,
+ * so evaluating every artifact of an application normalizes each distinct
+ * license once. An artifact with several licenses may be used under any of
+ * them and gets the most permissive decision; likewise for an SPDX
+ * expression with OR. Licenses the SPDX table does not know, and artifacts
+ * without licenses, get the decision for unknown licenses.
+ * <pre>
+ * LicensePolicy policy = new LicensePolicy(Arrays.asList("Apache-2.0", "MIT", "BSD-3-Clause"),
+ *                                          Arrays.asList("AGPL-3.0-only"));
+ * LicenseReport report = policy.evaluate(AppMetadata.getInstance().getLicenses());
+ * report.getArtifacts(LicensePolicy.Decision.DENY);
+ * </pre>
+ * A policy is immutable and thread-safe.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class LicensePolicy {
+
+  /**
+   * Policy decisions, from most to least permissive.
+   */
+  public enum Decision {
+    ALLOW,
+    REVIEW,
+    DENY
+  }
+
+  private static final CacheCounter COUNTER = CacheCounter.of("license-policy");
+  private final Map<String, Decision> decisions;
+  private final Decision unknown;
+  /**
+   * Decisions by SPDX identifier or expression, including ones resolved
+   * from the parts of an expression.
+   */
+  private final ConcurrentMap<String, Decision> resolved = new ConcurrentHashMap<>();
+
+  /**
+   * Create a policy.
+   *
+   * @param decisions decisions by SPDX identifier, e.g. MIT; an expression
+   *                  such as "CDDL-1.1 OR GPL-2.0-only WITH
+   *                  Classpath-exception-2.0" can be listed to override the
+   *                  decisions for its parts
+   * @param unknown   the decision for licenses that are not listed or have
+   *                  no SPDX identifier
+   */
+  public LicensePolicy(Map<String, Decision> decisions, Decision unknown) {
+    this.decisions = Collections.unmodifiableMap(new HashMap<>(decisions));
+    this.unknown = Objects.requireNonNull(unknown, "unknown");
+  }
+
+  /**
+   * Create a policy that allows and denies licenses by SPDX identifier and
+   * sends every other license to review.
+   *
+   * @param allowed SPDX identifiers of allowed licenses
+   * @param denied  SPDX identifiers of denied licenses
+   */
+  public LicensePolicy(Collection<String> allowed, Collection<String> denied) {
+    this(decisions(allowed, denied), Decision.REVIEW);
+  }
+
+  private static Map<String, Decision> decisions(Collection<String> allowed, Collection<String> denied) {
+    Map<String, Decision> decisions = new HashMap<>();
+    allowed.forEach(id -> decisions.put(id, Decision.ALLOW));
+    denied.forEach(id -> decisions.put(id, Decision.DENY));
+    return decisions;
+  }
+
+  /**
+   * Decide on one license.
+   *
+   * @param license the license
+   * @return the decision
+   */
+  public Decision evaluate(License license) {
+    String id = license.getSpdxId();
+    return id == null ? unknown : resolve(id);
+  }
+
+  /**
+   * Decide on an artifact from its licenses: the most permissive decision of
+   * any of them.
+   *
+   * @param licenses the licenses of the artifact; may be null or empty
+   * @return the decision
+   */
+  public Decision evaluate(List<License> licenses) {
+    if (licenses == null || licenses.isEmpty()) {
+      return unknown;
+    }
+    Decision decision = Decision.DENY;
+    for (License license : licenses) {
+      Decision d = evaluate(license);
+      if (d.compareTo(decision) < 0) {
+        decision = d;
+      }
+    }
+    return decision;
+  }
+
+  /**
+   * Decide on every artifact of an application in one pass.
+   *
+   * @param licenses licenses by artifact, e.g. from
+   *                 {@code AppMetadata.getLicenses()}
+   * @return the decisions
+   */
+  public LicenseReport evaluate(Map<MavenArtifact, List<License>> licenses) {
+    Map<MavenArtifact, Decision> decisions = new LinkedHashMap<>(licenses.size() * 4 / 3 + 1);
+    for (Map.Entry<MavenArtifact, List<License>> entry : licenses.entrySet()) {
+      decisions.put(entry.getKey(), evaluate(entry.getValue()));
+    }
+    return new LicenseReport(decisions);
+  }
+
+  /**
+   * Decide on an SPDX identifier or expression. A listed decision wins;
+   * otherwise an OR expression gets the most permissive decision of its
+   * parts.
+   */
+  private Decision resolve(String id) {
+    Decision decision = resolved.get(id);
+    if (decision == null) {
+      COUNTER.miss();
+      decision = decisions.get(id);
+      if (decision == null) {
+        if (id.contains(" OR ")) {
+          decision = Decision.DENY;
+          for (String part : id.split(" OR ")) {
+            Decision d = resolve(part.trim());
+            if (d.compareTo(decision) < 0) {
+              decision = d;
+            }
+          }
+        } else {
+          decision = unknown;
+        }
+      }
+      resolved.put(id, decision);
+    } else {
+      COUNTER.hit();
+    }
+    return decision;
+  }
+}
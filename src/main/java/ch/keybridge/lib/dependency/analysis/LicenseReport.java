@@ -0,0 +1,84 @@
+package ch.keybridge.lib.dependency.analysis;
+
+import ch.keybridge.lib.dependency.analysis.LicensePolicy.Decision;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import java.util.*;
+
+/**
+ * The decisions of a {@link LicensePolicy} for the artifacts of an
+ * application.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class LicenseReport {
+
+  private final Map<MavenArtifact, Decision> decisions;
+  private final Map<Decision, List<MavenArtifact>> byDecision;
+
+  LicenseReport(Map<MavenArtifact, Decision> decisions) {
+    this.decisions = Collections.unmodifiableMap(decisions);
+    Map<Decision, List<MavenArtifact>> artifacts = new EnumMap<>(Decision.class);
+    for (Decision decision : Decision.values()) {
+      artifacts.put(decision, new ArrayList<>());
+    }
+    decisions.forEach((artifact, decision) -> artifacts.get(decision).add(artifact));
+    artifacts.replaceAll((decision, list) -> Collections.unmodifiableList(list));
+    this.byDecision = Collections.unmodifiableMap(artifacts);
+  }
+
+  /**
+   * Get the overall decision: DENY if any artifact is denied, else REVIEW if
+   * any needs review, else ALLOW.
+   *
+   * @return the strictest decision of any artifact
+   */
+  public Decision getDecision() {
+    for (Decision decision : new Decision[]{Decision.DENY, Decision.REVIEW}) {
+      if (!byDecision.get(decision).isEmpty()) {
+        return decision;
+      }
+    }
+    return Decision.ALLOW;
+  }
+
+  /**
+   * Get the decision for an artifact.
+   *
+   * @param artifact the artifact
+   * @return the decision, or null if the artifact was not evaluated
+   */
+  public Decision getDecision(MavenArtifact artifact) {
+    return decisions.get(artifact);
+  }
+
+  /**
+   * Get the artifacts with a decision.
+   *
+   * @param decision the decision
+   * @return unmodifiable list of artifacts, in evaluation order
+   */
+  public List<MavenArtifact> getArtifacts(Decision decision) {
+    return byDecision.get(decision);
+  }
+
+  /**
+   * Get the decision for every artifact.
+   *
+   * @return unmodifiable map of decisions by artifact, in evaluation order
+   */
+  public Map<MavenArtifact, Decision> getDecisions() {
+    return decisions;
+  }
+
+  /**
+   * Get the report as the number of artifacts per decision, e.g.
+   * {@code {ALLOW=120, REVIEW=3, DENY=0}}.
+   */
+  @Override
+  public String toString() {
+    Map<Decision, Integer> counts = new EnumMap<>(Decision.class);
+    byDecision.forEach((decision, list) -> counts.put(decision, list.size()));
+    return counts.toString();
+  }
+}
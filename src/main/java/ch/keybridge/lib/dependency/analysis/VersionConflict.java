@@ -0,0 +1,66 @@
+package ch.keybridge.lib.dependency.analysis;
+
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import lombok.Value;
+
+/**
+ * An artifact, identified by groupId and artifactId, that occurs in a
+ * dependency hierarchy with more than one version. Found by
+ * {@link ConvergenceAnalyzer}.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+@Value
+public class VersionConflict {
+
+  private final String groupId;
+  private final String artifactId;
+  /**
+   * The occurrence Maven resolves the conflict to: the one nearest to the
+   * root, and of those the first in declaration order.
+   */
+  private final MavenArtifact resolved;
+  /**
+   * The path to the resolved occurrence.
+   */
+  private final DependencyPath resolvedPath;
+  /**
+   * The paths to every occurrence, by version, in order of first
+   * occurrence. Unmodifiable.
+   */
+  private final Map<String, List<DependencyPath>> paths;
+
+  /**
+   * Get the versions that occur in the hierarchy.
+   *
+   * @return the versions in order of first occurrence
+   */
+  public List<String> getVersions() {
+    return new ArrayList<>(paths.keySet());
+  }
+
+  /**
+   * Get the paths that introduce a version.
+   *
+   * @param version the version
+   * @return the paths in depth-first order; empty if the version does not
+   *         occur
+   */
+  public List<DependencyPath> getPaths(String version) {
+    List<DependencyPath> result = paths.get(version);
+    return result == null ? Collections.emptyList() : result;
+  }
+
+  /**
+   * Get the conflict as {@code groupId:artifactId [1.0, 2.0] -> 1.0}.
+   */
+  @Override
+  public String toString() {
+    return groupId + ":" + artifactId + " " + paths.keySet() + " -> " + resolved.getVersion();
+  }
+}
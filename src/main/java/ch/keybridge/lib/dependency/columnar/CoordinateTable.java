@@ -0,0 +1,134 @@
+package ch.keybridge.lib.dependency.columnar;
+
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An append-only table of distinct Maven artifacts, each identified by a
+ * dense int index. A table can be shared by many {@link DependencyGraph}s so
+ * that an artifact used by several modules is stored once and compares by
+ * index across graphs.
+ * <p>
+ * Artifacts are found through an open-addressing table of indexes, which
+ * costs a few ints per artifact rather than a map entry and a boxed integer.
+ * Adding is synchronized; reading by index is lock-free, since an index is
+ * only handed out after its artifact has been stored.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class CoordinateTable {
+
+  /**
+   * Hash slots holding the index of an artifact plus one; 0 for an empty
+   * slot. The length is a power of two and at most half of the slots are
+   * used.
+   */
+  private int[] slots = new int[128];
+  /**
+   * The artifacts by index. Replaced by a larger copy when full.
+   */
+  private volatile MavenArtifact[] artifacts = new MavenArtifact[64];
+  /**
+   * The number of artifacts in the table.
+   */
+  private volatile int size;
+
+  /**
+   * Get the index of an artifact, adding it to the table if it is not there
+   * yet.
+   *
+   * @param artifact the artifact
+   * @return the index of the artifact
+   */
+  public synchronized int add(MavenArtifact artifact) {
+    Objects.requireNonNull(artifact, "artifact");
+    int slot = find(artifact);
+    if (slots[slot] != 0) {
+      return slots[slot] - 1;
+    }
+    int idx = size;
+    MavenArtifact[] a = artifacts;
+    if (idx == a.length) {
+      a = Arrays.copyOf(a, a.length * 2);
+    }
+    a[idx] = artifact;
+    artifacts = a;
+    slots[slot] = idx + 1;
+    size = idx + 1;
+    if (2 * size > slots.length) {
+      rehash(a);
+    }
+    return idx;
+  }
+
+  /**
+   * Get the index of an artifact.
+   *
+   * @param artifact the artifact
+   * @return the index of the artifact, or -1 if it is not in the table
+   */
+  public synchronized int indexOf(MavenArtifact artifact) {
+    return artifact == null ? -1 : slots[find(artifact)] - 1;
+  }
+
+  /**
+   * Find the slot of an artifact, or the empty slot where it belongs.
+   */
+  private int find(MavenArtifact artifact) {
+    final MavenArtifact[] a = artifacts;
+    final int mask = slots.length - 1;
+    int slot = mix(artifact.hashCode()) & mask;
+    while (slots[slot] != 0 && !artifact.equals(a[slots[slot] - 1])) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  /**
+   * Double the hash slots.
+   */
+  private void rehash(MavenArtifact[] a) {
+    int[] grown = new int[slots.length * 2];
+    final int mask = grown.length - 1;
+    for (int idx = 0; idx < size; idx++) {
+      int slot = mix(a[idx].hashCode()) & mask;
+      while (grown[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      grown[slot] = idx + 1;
+    }
+    slots = grown;
+  }
+
+  /**
+   * Spread the bits of a hash code over the low bits used to pick a slot.
+   */
+  private static int mix(int h) {
+    h *= 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * Get an artifact by index.
+   *
+   * @param index the index returned by {@link #add(MavenArtifact)}
+   * @return the artifact
+   */
+  public MavenArtifact get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    return artifacts[index];
+  }
+
+  /**
+   * Get the number of artifacts in the table.
+   *
+   * @return the number of distinct artifacts
+   */
+  public int size() {
+    return size;
+  }
+}
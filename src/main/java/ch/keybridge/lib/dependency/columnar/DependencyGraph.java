@@ -0,0 +1,367 @@
+package ch.keybridge.lib.dependency.columnar;
+
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import ch.keybridge.lib.dependency.model.MavenDependencyScope;
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A columnar, read-only dependency hierarchy. Instead of one object per
+ * dependency, every dependency is a node number and its properties are held
+ * in parallel primitive arrays: parent, first child, next sibling, depth,
+ * scope and the index of its artifact in a {@link CoordinateTable}. Nodes are
+ * numbered in depth-first pre-order with the root at 0, so a depth-first walk
+ * is a sequential scan of the arrays and the subtree of a node is a
+ * contiguous range.
+ * <p>
+ * A node takes 21 bytes of heap regardless of how many children it has,
+ * against several objects for a frozen {@link MavenDependency}. Artifacts are
+ * stored once per coordinate table, which can be shared between graphs.
+ * <p>
+ * Existing code that expects a {@link MavenDependency} can use
+ * {@link #asDependency()}, a view that creates dependency objects only for
+ * the nodes it visits.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class DependencyGraph {
+
+  /**
+   * Marker for no node: the parent of the root, the first child of a leaf and
+   * the next sibling of a last child.
+   */
+  public static final int NONE = -1;
+  private static final MavenDependencyScope[] SCOPES = MavenDependencyScope.values();
+
+  private final CoordinateTable coordinates;
+  private final int[] parent;
+  private final int[] firstChild;
+  private final int[] nextSibling;
+  private final int[] depth;
+  /**
+   * Scope ordinal per node, or -1 for the root.
+   */
+  private final byte[] scope;
+  /**
+   * Index of the artifact of each node in the coordinate table.
+   */
+  private final int[] coordinate;
+
+  private DependencyGraph(CoordinateTable coordinates, int size,
+                          int[] parent, int[] firstChild, int[] nextSibling,
+                          int[] depth, byte[] scope, int[] coordinate) {
+    this.coordinates = coordinates;
+    this.parent = Arrays.copyOf(parent, size);
+    this.firstChild = Arrays.copyOf(firstChild, size);
+    this.nextSibling = Arrays.copyOf(nextSibling, size);
+    this.depth = Arrays.copyOf(depth, size);
+    this.scope = Arrays.copyOf(scope, size);
+    this.coordinate = Arrays.copyOf(coordinate, size);
+  }
+
+  /**
+   * Convert a dependency hierarchy into a graph with its own coordinate
+   * table.
+   *
+   * @param hierarchy the dependency hierarchy
+   * @return the graph
+   */
+  public static DependencyGraph of(MavenDependency hierarchy) {
+    return of(hierarchy, new CoordinateTable());
+  }
+
+  /**
+   * Convert a dependency hierarchy into a graph.
+   *
+   * @param hierarchy   the dependency hierarchy
+   * @param coordinates the coordinate table, which may be shared with other
+   *                    graphs
+   * @return the graph
+   */
+  public static DependencyGraph of(MavenDependency hierarchy, CoordinateTable coordinates) {
+    Builder builder = new Builder(coordinates);
+    /**
+     * Depth-first with an explicit stack, so that deep hierarchies do not
+     * overflow the call stack. Children are pushed in reverse so that they
+     * are added in order.
+     */
+    Deque<MavenDependency> nodes = new ArrayDeque<>();
+    int[] depths = new int[16];
+    nodes.push(hierarchy);
+    while (!nodes.isEmpty()) {
+      int d = depths[nodes.size() - 1];
+      MavenDependency node = nodes.pop();
+      builder.add(d, node.getArtifact(), node.getScope());
+      List<MavenDependency> children = node.getTransitiveDependencies();
+      for (int i = children.size() - 1; i >= 0; i--) {
+        if (nodes.size() == depths.length) {
+          depths = Arrays.copyOf(depths, depths.length * 2);
+        }
+        depths[nodes.size()] = d + 1;
+        nodes.push(children.get(i));
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Get the number of nodes, including the root.
+   *
+   * @return the number of nodes
+   */
+  public int size() {
+    return depth.length;
+  }
+
+  /**
+   * Get the coordinate table that holds the artifacts of this graph.
+   *
+   * @return the coordinate table
+   */
+  public CoordinateTable getCoordinates() {
+    return coordinates;
+  }
+
+  /**
+   * Get the artifact of a node.
+   *
+   * @param node the node
+   * @return the artifact
+   */
+  public MavenArtifact getArtifact(int node) {
+    return coordinates.get(coordinate[node]);
+  }
+
+  /**
+   * Get the index of the artifact of a node in the coordinate table. Nodes
+   * with the same artifact have the same index.
+   *
+   * @param node the node
+   * @return the coordinate index
+   */
+  public int getCoordinate(int node) {
+    return coordinate[node];
+  }
+
+  /**
+   * Get the scope of a node.
+   *
+   * @param node the node
+   * @return the scope, or null for the root
+   */
+  public MavenDependencyScope getScope(int node) {
+    int ordinal = scope[node];
+    return ordinal < 0 ? null : SCOPES[ordinal];
+  }
+
+  /**
+   * Get the depth of a node.
+   *
+   * @param node the node
+   * @return the depth; 0 for the root
+   */
+  public int getDepth(int node) {
+    return depth[node];
+  }
+
+  /**
+   * Get the parent of a node.
+   *
+   * @param node the node
+   * @return the parent, or {@link #NONE} for the root
+   */
+  public int getParent(int node) {
+    return parent[node];
+  }
+
+  /**
+   * Get the first child of a node.
+   *
+   * @param node the node
+   * @return the first child, or {@link #NONE} for a leaf
+   */
+  public int getFirstChild(int node) {
+    return firstChild[node];
+  }
+
+  /**
+   * Get the next sibling of a node.
+   *
+   * @param node the node
+   * @return the next sibling, or {@link #NONE} for a last child
+   */
+  public int getNextSibling(int node) {
+    return nextSibling[node];
+  }
+
+  /**
+   * Get the end of the subtree of a node. Nodes are in pre-order, so the
+   * subtree of a node is the range from the node to the returned index,
+   * exclusive.
+   *
+   * @param node the node
+   * @return the index after the last node of the subtree
+   */
+  public int getSubtreeEnd(int node) {
+    int end = node + 1;
+    while (end < depth.length && depth[end] > depth[node]) {
+      end++;
+    }
+    return end;
+  }
+
+  /**
+   * Get a read-only view of the hierarchy as a {@link MavenDependency}.
+   *
+   * @return a view of the root
+   */
+  public MavenDependency asDependency() {
+    return asDependency(0);
+  }
+
+  /**
+   * Get a read-only view of the subtree of a node as a
+   * {@link MavenDependency}. Dependency objects are created as the view is
+   * walked and are not retained; use {@link MavenDependency#freeze()} on the
+   * view for a standalone copy.
+   *
+   * @param node the node
+   * @return a view of the node
+   */
+  public MavenDependency asDependency(int node) {
+    if (node < 0 || node >= depth.length) {
+      throw new IndexOutOfBoundsException("Node: " + node + ", Size: " + depth.length);
+    }
+    return MavenDependency.view(getArtifact(node), getScope(node), new ChildList(node));
+  }
+
+  /**
+   * The transitive dependencies of a node, as views.
+   */
+  private class ChildList extends AbstractList<MavenDependency> implements RandomAccess {
+
+    private final int[] children;
+
+    ChildList(int node) {
+      int count = 0;
+      for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+        count++;
+      }
+      children = new int[count];
+      int i = 0;
+      for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+        children[i++] = child;
+      }
+    }
+
+    @Override
+    public MavenDependency get(int index) {
+      return asDependency(children[index]);
+    }
+
+    @Override
+    public int size() {
+      return children.length;
+    }
+  }
+
+  /**
+   * Builds a graph from nodes added in depth-first pre-order, such as the
+   * lines of dependency:tree output.
+   */
+  public static class Builder {
+
+    private final CoordinateTable coordinates;
+    private int size;
+    private int[] parent = new int[256];
+    private int[] firstChild = new int[256];
+    private int[] nextSibling = new int[256];
+    private int[] depth = new int[256];
+    private byte[] scope = new byte[256];
+    private int[] coordinate = new int[256];
+    /**
+     * The last node added at each depth of the open path.
+     */
+    private int[] last = new int[16];
+
+    /**
+     * Create a builder.
+     *
+     * @param coordinates the coordinate table, which may be shared with other
+     *                    graphs
+     */
+    public Builder(CoordinateTable coordinates) {
+      this.coordinates = Objects.requireNonNull(coordinates, "coordinates");
+    }
+
+    /**
+     * Add the next node in depth-first pre-order. The first node is the root
+     * at depth 0; every following node is at least at depth 1 and at most one
+     * deeper than the node before it.
+     *
+     * @param nodeDepth the depth of the node
+     * @param artifact  the artifact
+     * @param nodeScope the scope, or null for the root
+     * @return this builder
+     */
+    public Builder add(int nodeDepth, MavenArtifact artifact, MavenDependencyScope nodeScope) {
+      if (size == 0 ? nodeDepth != 0 : nodeDepth < 1 || nodeDepth > depth[size - 1] + 1) {
+        throw new IllegalStateException("Unexpected depth " + nodeDepth + " for " + artifact);
+      }
+      if (size == depth.length) {
+        int capacity = size * 2;
+        parent = Arrays.copyOf(parent, capacity);
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        nextSibling = Arrays.copyOf(nextSibling, capacity);
+        depth = Arrays.copyOf(depth, capacity);
+        scope = Arrays.copyOf(scope, capacity);
+        coordinate = Arrays.copyOf(coordinate, capacity);
+      }
+      if (nodeDepth == last.length) {
+        last = Arrays.copyOf(last, last.length * 2);
+      }
+      final int node = size++;
+      if (nodeDepth == 0) {
+        parent[node] = NONE;
+      } else {
+        int p = last[nodeDepth - 1];
+        parent[node] = p;
+        /**
+         * In pre-order, the last node added at this depth since the parent is
+         * the previous child of the parent.
+         */
+        if (firstChild[p] == NONE) {
+          firstChild[p] = node;
+        } else {
+          nextSibling[last[nodeDepth]] = node;
+        }
+      }
+      firstChild[node] = NONE;
+      nextSibling[node] = NONE;
+      depth[node] = nodeDepth;
+      scope[node] = (byte) (nodeScope == null ? -1 : nodeScope.ordinal());
+      coordinate[node] = coordinates.add(artifact);
+      last[nodeDepth] = node;
+      return this;
+    }
+
+    /**
+     * Build the graph.
+     *
+     * @return the graph
+     */
+    public DependencyGraph build() {
+      if (size == 0) {
+        throw new IllegalStateException("No root node");
+      }
+      return new DependencyGraph(coordinates, size, parent, firstChild, nextSibling, depth, scope, coordinate);
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package ch.keybridge.lib.dependency.io;
+
+import ch.keybridge.lib.dependency.model.License;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import lombok.Value;
+
+/**
+ * The build metadata of one archive, found by {@link ArchiveScanner}.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+@Value
+public class ArchiveInventory {
+
+  /**
+   * The JAR or WAR file.
+   */
+  private final Path archive;
+  /**
+   * The directory of the metadata in the archive, e.g. META-INF/build/.
+   */
+  private final String directory;
+  /**
+   * The dependency hierarchy; null if the metadata could not be read.
+   */
+  private final MavenDependency dependencyHierarchy;
+  /**
+   * The licenses of the dependencies; empty if the archive has no license
+   * file, null if the metadata could not be read.
+   */
+  private final Map<MavenArtifact, List<License>> licenses;
+  /**
+   * The error reading the metadata; null on success.
+   */
+  private final IOException error;
+
+  /**
+   * Get the application artifact of the archive.
+   *
+   * @return the root of the dependency hierarchy; null if the metadata could
+   *         not be read
+   */
+  public MavenArtifact getApplicationArtifact() {
+    return dependencyHierarchy == null ? null : dependencyHierarchy.getArtifact();
+  }
+}
@@ -0,0 +1,179 @@
+package ch.keybridge.lib.dependency.io;
+
+import ch.keybridge.lib.dependency.model.InternPool;
+import ch.keybridge.lib.dependency.model.License;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Build an inventory of the dependencies and licenses of every JAR and WAR
+ * in a directory tree, without loading any of them.
+ * <p>
+ * Each archive is opened with {@link ZipFile}, which reads the central
+ * directory and then only the dependency tree and license entries, wherever
+ * the archive keeps them: META-INF/build/ in a JAR, or
+ * WEB-INF/classes/META-INF/build/ in a WAR. Archives are parsed on a bounded
+ * pool, each with its own {@link InternPool}, and at most twice as many
+ * archives as threads are in flight. Results are handed to a consumer on the
+ * calling thread as they complete, so the consumer need not be thread-safe
+ * and memory use does not grow with the number of archives scanned.
+ * <pre>
+ * new ArchiveScanner(8).scan(Paths.get("/srv/repository"), inventory -&gt;
+ *   System.out.println(inventory.getArchive() + " " + inventory.getApplicationArtifact()));
+ * </pre>
+ * Archives nested in other archives, e.g. WEB-INF/lib/*.jar, are not
+ * opened; their metadata is part of the enclosing application's tree.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class ArchiveScanner {
+
+  /**
+   * Metadata directories in the order they are searched.
+   */
+  private static final String[] DIRECTORIES = {"META-INF/build/", "WEB-INF/classes/META-INF/build/"};
+  /**
+   * Entry names within a metadata directory.
+   */
+  private static final String DEPENDENCY_ENTRY = "dependency-tree.txt";
+  private static final String LICENSE_ENTRY = "licenses.xml";
+
+  private final int parallelism;
+
+  /**
+   * Create a scanner.
+   *
+   * @param parallelism the number of archives read at once
+   */
+  public ArchiveScanner(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+    }
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Scan every .jar and .war file under a directory. Archives without build
+   * metadata are skipped; archives whose metadata cannot be read are
+   * reported with an error.
+   *
+   * @param directory the directory, searched recursively
+   * @param consumer  receives the inventory of each archive, on the calling
+   *                  thread, in completion order
+   * @return the number of archives reported
+   * @throws IOException if the directory cannot be listed
+   */
+  public int scan(Path directory, Consumer<ArchiveInventory> consumer) throws IOException {
+    AtomicInteger threads = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+      Thread thread = new Thread(runnable, "archive-scanner-" + threads.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    CompletionService<ArchiveInventory> completion = new ExecutorCompletionService<>(executor);
+    int reported = 0;
+    try (Stream<Path> paths = Files.walk(directory)) {
+      Iterator<Path> archives = paths.filter(ArchiveScanner::isArchive).iterator();
+      int inFlight = 0;
+      while (archives.hasNext() || inFlight > 0) {
+        while (inFlight < 2 * parallelism && archives.hasNext()) {
+          Path archive = archives.next();
+          completion.submit(() -> read(archive));
+          inFlight++;
+        }
+        ArchiveInventory inventory = take(completion);
+        inFlight--;
+        if (inventory != null) {
+          consumer.accept(inventory);
+          reported++;
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    return reported;
+  }
+
+  /**
+   * Read the metadata of one archive. Any failure, including malformed
+   * metadata, is reported in the inventory rather than thrown.
+   *
+   * @param archive the JAR or WAR file
+   * @return the inventory; null if the archive has no build metadata
+   */
+  public static ArchiveInventory read(Path archive) {
+    try (ZipFile zip = new ZipFile(archive.toFile())) {
+      for (String directory : DIRECTORIES) {
+        ZipEntry tree = zip.getEntry(directory + DEPENDENCY_ENTRY);
+        if (tree == null) {
+          continue;
+        }
+        try {
+          InternPool pool = new InternPool();
+          MavenDependency hierarchy;
+          try (InputStream inputStream = zip.getInputStream(tree)) {
+            hierarchy = DependencyReader.parseDependencyHierarchy(inputStream, pool);
+          }
+          Map<MavenArtifact, List<License>> licenses = Collections.emptyMap();
+          ZipEntry licenseFile = zip.getEntry(directory + LICENSE_ENTRY);
+          if (licenseFile != null) {
+            try (InputStream inputStream = new BufferedInputStream(zip.getInputStream(licenseFile))) {
+              licenses = LicenseReader.mapLicenses(LicenseReader.read(inputStream, pool), hierarchy);
+            }
+          }
+          return new ArchiveInventory(archive, directory, hierarchy, licenses, null);
+        } catch (IOException e) {
+          return new ArchiveInventory(archive, directory, null, null, e);
+        } catch (RuntimeException e) {
+          /**
+           * Malformed metadata in one archive must not end the scan.
+           */
+          return new ArchiveInventory(archive, directory, null, null,
+                                      new IOException("Unable to read " + directory + " in " + archive, e));
+        }
+      }
+      return null;
+    } catch (IOException e) {
+      return new ArchiveInventory(archive, null, null, null, e);
+    }
+  }
+
+  private static boolean isArchive(Path path) {
+    String name = path.getFileName().toString();
+    return (name.endsWith(".jar") || name.endsWith(".war")) && Files.isRegularFile(path);
+  }
+
+  private static ArchiveInventory take(CompletionService<ArchiveInventory> completion) throws IOException {
+    try {
+      return completion.take().get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while scanning", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    }
+  }
+}
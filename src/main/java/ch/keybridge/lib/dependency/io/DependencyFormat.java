@@ -0,0 +1,30 @@
+package ch.keybridge.lib.dependency.io;
+
+/**
+ * Output formats of {@link DependencyWriter}.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public enum DependencyFormat {
+  /**
+   * The ASCII tree of the Maven dependency:tree goal. Output can be read back
+   * with {@link DependencyReader}.
+   */
+  TREE,
+  /**
+   * A JSON object per dependency with its coordinates, scope and nested
+   * "dependencies" array.
+   */
+  JSON,
+  /**
+   * A Graphviz DOT digraph with an edge, labelled with the scope, from every
+   * dependency to each of its transitive dependencies.
+   */
+  DOT,
+  /**
+   * One CSV row per dependency in depth-first order, with a header row and
+   * the depth in the first column.
+   */
+  CSV
+}
@@ -1,14 +1,21 @@
 package ch.keybridge.lib.dependency.io;
 
+import ch.keybridge.lib.dependency.columnar.CoordinateTable;
+import ch.keybridge.lib.dependency.columnar.DependencyGraph;
+import ch.keybridge.lib.dependency.model.InternPool;
 import ch.keybridge.lib.dependency.model.MavenArtifact;
 import ch.keybridge.lib.dependency.model.MavenDependency;
 import ch.keybridge.lib.dependency.model.MavenDependencyScope;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 /**
  * Utilities for reading output files created by the maven dependency:tree goal.
@@ -18,6 +25,18 @@ import java.util.List;
  */
 public class DependencyReader {
 
+  /**
+   * Leading tree-drawing characters and trailing blanks of a dependency:tree
+   * line. Only used by {@link #trimLine(String)}; the parser itself scans
+   * lines by hand.
+   */
+  private static final Pattern TRIM_PATTERN = Pattern.compile("^[-+ |\\\\]+ | +$");
+  /**
+   * Number of colon-separated fields in a dependency line:
+   * {groupId}:{artifactId}:{packaging}:{version}:{scope}.
+   */
+  private static final int DEPENDENCY_FIELDS = 5;
+
   /**
    * Remove leading tree-like characters from single line of output from maven
    * dependency:tree, e.g.
@@ -41,7 +60,7 @@ public class DependencyReader {
    * @return a clean string containing the dependency information
    */
   public static String trimLine(String line) {
-    return line.replaceAll("^[-+ |\\\\]+ | +$", "");
+    return TRIM_PATTERN.matcher(line).replaceAll("");
   }
 
   /**
@@ -54,15 +73,28 @@ public class DependencyReader {
    * @return parsed MavenArtifact object.
    */
   public static MavenArtifact parseArtifact(String line) {
-    String[] tokens = trimLine(line).split(":");
-    if (tokens.length < 3) {
+    return parseArtifact(line, new String[DEPENDENCY_FIELDS], null);
+  }
+
+  /**
+   * Parse a Maven artifact line using a caller-provided field buffer.
+   *
+   * @param line   Maven artifact string
+   * @param fields scratch array of at least {@value #DEPENDENCY_FIELDS}
+   *               elements
+   * @param pool   pool of canonical instances, or null
+   * @return parsed MavenArtifact object.
+   */
+  private static MavenArtifact parseArtifact(String line, String[] fields, InternPool pool) {
+    int count = splitFields(line, indentEnd(line), fields);
+    if (count < 3) {
       throw new IllegalArgumentException("Unexpected number of tokens: " + line);
     }
-    String groupId = tokens[0];
-    String artifactId = tokens[1];
-    String packaging = tokens.length == 4 ? tokens[2] : null;
-    String version = tokens.length == 4 ? tokens[3] : tokens[2];
-    return new MavenArtifact(groupId, artifactId, packaging, version);
+    String groupId = fields[0];
+    String artifactId = fields[1];
+    String packaging = count == 4 ? fields[2] : null;
+    String version = count == 4 ? fields[3] : fields[2];
+    return newArtifact(groupId, artifactId, packaging, version, pool);
   }
 
   /**
@@ -74,12 +106,130 @@ public class DependencyReader {
    * @return parsed MavenArtifact object.
    */
   public static MavenDependency parseDependency(String line) {
-    String[] tokens = trimLine(line).split(":");
-    if (tokens.length != 5) {
+    return parseDependency(line, indentEnd(line), new String[DEPENDENCY_FIELDS], null);
+  }
+
+  /**
+   * Parse a Maven dependency line whose tree prefix has already been scanned.
+   *
+   * @param line   Maven artifact string
+   * @param start  index of the first character after the tree prefix
+   * @param fields scratch array of at least {@value #DEPENDENCY_FIELDS}
+   *               elements
+   * @param pool   pool of canonical instances, or null
+   * @return parsed MavenDependency object.
+   */
+  private static MavenDependency parseDependency(String line, int start, String[] fields, InternPool pool) {
+    MavenArtifact artifact = parseDependencyArtifact(line, start, fields, pool);
+    return new MavenDependency(artifact, MavenDependencyScope.fromString(fields[4]));
+  }
+
+  /**
+   * Parse the artifact of a Maven dependency line whose tree prefix has
+   * already been scanned. The scope is left in the last field.
+   *
+   * @param line   Maven artifact string
+   * @param start  index of the first character after the tree prefix
+   * @param fields scratch array of at least {@value #DEPENDENCY_FIELDS}
+   *               elements; receives all fields of the line
+   * @param pool   pool of canonical instances, or null
+   * @return parsed MavenArtifact object.
+   */
+  private static MavenArtifact parseDependencyArtifact(String line, int start, String[] fields, InternPool pool) {
+    if (splitFields(line, start, fields) != DEPENDENCY_FIELDS) {
       throw new IllegalArgumentException("Unexpected number of tokens: " + line);
     }
-    MavenArtifact artifact = new MavenArtifact(tokens[0], tokens[1], tokens[2], tokens[3]);
-    return new MavenDependency(artifact, MavenDependencyScope.fromString(tokens[4]));
+    return newArtifact(fields[0], fields[1], fields[2], fields[3], pool);
+  }
+
+  /**
+   * Create an artifact, or look up its canonical instance when a pool is
+   * given.
+   *
+   * @param groupId    the group id
+   * @param artifactId the artifact id
+   * @param packaging  the packaging, may be null
+   * @param version    the version
+   * @param pool       pool of canonical instances, or null
+   * @return the artifact
+   */
+  private static MavenArtifact newArtifact(String groupId, String artifactId, String packaging, String version, InternPool pool) {
+    return pool == null
+           ? new MavenArtifact(groupId, artifactId, packaging, version)
+           : pool.artifact(groupId, artifactId, packaging, version);
+  }
+
+  /**
+   * Test whether a character belongs to the tree-drawing prefix of a
+   * dependency:tree line.
+   *
+   * @param c a character
+   * @return true for blanks and the characters + - \ |
+   */
+  private static boolean isTreeCharacter(char c) {
+    return c <= ' ' || c == '+' || c == '-' || c == '\\' || c == '|';
+  }
+
+  /**
+   * Find the end of the tree-drawing prefix of a dependency:tree line.
+   *
+   * @param line a single line of output of the Maven dependency:tree goal
+   * @return index of the first character that is not part of the prefix
+   */
+  private static int indentEnd(String line) {
+    final int length = line.length();
+    int idx = 0;
+    while (idx < length && isTreeCharacter(line.charAt(idx))) {
+      idx++;
+    }
+    return idx;
+  }
+
+  /**
+   * Convert the length of a tree-drawing prefix into a tree level. Every
+   * level is drawn with three characters, e.g. "|  " or "+- ".
+   *
+   * @param line      the line, for error reporting
+   * @param indentEnd the length of the prefix
+   * @return line indent
+   */
+  private static int toIndent(String line, int indentEnd) {
+    if (indentEnd % 3 != 0) {
+      throw new IllegalStateException("Unexpected indentation: " + line);
+    }
+    return indentEnd / 3;
+  }
+
+  /**
+   * Split the colon-separated fields of a line in a single forward scan,
+   * ignoring trailing blanks. Only the field values themselves are allocated.
+   *
+   * @param line   a single line of output of the Maven dependency:tree goal
+   * @param start  index of the first character after the tree prefix
+   * @param fields receives the field values; fields beyond its length are
+   *               counted but not stored
+   * @return the number of fields found in the line
+   */
+  private static int splitFields(String line, int start, String[] fields) {
+    int end = line.length();
+    while (end > start && line.charAt(end - 1) == ' ') {
+      end--;
+    }
+    int count = 0;
+    int fieldStart = start;
+    for (int idx = start; idx < end; idx++) {
+      if (line.charAt(idx) == ':') {
+        if (count < fields.length) {
+          fields[count] = line.substring(fieldStart, idx);
+        }
+        count++;
+        fieldStart = idx + 1;
+      }
+    }
+    if (count < fields.length) {
+      fields[count] = line.substring(fieldStart, end);
+    }
+    return count + 1;
   }
 
   /**
@@ -100,17 +250,7 @@ public class DependencyReader {
     if (line == null || line.isEmpty()) {
       throw new IllegalArgumentException("Empty string");
     }
-    int idx = 0;
-    while (true) {
-      char c = line.charAt(idx++);
-      if (!(c <= ' ' || c == '+' || c == '-' || c == '\\' || c == '|')) {
-        break;
-      }
-    }
-    if ((idx - 1) % 3 != 0) {
-      throw new IllegalStateException();
-    }
-    return (idx - 1) / 3;
+    return toIndent(line, indentEnd(line));
   }
 
   /**
@@ -130,34 +270,151 @@ public class DependencyReader {
    * |  +- com.vladsch.flexmark:flexmark-ext-macros:jar:0.40.4:compile
    * |  \- keybridge.lib:wadl:jar:1.0.0:compile
    * </pre>
+   * <p>
+   * Each line is scanned exactly once: the tree prefix determines the level
+   * and the remainder is split on colons without regular expressions or
+   * intermediate strings. The hierarchy is returned frozen; each dependency
+   * is built once its subtree is complete.
    *
    * @param dependencyTree path to the dependency:tree output
    * @return parsed dependency hierarchy
    * @throws IOException in case of failure to read input file.
    */
   public static MavenDependency parseDependencyHierarchy(Path dependencyTree) throws IOException {
-    String line;
-    List<MavenDependency> parents = new ArrayList<>();
+    return parseDependencyHierarchy(dependencyTree, new InternPool());
+  }
 
+  /**
+   * Parse the output of the Maven dependency:tree goal, sharing artifacts and
+   * coordinate strings through a pool. Artifacts that occur several times in
+   * the tree, or in other data read through the same pool, are the same
+   * instance.
+   *
+   * @param dependencyTree path to the dependency:tree output
+   * @param pool           pool of canonical instances
+   * @return parsed dependency hierarchy
+   * @throws IOException in case of failure to read input file.
+   */
+  public static MavenDependency parseDependencyHierarchy(Path dependencyTree, InternPool pool) throws IOException {
     try (BufferedReader r = Files.newBufferedReader(dependencyTree)) {
-      /**
-       * The first line of dependency:tree is the project itself.
-       */
-      parents.add(new MavenDependency(parseArtifact(r.readLine()), null));
+      return parseDependencyHierarchy(r, pool);
+    }
+  }
 
-      while ((line = r.readLine()) != null) {
-        final int indent = getIndent(line);
-        final MavenDependency current = parseDependency(line);
+  /**
+   * Parse the output of the Maven dependency:tree goal from a stream, e.g. a
+   * resource inside a JAR. The stream is read as UTF-8.
+   *
+   * @param inputStream the dependency:tree output; not closed by this method
+   * @param pool        pool of canonical instances
+   * @return parsed dependency hierarchy
+   * @throws IOException in case of failure to read the stream.
+   */
+  public static MavenDependency parseDependencyHierarchy(InputStream inputStream, InternPool pool) throws IOException {
+    return parseDependencyHierarchy(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)), pool);
+  }
+
+  /**
+   * Parse the output of the Maven dependency:tree goal from a reader.
+   *
+   * @param r    the dependency:tree output
+   * @param pool pool of canonical instances
+   * @return parsed dependency hierarchy
+   * @throws IOException in case of failure to read input.
+   */
+  private static MavenDependency parseDependencyHierarchy(BufferedReader r, InternPool pool) throws IOException {
+    String line;
+    final String[] fields = new String[DEPENDENCY_FIELDS];
+    /**
+     * The open path from the root to the last line read: artifact, scope and
+     * completed transitive dependencies per level. A level is frozen into a
+     * MavenDependency once a line at the same or a lower level shows that its
+     * subtree is complete. Child lists are reused across siblings.
+     */
+    final List<MavenArtifact> artifacts = new ArrayList<>();
+    final List<MavenDependencyScope> scopes = new ArrayList<>();
+    final List<List<MavenDependency>> children = new ArrayList<>();
+    int depth = 0;
 
-        parents.get(indent - 1).getTransitiveDependencies().add(current);
+    /**
+     * The first line of dependency:tree is the project itself.
+     */
+    artifacts.add(parseArtifact(r.readLine(), fields, pool));
+    scopes.add(null);
+    children.add(new ArrayList<>());
 
-        if (indent < parents.size()) {
-          parents.set(indent, current);
-        } else {
-          parents.add(current);
-        }
+    while ((line = r.readLine()) != null) {
+      final int start = indentEnd(line);
+      final int indent = toIndent(line, start);
+      if (indent < 1 || indent > depth + 1) {
+        throw new IllegalStateException("Unexpected indentation: " + line);
+      }
+      final MavenArtifact artifact = parseDependencyArtifact(line, start, fields, pool);
+      final MavenDependencyScope scope = MavenDependencyScope.fromString(fields[4]);
+
+      for (; depth >= indent; depth--) {
+        closeLevel(depth, artifacts, scopes, children);
+      }
+      if (indent < artifacts.size()) {
+        artifacts.set(indent, artifact);
+        scopes.set(indent, scope);
+      } else {
+        artifacts.add(artifact);
+        scopes.add(scope);
+        children.add(new ArrayList<>());
+      }
+      depth = indent;
+    }
+    for (; depth > 0; depth--) {
+      closeLevel(depth, artifacts, scopes, children);
+    }
+    return new MavenDependency(artifacts.get(0), null, children.get(0));
+  }
+
+  /**
+   * Parse the output of the Maven dependency:tree goal into a columnar graph,
+   * without creating a MavenDependency per line. Use this for very large
+   * hierarchies, such as the trees of many modules aggregated into one
+   * coordinate table. Coordinate strings are interned while reading.
+   *
+   * @param dependencyTree path to the dependency:tree output
+   * @param coordinates    the coordinate table, which may be shared with
+   *                       other graphs
+   * @return parsed dependency graph
+   * @throws IOException in case of failure to read input file.
+   */
+  public static DependencyGraph parseDependencyGraph(Path dependencyTree, CoordinateTable coordinates) throws IOException {
+    String line;
+    final String[] fields = new String[DEPENDENCY_FIELDS];
+    final InternPool pool = new InternPool();
+    final DependencyGraph.Builder builder = new DependencyGraph.Builder(coordinates);
+    try (BufferedReader r = Files.newBufferedReader(dependencyTree)) {
+      builder.add(0, parseArtifact(r.readLine(), fields, pool), null);
+      while ((line = r.readLine()) != null) {
+        final int start = indentEnd(line);
+        final int indent = toIndent(line, start);
+        final MavenArtifact artifact = parseDependencyArtifact(line, start, fields, pool);
+        builder.add(indent, artifact, MavenDependencyScope.fromString(fields[4]));
       }
     }
-    return parents.get(0);
+    return builder.build();
+  }
+
+  /**
+   * Freeze the dependency at a level of the open path and add it to the
+   * transitive dependencies of its parent.
+   *
+   * @param level     the level to close, at least 1
+   * @param artifacts artifact per open level
+   * @param scopes    scope per open level
+   * @param children  completed transitive dependencies per open level
+   */
+  private static void closeLevel(int level,
+                                 List<MavenArtifact> artifacts,
+                                 List<MavenDependencyScope> scopes,
+                                 List<List<MavenDependency>> children) {
+    List<MavenDependency> transitiveDependencies = children.get(level);
+    children.get(level - 1).add(new MavenDependency(artifacts.get(level), scopes.get(level), transitiveDependencies));
+    transitiveDependencies.clear();
   }
 }
@@ -2,17 +2,40 @@ package ch.keybridge.lib.dependency.io;
 
 import ch.keybridge.lib.dependency.model.MavenArtifact;
 import ch.keybridge.lib.dependency.model.MavenDependency;
+import ch.keybridge.lib.dependency.model.MavenDependencyScope;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Utilities for printing maven dependency hierarchies.
+ * <p>
+ * All methods walk the hierarchy iteratively, so deep hierarchies do not
+ * overflow the call stack, and write straight to the output without building
+ * strings per dependency. Indentation is kept in a single buffer that grows
+ * and shrinks with the depth.
  *
  * @author Andrius Druzinis-Vitkus
  * @since 0.0.1 created 2019-02-07
  */
 public class DependencyWriter {
 
+  /**
+   * Lower-case scope names by ordinal, as written by dependency:tree.
+   */
+  private static final String[] SCOPE_NAMES = scopeNames();
+  /**
+   * Tabs used by {@link #printHierarchy(MavenDependency, Appendable)}; grown
+   * when a deeper hierarchy is printed.
+   */
+  private static volatile String tabs = "\t\t\t\t\t\t\t\t\t\t\t\t\t\t\t\t";
+
   /**
    * Print dependency hierarchy into an Appendable stream, such as System.out.
    *
@@ -36,11 +59,88 @@ public class DependencyWriter {
    * @throws IOException in case of failure to write to stream.
    */
   public static void printHierarchy(MavenDependency dependency, Appendable appendable) throws IOException {
-    printArtifact(dependency.getArtifact(), appendable);
-    appendable.append('\n');
-    for (MavenDependency d : dependency.getTransitiveDependencies()) {
-      printHierarchy(d, appendable, 1);
+    walk(dependency, new Visitor(appendable) {
+      @Override
+      void enter(MavenDependency parent, MavenDependency node, int depth, int index, boolean last) throws IOException {
+        String t = tabs;
+        if (depth > t.length()) {
+          char[] grown = new char[Math.max(depth, 2 * t.length())];
+          Arrays.fill(grown, '\t');
+          t = new String(grown);
+          tabs = t;
+        }
+        out.append(t, 0, depth);
+        printArtifact(node.getArtifact(), out);
+        out.append('\n');
+      }
+    });
+  }
+
+  /**
+   * Write a dependency hierarchy in the given format. Output is written as it
+   * is produced; pass a buffered Appendable, e.g. a BufferedWriter or a
+   * StringBuilder, for best throughput.
+   *
+   * @param dependency dependency hierarchy
+   * @param format     output format
+   * @param appendable output
+   * @throws IOException in case of failure to write to the output.
+   */
+  public static void write(MavenDependency dependency, DependencyFormat format, Appendable appendable) throws IOException {
+    Visitor visitor;
+    switch (format) {
+      case TREE:
+        visitor = new TreeVisitor(appendable);
+        break;
+      case JSON:
+        visitor = new JsonVisitor(appendable);
+        break;
+      case DOT:
+        visitor = new DotVisitor(appendable);
+        break;
+      case CSV:
+        visitor = new CsvVisitor(appendable);
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported format: " + format);
     }
+    visitor.begin();
+    walk(dependency, visitor);
+    visitor.end();
+  }
+
+  /**
+   * Write a dependency hierarchy in the given format to a channel, encoded
+   * as UTF-8 through a buffer. The channel is not closed.
+   *
+   * @param dependency dependency hierarchy
+   * @param format     output format
+   * @param channel    output channel
+   * @throws IOException in case of failure to write to the channel.
+   */
+  public static void write(MavenDependency dependency, DependencyFormat format, WritableByteChannel channel) throws IOException {
+    Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), 8192), 8192);
+    write(dependency, format, writer);
+    writer.flush();
+  }
+
+  /**
+   * Get the lower-case name of a scope, as written by dependency:tree.
+   *
+   * @param scope the scope
+   * @return the scope name
+   */
+  static String scopeName(MavenDependencyScope scope) {
+    return SCOPE_NAMES[scope.ordinal()];
+  }
+
+  private static String[] scopeNames() {
+    MavenDependencyScope[] scopes = MavenDependencyScope.values();
+    String[] names = new String[scopes.length];
+    for (MavenDependencyScope scope : scopes) {
+      names[scope.ordinal()] = scope.name().toLowerCase(Locale.ROOT);
+    }
+    return names;
   }
 
   /**
@@ -60,21 +160,327 @@ public class DependencyWriter {
   }
 
   /**
-   * Print maven artifact information into an Appendable stream, such as System.out.
-   * @param dependency Maven dependency
-   * @param appendable appendable output stream
-   * @throws IOException in case of failure to write to stream.
+   * Append a quoted, escaped JSON string, or null.
+   *
+   * @param out   output
+   * @param value the string, may be null
+   * @throws IOException in case of failure to write to the output.
+   */
+  static void appendJson(Appendable out, String value) throws IOException {
+    if (value == null) {
+      out.append("null");
+      return;
+    }
+    out.append('"');
+    int start = 0;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\' || c < 0x20) {
+        out.append(value, start, i);
+        switch (c) {
+          case '"':
+            out.append("\\\"");
+            break;
+          case '\\':
+            out.append("\\\\");
+            break;
+          case '\n':
+            out.append("\\n");
+            break;
+          case '\t':
+            out.append("\\t");
+            break;
+          default:
+            out.append(String.format("\\u%04x", (int) c));
+        }
+        start = i + 1;
+      }
+    }
+    out.append(value, start, value.length()).append('"');
+  }
+
+  /**
+   * Append a CSV field, quoted if it contains a separator, quote or line
+   * break. A null value is written as an empty field.
+   *
+   * @param out   output
+   * @param value the field, may be null
+   * @throws IOException in case of failure to write to the output.
+   */
+  static void appendCsv(Appendable out, String value) throws IOException {
+    if (value == null) {
+      return;
+    }
+    boolean quote = false;
+    for (int i = 0; i < value.length() && !quote; i++) {
+      char c = value.charAt(i);
+      quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+    }
+    if (!quote) {
+      out.append(value);
+      return;
+    }
+    out.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"') {
+        out.append('"');
+      }
+      out.append(c);
+    }
+    out.append('"');
+  }
+
+  /**
+   * Walk a hierarchy depth-first with an explicit stack, calling the visitor
+   * on entering and leaving every dependency.
+   *
+   * @param root    the root of the hierarchy
+   * @param visitor the visitor
+   * @throws IOException in case of failure to write to the output.
+   */
+  private static void walk(MavenDependency root, Visitor visitor) throws IOException {
+    MavenDependency[] nodes = new MavenDependency[16];
+    int[] next = new int[16];
+    int top = 0;
+    nodes[0] = root;
+    visitor.enter(null, root, 0, 0, true);
+    while (top >= 0) {
+      MavenDependency node = nodes[top];
+      List<MavenDependency> children = node.getTransitiveDependencies();
+      int index = next[top];
+      if (index < children.size()) {
+        next[top] = index + 1;
+        MavenDependency child = children.get(index);
+        visitor.enter(node, child, top + 1, index, index == children.size() - 1);
+        if (++top == nodes.length) {
+          nodes = Arrays.copyOf(nodes, 2 * top);
+          next = Arrays.copyOf(next, 2 * top);
+        }
+        nodes[top] = child;
+        next[top] = 0;
+      } else {
+        visitor.exit(node, top);
+        nodes[top--] = null;
+      }
+    }
+  }
+
+  /**
+   * Receives the dependencies of a hierarchy in depth-first order.
+   */
+  private abstract static class Visitor {
+
+    final Appendable out;
+
+    Visitor(Appendable out) {
+      this.out = out;
+    }
+
+    void begin() throws IOException {
+    }
+
+    /**
+     * Enter a dependency.
+     *
+     * @param parent the parent, or null for the root
+     * @param node   the dependency
+     * @param depth  the depth; 0 for the root
+     * @param index  the index of the dependency among its siblings
+     * @param last   true for the last sibling
+     */
+    abstract void enter(MavenDependency parent, MavenDependency node, int depth, int index, boolean last) throws IOException;
+
+    /**
+     * Leave a dependency after all of its transitive dependencies.
+     */
+    void exit(MavenDependency node, int depth) throws IOException {
+    }
+
+    void end() throws IOException {
+    }
+  }
+
+  /**
+   * The dependency:tree format. The prefix of the current line is kept in one
+   * buffer: three characters per level, cut back to the depth of each line.
+   */
+  private static final class TreeVisitor extends Visitor {
+
+    private final StringBuilder prefix = new StringBuilder(64);
+
+    TreeVisitor(Appendable out) {
+      super(out);
+    }
+
+    @Override
+    void enter(MavenDependency parent, MavenDependency node, int depth, int index, boolean last) throws IOException {
+      MavenArtifact artifact = node.getArtifact();
+      if (depth > 0) {
+        prefix.setLength(3 * (depth - 1));
+        out.append(prefix).append(last ? "\\- " : "+- ");
+        prefix.append(last ? "   " : "|  ");
+      }
+      out.append(artifact.getGroupId()).append(':').append(artifact.getArtifactId()).append(':');
+      if (artifact.getPackaging() != null) {
+        out.append(artifact.getPackaging()).append(':');
+      }
+      out.append(artifact.getVersion());
+      if (node.getScope() != null) {
+        out.append(':').append(SCOPE_NAMES[node.getScope().ordinal()]);
+      }
+      out.append('\n');
+    }
+  }
+
+  /**
+   * Nested JSON objects.
+   */
+  private static final class JsonVisitor extends Visitor {
+
+    JsonVisitor(Appendable out) {
+      super(out);
+    }
+
+    @Override
+    void enter(MavenDependency parent, MavenDependency node, int depth, int index, boolean last) throws IOException {
+      MavenArtifact artifact = node.getArtifact();
+      if (index > 0) {
+        out.append(',');
+      }
+      out.append("{\"groupId\":");
+      appendJson(out, artifact.getGroupId());
+      out.append(",\"artifactId\":");
+      appendJson(out, artifact.getArtifactId());
+      if (artifact.getPackaging() != null) {
+        out.append(",\"packaging\":");
+        appendJson(out, artifact.getPackaging());
+      }
+      out.append(",\"version\":");
+      appendJson(out, artifact.getVersion());
+      if (node.getScope() != null) {
+        out.append(",\"scope\":\"").append(SCOPE_NAMES[node.getScope().ordinal()]).append('"');
+      }
+      out.append(",\"dependencies\":[");
+    }
+
+    @Override
+    void exit(MavenDependency node, int depth) throws IOException {
+      out.append("]}");
+    }
+
+    @Override
+    void end() throws IOException {
+      out.append('\n');
+    }
+  }
+
+  /**
+   * A Graphviz digraph with one node per artifact.
    */
-  private static void printHierarchy(MavenDependency dependency, Appendable appendable, int offset) throws IOException {
-    char[] indent = new char[offset];
-    Arrays.fill(indent, '\t');
-    String indentStr = String.valueOf(indent);
-
-    appendable.append(indentStr);
-    printArtifact(dependency.getArtifact(), appendable);
-    appendable.append('\n');
-    for (MavenDependency transitiveDep : dependency.getTransitiveDependencies()) {
-      printHierarchy(transitiveDep, appendable, offset + 1);
+  private static final class DotVisitor extends Visitor {
+
+    DotVisitor(Appendable out) {
+      super(out);
+    }
+
+    @Override
+    void begin() throws IOException {
+      out.append("digraph dependencies {\n");
+    }
+
+    @Override
+    void enter(MavenDependency parent, MavenDependency node, int depth, int index, boolean last) throws IOException {
+      out.append("  ");
+      if (parent != null) {
+        appendId(parent.getArtifact());
+        out.append(" -> ");
+      }
+      appendId(node.getArtifact());
+      if (node.getScope() != null) {
+        out.append(" [label=\"").append(SCOPE_NAMES[node.getScope().ordinal()]).append("\"]");
+      }
+      out.append(";\n");
+    }
+
+    @Override
+    void end() throws IOException {
+      out.append("}\n");
+    }
+
+    /**
+     * Append the quoted node id of an artifact.
+     */
+    private void appendId(MavenArtifact artifact) throws IOException {
+      out.append('"');
+      appendEscaped(artifact.getGroupId());
+      out.append(':');
+      appendEscaped(artifact.getArtifactId());
+      out.append(':');
+      if (artifact.getPackaging() != null) {
+        appendEscaped(artifact.getPackaging());
+        out.append(':');
+      }
+      appendEscaped(artifact.getVersion());
+      out.append('"');
+    }
+
+    private void appendEscaped(String value) throws IOException {
+      if (value.indexOf('"') < 0 && value.indexOf('\\') < 0) {
+        out.append(value);
+        return;
+      }
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        if (c == '"' || c == '\\') {
+          out.append('\\');
+        }
+        out.append(c);
+      }
+    }
+  }
+
+  /**
+   * CSV rows in depth-first order.
+   */
+  private static final class CsvVisitor extends Visitor {
+
+    CsvVisitor(Appendable out) {
+      super(out);
+    }
+
+    @Override
+    void begin() throws IOException {
+      out.append("depth,groupId,artifactId,packaging,version,scope\n");
+    }
+
+    @Override
+    void enter(MavenDependency parent, MavenDependency node, int depth, int index, boolean last) throws IOException {
+      MavenArtifact artifact = node.getArtifact();
+      appendInt(depth);
+      out.append(',');
+      appendCsv(out, artifact.getGroupId());
+      out.append(',');
+      appendCsv(out, artifact.getArtifactId());
+      out.append(',');
+      appendCsv(out, artifact.getPackaging());
+      out.append(',');
+      appendCsv(out, artifact.getVersion());
+      out.append(',');
+      if (node.getScope() != null) {
+        out.append(SCOPE_NAMES[node.getScope().ordinal()]);
+      }
+      out.append('\n');
+    }
+
+    /**
+     * Append a non-negative number without creating a string.
+     */
+    private void appendInt(int value) throws IOException {
+      if (value >= 10) {
+        appendInt(value / 10);
+      }
+      out.append((char) ('0' + value % 10));
     }
   }
 }
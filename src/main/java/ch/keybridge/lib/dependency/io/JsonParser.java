@@ -0,0 +1,222 @@
+package ch.keybridge.lib.dependency.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A minimal JSON parser for reading data files without a JSON library.
+ * Objects become a {@code Map<String, Object>} in document order, arrays a
+ * {@code List<Object>}, strings a String, numbers a Double and literals a
+ * Boolean or null.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+final class JsonParser {
+
+  private final String text;
+  private int position;
+
+  private JsonParser(String text) {
+    this.text = text;
+  }
+
+  /**
+   * Parse a JSON document.
+   *
+   * @param text the document
+   * @return the value of the document
+   * @throws IOException if the document is not valid JSON
+   */
+  static Object parse(String text) throws IOException {
+    JsonParser parser = new JsonParser(text);
+    Object value = parser.value();
+    parser.whitespace();
+    if (parser.position < text.length()) {
+      throw parser.error("Unexpected content");
+    }
+    return value;
+  }
+
+  private Object value() throws IOException {
+    whitespace();
+    if (position >= text.length()) {
+      throw error("Unexpected end of input");
+    }
+    char c = text.charAt(position);
+    switch (c) {
+      case '{':
+        return object();
+      case '[':
+        return array();
+      case '"':
+        return string();
+      case 't':
+        return literal("true", Boolean.TRUE);
+      case 'f':
+        return literal("false", Boolean.FALSE);
+      case 'n':
+        return literal("null", null);
+      default:
+        if (c == '-' || (c >= '0' && c <= '9')) {
+          return number();
+        }
+        throw error("Unexpected character '" + c + "'");
+    }
+  }
+
+  private Map<String, Object> object() throws IOException {
+    Map<String, Object> map = new LinkedHashMap<>();
+    position++;
+    whitespace();
+    if (peek() == '}') {
+      position++;
+      return map;
+    }
+    while (true) {
+      whitespace();
+      if (peek() != '"') {
+        throw error("Expected a member name");
+      }
+      String name = string();
+      whitespace();
+      expect(':');
+      map.put(name, value());
+      whitespace();
+      if (peek() == ',') {
+        position++;
+      } else {
+        expect('}');
+        return map;
+      }
+    }
+  }
+
+  private List<Object> array() throws IOException {
+    List<Object> list = new ArrayList<>();
+    position++;
+    whitespace();
+    if (peek() == ']') {
+      position++;
+      return list;
+    }
+    while (true) {
+      list.add(value());
+      whitespace();
+      if (peek() == ',') {
+        position++;
+      } else {
+        expect(']');
+        return list;
+      }
+    }
+  }
+
+  private String string() throws IOException {
+    position++;
+    int start = position;
+    /**
+     * Most strings have no escapes and are returned as a substring.
+     */
+    while (position < text.length()) {
+      char c = text.charAt(position);
+      if (c == '"') {
+        return text.substring(start, position++);
+      }
+      if (c == '\\') {
+        break;
+      }
+      position++;
+    }
+    StringBuilder sb = new StringBuilder(text.substring(start, position));
+    while (position < text.length()) {
+      char c = text.charAt(position++);
+      if (c == '"') {
+        return sb.toString();
+      }
+      if (c != '\\') {
+        sb.append(c);
+        continue;
+      }
+      if (position >= text.length()) {
+        break;
+      }
+      char escape = text.charAt(position++);
+      switch (escape) {
+        case 'b':
+          sb.append('\b');
+          break;
+        case 'f':
+          sb.append('\f');
+          break;
+        case 'n':
+          sb.append('\n');
+          break;
+        case 'r':
+          sb.append('\r');
+          break;
+        case 't':
+          sb.append('\t');
+          break;
+        case 'u':
+          if (position + 4 > text.length()) {
+            throw error("Invalid unicode escape");
+          }
+          try {
+            sb.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+          } catch (NumberFormatException e) {
+            throw error("Invalid unicode escape");
+          }
+          position += 4;
+          break;
+        default:
+          sb.append(escape);
+      }
+    }
+    throw error("Unterminated string");
+  }
+
+  private Double number() throws IOException {
+    int start = position;
+    while (position < text.length() && "+-0123456789.eE".indexOf(text.charAt(position)) >= 0) {
+      position++;
+    }
+    try {
+      return Double.valueOf(text.substring(start, position));
+    } catch (NumberFormatException e) {
+      throw error("Invalid number");
+    }
+  }
+
+  private Object literal(String literal, Object value) throws IOException {
+    if (!text.startsWith(literal, position)) {
+      throw error("Unexpected literal");
+    }
+    position += literal.length();
+    return value;
+  }
+
+  private void whitespace() {
+    while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+      position++;
+    }
+  }
+
+  private char peek() {
+    return position < text.length() ? text.charAt(position) : 0;
+  }
+
+  private void expect(char c) throws IOException {
+    if (peek() != c) {
+      throw error("Expected '" + c + "'");
+    }
+    position++;
+  }
+
+  private IOException error(String message) {
+    return new IOException(message + " at offset " + position);
+  }
+}
@@ -0,0 +1,20 @@
+package ch.keybridge.lib.dependency.io;
+
+/**
+ * Output formats of {@link LicenseWriter}.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public enum LicenseFormat {
+  /**
+   * A JSON array with an object per artifact, holding its coordinates and a
+   * "licenses" array.
+   */
+  JSON,
+  /**
+   * One CSV row per artifact and license, with a header row. An artifact
+   * without a license has one row with empty license fields.
+   */
+  CSV
+}
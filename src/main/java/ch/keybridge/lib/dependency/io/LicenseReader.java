@@ -1,12 +1,22 @@
 package ch.keybridge.lib.dependency.io;
 
+import ch.keybridge.lib.dependency.model.InternPool;
+import ch.keybridge.lib.dependency.model.License;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.*;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 /**
  * Read output from the Maven license:download-licenses goal.
@@ -16,20 +26,280 @@ import javax.xml.bind.Unmarshaller;
  */
 public class LicenseReader {
 
+  /**
+   * A shared StAX factory. Factories are expensive to look up and safe to
+   * share once configured. DTDs and external entities are disabled: the
+   * license file never uses them.
+   */
+  private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+  /**
+   * The JAXB context for {@link #readJaxb(Path)}, created on first use.
+   * Creating a JAXBContext is expensive, and a context is thread-safe.
+   */
+  private static volatile JAXBContext jaxbContext;
+
   /**
    * Read output from the Maven license:download-licenses goal.
+   * <p>
+   * The file is read in a single forward pass with a StAX stream reader that
+   * fills the LicenseSummary directly, without an intermediate object graph.
+   * Since 0.2.0 parse errors are reported as IOException; this method no
+   * longer declares JAXBException. Use {@link #readJaxb(Path)} for the JAXB
+   * binding.
+   *
+   * @param file path to the licenses XML file.
+   * @return parsed file content
+   * @throws IOException on read or parse error
+   */
+  public static LicenseSummary read(Path file) throws IOException {
+    return read(file, new InternPool());
+  }
+
+  /**
+   * Read output from the Maven license:download-licenses goal, sharing
+   * coordinate strings and licenses through a pool. Dependencies with the
+   * same license refer to the same License instance.
+   *
+   * @param file path to the licenses XML file.
+   * @param pool pool of canonical instances
+   * @return parsed file content
+   * @throws IOException on read or parse error
+   */
+  public static LicenseSummary read(Path file, InternPool pool) throws IOException {
+    InputStream inputStream;
+    try {
+      inputStream = Files.newInputStream(file);
+    } catch (IOException e) {
+      throw new IOException("Unable to read the license file " + file, e);
+    }
+    try (InputStream in = inputStream) {
+      return read(in, pool);
+    }
+  }
+
+  /**
+   * Read output from the Maven license:download-licenses goal from a stream,
+   * e.g. a resource inside a JAR.
+   *
+   * @param inputStream the licenses XML; not closed by this method
+   * @return parsed file content
+   * @throws IOException on read or parse error
+   */
+  public static LicenseSummary read(InputStream inputStream) throws IOException {
+    return read(inputStream, new InternPool());
+  }
+
+  /**
+   * Read output from the Maven license:download-licenses goal from a stream,
+   * sharing coordinate strings and licenses through a pool.
+   *
+   * @param inputStream the licenses XML; not closed by this method
+   * @param pool        pool of canonical instances
+   * @return parsed file content
+   * @throws IOException on read or parse error
+   */
+  public static LicenseSummary read(InputStream inputStream, InternPool pool) throws IOException {
+    try {
+      XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+      try {
+        return readSummary(reader, pool);
+      } finally {
+        reader.close();
+      }
+    } catch (XMLStreamException e) {
+      throw new IOException("Unable to parse XML of the license file", e);
+    }
+  }
+
+  /**
+   * Read output from the Maven license:download-licenses goal using JAXB.
+   * <p>
+   * Produces the same result as {@link #read(Path)}; kept for callers that
+   * depend on the JAXB binding of {@link LicenseSummary}.
    *
    * @param file path to the licenses XML file.
    * @return parsed file content
    * @throws IOException   on read error
    * @throws JAXBException on parse error
    */
-  public static LicenseSummary read(Path file) throws IOException, JAXBException {
-    JAXBContext jaxbContext = JAXBContext.newInstance(LicenseSummary.class);
-    Unmarshaller jaxbUnmarshaller = jaxbContext.createUnmarshaller();
+  public static LicenseSummary readJaxb(Path file) throws IOException, JAXBException {
+    Unmarshaller jaxbUnmarshaller = getJaxbContext().createUnmarshaller();
 
     try (BufferedReader r = Files.newBufferedReader(file)) {
       return (LicenseSummary) jaxbUnmarshaller.unmarshal(r);
     }
   }
+
+  /**
+   * Map the licenses of a license summary onto the artifacts of a dependency
+   * hierarchy. Licenses are matched on groupId:artifactId:version; artifacts
+   * without a license entry are mapped to an empty list.
+   *
+   * @param summary   parsed output of the license:download-licenses goal
+   * @param hierarchy parsed output of the dependency:tree goal
+   * @return an unmodifiable map of every artifact in the hierarchy, in
+   * traversal order, to its unmodifiable list of licenses
+   */
+  public static Map<MavenArtifact, List<License>> mapLicenses(LicenseSummary summary, MavenDependency hierarchy) {
+    /**
+     * Read license information into a map of groupId:artifactId:version to
+     * List-of-licenses.
+     */
+    Map<String, List<License>> licenseMap = new HashMap<>();
+    for (LicenseSummary.Dependency dependency : summary.getDependencies()) {
+      if (dependency.getLicenses() != null) {
+        licenseMap.put(dependency.getVersionedArtifactName(), dependency.getLicenses());
+      }
+    }
+
+    /**
+     * Map licenses to our actual artifacts.
+     */
+    Map<MavenArtifact, List<License>> licenses = new LinkedHashMap<>();
+    for (MavenDependency dependency : hierarchy.getFlattenedDependencies()) {
+      if (licenses.containsKey(dependency.getArtifact())) {
+        /**
+         * Artifacts repeat throughout the tree; only map each one once.
+         */
+        continue;
+      }
+      final String versionedArtifact = dependency.getArtifact().getVersionedArtifactName();
+      List<License> licenseList = licenseMap.getOrDefault(versionedArtifact, Collections.emptyList());
+      licenses.put(dependency.getArtifact(), Collections.unmodifiableList(licenseList));
+    }
+    return Collections.unmodifiableMap(licenses);
+  }
+
+  /**
+   * Get the shared JAXB context, creating it on first use.
+   *
+   * @return the JAXB context for LicenseSummary
+   * @throws JAXBException on failure to create the context
+   */
+  private static JAXBContext getJaxbContext() throws JAXBException {
+    JAXBContext context = jaxbContext;
+    if (context == null) {
+      synchronized (LicenseReader.class) {
+        context = jaxbContext;
+        if (context == null) {
+          context = JAXBContext.newInstance(LicenseSummary.class);
+          jaxbContext = context;
+        }
+      }
+    }
+    return context;
+  }
+
+  /**
+   * Create the shared StAX factory.
+   *
+   * @return a configured XMLInputFactory
+   */
+  private static XMLInputFactory createInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    return factory;
+  }
+
+  /**
+   * Read the licenseSummary document, collecting every dependency element.
+   *
+   * @param reader a stream reader positioned at the start of the document
+   * @param pool   pool of canonical instances
+   * @return parsed file content
+   * @throws XMLStreamException on parse error
+   */
+  private static LicenseSummary readSummary(XMLStreamReader reader, InternPool pool) throws XMLStreamException {
+    LicenseSummary summary = new LicenseSummary();
+    while (reader.hasNext()) {
+      if (reader.next() == XMLStreamConstants.START_ELEMENT && "dependency".equals(reader.getLocalName())) {
+        summary.getDependencies().add(readDependency(reader, pool));
+      }
+    }
+    return summary;
+  }
+
+  /**
+   * Read a single dependency element.
+   *
+   * @param reader a stream reader positioned at the dependency start element
+   * @param pool   pool of canonical instances
+   * @return the dependency
+   * @throws XMLStreamException on parse error
+   */
+  private static LicenseSummary.Dependency readDependency(XMLStreamReader reader, InternPool pool) throws XMLStreamException {
+    String groupId = null;
+    String artifactId = null;
+    String version = null;
+    List<License> licenses = null;
+    int event;
+    while ((event = reader.next()) != XMLStreamConstants.END_ELEMENT || !"dependency".equals(reader.getLocalName())) {
+      if (event != XMLStreamConstants.START_ELEMENT) {
+        continue;
+      }
+      switch (reader.getLocalName()) {
+        case "groupId":
+          groupId = pool.intern(reader.getElementText());
+          break;
+        case "artifactId":
+          artifactId = pool.intern(reader.getElementText());
+          break;
+        case "version":
+          version = pool.intern(reader.getElementText());
+          break;
+        case "licenses":
+          licenses = new ArrayList<>();
+          break;
+        case "license":
+          if (licenses == null) {
+            licenses = new ArrayList<>();
+          }
+          licenses.add(readLicense(reader, pool));
+          break;
+        default:
+          break;
+      }
+    }
+    return new LicenseSummary.Dependency(groupId, artifactId, version, licenses);
+  }
+
+  /**
+   * Read a single license element.
+   *
+   * @param reader a stream reader positioned at the license start element
+   * @param pool   pool of canonical instances
+   * @return the license
+   * @throws XMLStreamException on parse error
+   */
+  private static License readLicense(XMLStreamReader reader, InternPool pool) throws XMLStreamException {
+    String name = null;
+    String url = null;
+    String distribution = null;
+    String file = null;
+    int event;
+    while ((event = reader.next()) != XMLStreamConstants.END_ELEMENT || !"license".equals(reader.getLocalName())) {
+      if (event != XMLStreamConstants.START_ELEMENT) {
+        continue;
+      }
+      switch (reader.getLocalName()) {
+        case "name":
+          name = reader.getElementText();
+          break;
+        case "url":
+          url = reader.getElementText();
+          break;
+        case "distribution":
+          distribution = reader.getElementText();
+          break;
+        case "file":
+          file = reader.getElementText();
+          break;
+        default:
+          break;
+      }
+    }
+    return pool.license(name, url, distribution, file);
+  }
 }
@@ -56,6 +56,13 @@ public class LicenseSummary {
       this.licenses = null;
     }
 
+    public Dependency(String groupId, String artifactId, String version, List<License> licenses) {
+      this.groupId = groupId;
+      this.artifactId = artifactId;
+      this.version = version;
+      this.licenses = licenses;
+    }
+
     /**
      * Get a short string identifier of this artifact.
      * @return versioned artifact name
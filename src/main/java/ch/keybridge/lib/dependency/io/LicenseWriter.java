@@ -0,0 +1,114 @@
+package ch.keybridge.lib.dependency.io;
+
+import ch.keybridge.lib.dependency.model.License;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utilities for printing the licenses of maven artifacts, as returned by
+ * {@link LicenseReader#mapLicenses(LicenseSummary, ch.keybridge.lib.dependency.model.MavenDependency)}.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class LicenseWriter {
+
+  /**
+   * Write the licenses of artifacts in the given format, in the iteration
+   * order of the map.
+   *
+   * @param licenses   licenses by artifact
+   * @param format     output format
+   * @param appendable output
+   * @throws IOException in case of failure to write to the output.
+   */
+  public static void write(Map<MavenArtifact, List<License>> licenses, LicenseFormat format, Appendable appendable) throws IOException {
+    switch (format) {
+      case JSON:
+        writeJson(licenses, appendable);
+        break;
+      case CSV:
+        writeCsv(licenses, appendable);
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported format: " + format);
+    }
+  }
+
+  private static void writeJson(Map<MavenArtifact, List<License>> licenses, Appendable out) throws IOException {
+    out.append('[');
+    boolean first = true;
+    for (Map.Entry<MavenArtifact, List<License>> entry : licenses.entrySet()) {
+      MavenArtifact artifact = entry.getKey();
+      if (!first) {
+        out.append(',');
+      }
+      first = false;
+      out.append("{\"groupId\":");
+      DependencyWriter.appendJson(out, artifact.getGroupId());
+      out.append(",\"artifactId\":");
+      DependencyWriter.appendJson(out, artifact.getArtifactId());
+      if (artifact.getPackaging() != null) {
+        out.append(",\"packaging\":");
+        DependencyWriter.appendJson(out, artifact.getPackaging());
+      }
+      out.append(",\"version\":");
+      DependencyWriter.appendJson(out, artifact.getVersion());
+      out.append(",\"licenses\":[");
+      for (int i = 0; i < entry.getValue().size(); i++) {
+        License license = entry.getValue().get(i);
+        if (i > 0) {
+          out.append(',');
+        }
+        out.append("{\"name\":");
+        DependencyWriter.appendJson(out, license.getName());
+        out.append(",\"url\":");
+        DependencyWriter.appendJson(out, license.getUrl());
+        out.append(",\"distribution\":");
+        DependencyWriter.appendJson(out, license.getDistribution());
+        out.append(",\"file\":");
+        DependencyWriter.appendJson(out, license.getFile());
+        out.append('}');
+      }
+      out.append("]}");
+    }
+    out.append("]\n");
+  }
+
+  private static void writeCsv(Map<MavenArtifact, List<License>> licenses, Appendable out) throws IOException {
+    out.append("groupId,artifactId,packaging,version,license,url,distribution,file\n");
+    for (Map.Entry<MavenArtifact, List<License>> entry : licenses.entrySet()) {
+      if (entry.getValue().isEmpty()) {
+        appendCsvArtifact(entry.getKey(), out);
+        out.append(",,,\n");
+      }
+      for (License license : entry.getValue()) {
+        appendCsvArtifact(entry.getKey(), out);
+        DependencyWriter.appendCsv(out, license.getName());
+        out.append(',');
+        DependencyWriter.appendCsv(out, license.getUrl());
+        out.append(',');
+        DependencyWriter.appendCsv(out, license.getDistribution());
+        out.append(',');
+        DependencyWriter.appendCsv(out, license.getFile());
+        out.append('\n');
+      }
+    }
+  }
+
+  /**
+   * Append the coordinate fields of an artifact and a trailing separator.
+   */
+  private static void appendCsvArtifact(MavenArtifact artifact, Appendable out) throws IOException {
+    DependencyWriter.appendCsv(out, artifact.getGroupId());
+    out.append(',');
+    DependencyWriter.appendCsv(out, artifact.getArtifactId());
+    out.append(',');
+    DependencyWriter.appendCsv(out, artifact.getPackaging());
+    out.append(',');
+    DependencyWriter.appendCsv(out, artifact.getVersion());
+    out.append(',');
+  }
+}
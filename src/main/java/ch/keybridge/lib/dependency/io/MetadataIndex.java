@@ -0,0 +1,50 @@
+package ch.keybridge.lib.dependency.io;
+
+import ch.keybridge.lib.dependency.model.License;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import java.util.List;
+import java.util.Map;
+import lombok.Value;
+
+/**
+ * The content of a precompiled binary metadata index: the dependency
+ * hierarchy and the licenses mapped onto its artifacts.
+ * <p>
+ * The binary layout is written by {@link MetadataIndexWriter} and read by
+ * {@link MetadataIndexReader}. All numbers are big-endian.
+ * <pre>
+ * int    magic "MVNX"
+ * short  format version
+ * int    string count, then per string: int byte length (-1 for null), UTF-8 bytes
+ * int    artifact count, then per artifact: int groupId, artifactId, packaging, version (string indexes)
+ * int    node count, then per node in depth-first order:
+ *          int artifact index, byte scope ordinal (-1 for none), int parent node index (-1 for the root)
+ * int    license count, then per license: int name, url, distribution, file (string indexes)
+ * int    mapping count, then per mapping: int artifact index, int license count, int license indexes
+ * </pre>
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+@Value
+public class MetadataIndex {
+
+  /**
+   * Magic number at the start of every index file: "MVNX".
+   */
+  static final int MAGIC = 0x4D564E58;
+  /**
+   * The format version written by this library.
+   */
+  static final short FORMAT_VERSION = 1;
+
+  /**
+   * The dependency hierarchy.
+   */
+  private final MavenDependency dependencyHierarchy;
+  /**
+   * Licenses of every artifact in the hierarchy.
+   */
+  private final Map<MavenArtifact, List<License>> licenses;
+}
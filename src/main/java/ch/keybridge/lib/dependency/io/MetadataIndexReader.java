@@ -0,0 +1,222 @@
+package ch.keybridge.lib.dependency.io;
+
+import ch.keybridge.lib.dependency.model.InternPool;
+import ch.keybridge.lib.dependency.model.License;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import ch.keybridge.lib.dependency.model.MavenDependencyScope;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Reads the precompiled binary metadata index described in
+ * {@link MetadataIndex}.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class MetadataIndexReader {
+
+  private static final MavenDependencyScope[] SCOPES = MavenDependencyScope.values();
+  /**
+   * The message of every error in the structure of an index.
+   */
+  private static final String CORRUPT = "Truncated or corrupt metadata index";
+
+  /**
+   * Read a metadata index from a memory-mapped file.
+   *
+   * @param file path to the index file
+   * @return the index content
+   * @throws IOException on read error or if the file is not a valid index
+   */
+  public static MetadataIndex read(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Read a metadata index from a stream in one sequential read.
+   *
+   * @param inputStream the index stream; not closed by this method
+   * @return the index content
+   * @throws IOException on read error or if the stream is not a valid index
+   */
+  public static MetadataIndex read(InputStream inputStream) throws IOException {
+    return read(inputStream, new InternPool());
+  }
+
+  /**
+   * Read a metadata index from a stream in one sequential read, sharing
+   * strings, artifacts and licenses through a pool.
+   *
+   * @param inputStream the index stream; not closed by this method
+   * @param pool        pool of canonical instances
+   * @return the index content
+   * @throws IOException on read error or if the stream is not a valid index
+   */
+  public static MetadataIndex read(InputStream inputStream, InternPool pool) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+    byte[] buffer = new byte[8192];
+    int count;
+    while ((count = inputStream.read(buffer)) != -1) {
+      bytes.write(buffer, 0, count);
+    }
+    return read(ByteBuffer.wrap(bytes.toByteArray()), pool);
+  }
+
+  /**
+   * Read a metadata index from a buffer.
+   *
+   * @param buffer the index content, from its current position
+   * @return the index content
+   * @throws IOException if the buffer is not a valid index
+   */
+  public static MetadataIndex read(ByteBuffer buffer) throws IOException {
+    return read(buffer, new InternPool());
+  }
+
+  /**
+   * Read a metadata index from a buffer, sharing strings, artifacts and
+   * licenses through a pool. Artifacts and licenses that occur in other
+   * data read through the same pool are the same instance.
+   *
+   * @param buffer the index content, from its current position
+   * @param pool   pool of canonical instances
+   * @return the index content
+   * @throws IOException if the buffer is not a valid index
+   */
+  public static MetadataIndex read(ByteBuffer buffer, InternPool pool) throws IOException {
+    try {
+      if (buffer.getInt() != MetadataIndex.MAGIC) {
+        throw new IOException("Not a metadata index");
+      }
+      short version = buffer.getShort();
+      if (version != MetadataIndex.FORMAT_VERSION) {
+        throw new IOException("Unsupported metadata index version " + version);
+      }
+
+      String[] strings = new String[count(buffer, 4)];
+      byte[] scratch = new byte[256];
+      for (int i = 0; i < strings.length; i++) {
+        int length = buffer.getInt();
+        if (length > buffer.remaining()) {
+          throw new IOException(CORRUPT);
+        }
+        if (length >= 0) {
+          if (length > scratch.length) {
+            scratch = new byte[length];
+          }
+          buffer.get(scratch, 0, length);
+          strings[i] = pool.intern(new String(scratch, 0, length, StandardCharsets.UTF_8));
+        }
+      }
+
+      MavenArtifact[] artifacts = new MavenArtifact[count(buffer, 16)];
+      for (int i = 0; i < artifacts.length; i++) {
+        artifacts[i] = pool.artifact(string(strings, buffer.getInt()), string(strings, buffer.getInt()),
+                                     string(strings, buffer.getInt()), string(strings, buffer.getInt()));
+      }
+
+      int nodeCount = count(buffer, 9);
+      if (nodeCount == 0) {
+        throw new IOException("Metadata index has no dependency hierarchy");
+      }
+      int[] nodeArtifacts = new int[nodeCount];
+      byte[] nodeScopes = new byte[nodeCount];
+      int[] nodeParents = new int[nodeCount];
+      int[] childCounts = new int[nodeCount];
+      for (int i = 0; i < nodeCount; i++) {
+        nodeArtifacts[i] = buffer.getInt();
+        nodeScopes[i] = buffer.get();
+        nodeParents[i] = buffer.getInt();
+        if (i > 0) {
+          if (nodeParents[i] < 0 || nodeParents[i] >= i) {
+            throw new IOException("Invalid parent index in metadata index");
+          }
+          childCounts[nodeParents[i]]++;
+        }
+      }
+      /**
+       * Nodes are in depth-first order, so every child comes after its
+       * parent. Build frozen nodes in reverse order, filling each parent's
+       * child array from the end.
+       */
+      MavenDependency[][] children = new MavenDependency[nodeCount][];
+      MavenDependency root = null;
+      for (int i = nodeCount - 1; i >= 0; i--) {
+        MavenDependency[] nodeChildren = children[i];
+        MavenDependency node = new MavenDependency(artifacts[nodeArtifacts[i]],
+                                                   nodeScopes[i] < 0 ? null : SCOPES[nodeScopes[i]],
+                                                   nodeChildren == null ? Collections.emptyList() : Arrays.asList(nodeChildren));
+        children[i] = null;
+        int parent = nodeParents[i];
+        if (i == 0) {
+          root = node;
+        } else {
+          if (children[parent] == null) {
+            children[parent] = new MavenDependency[childCounts[parent]];
+          }
+          children[parent][--childCounts[parent]] = node;
+        }
+      }
+
+      License[] licenses = new License[count(buffer, 16)];
+      for (int i = 0; i < licenses.length; i++) {
+        licenses[i] = pool.license(string(strings, buffer.getInt()), string(strings, buffer.getInt()),
+                                   string(strings, buffer.getInt()), string(strings, buffer.getInt()));
+      }
+
+      int mappingCount = count(buffer, 8);
+      Map<MavenArtifact, List<License>> licenseMap = new LinkedHashMap<>(mappingCount * 4 / 3 + 1);
+      for (int i = 0; i < mappingCount; i++) {
+        MavenArtifact artifact = artifacts[buffer.getInt()];
+        License[] artifactLicenses = new License[count(buffer, 4)];
+        for (int j = 0; j < artifactLicenses.length; j++) {
+          artifactLicenses[j] = licenses[buffer.getInt()];
+        }
+        licenseMap.put(artifact, pool.intern(Arrays.asList(artifactLicenses)));
+      }
+      return new MetadataIndex(root, Collections.unmodifiableMap(licenseMap));
+    } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+      throw new IOException(CORRUPT, e);
+    }
+  }
+
+  /**
+   * Read the number of entries of a table and check that the rest of the
+   * buffer can hold them, before an array is allocated for them.
+   *
+   * @param buffer    the index content
+   * @param entrySize the smallest size of an entry in bytes
+   * @return the number of entries
+   * @throws IOException if the count is negative or too large
+   */
+  private static int count(ByteBuffer buffer, int entrySize) throws IOException {
+    int count = buffer.getInt();
+    if (count < 0 || count > buffer.remaining() / entrySize) {
+      throw new IOException(CORRUPT);
+    }
+    return count;
+  }
+
+  /**
+   * Look up a string table entry.
+   *
+   * @param strings the string table
+   * @param index   the index, -1 for null
+   * @return the string
+   */
+  private static String string(String[] strings, int index) {
+    return index < 0 ? null : strings[index];
+  }
+}
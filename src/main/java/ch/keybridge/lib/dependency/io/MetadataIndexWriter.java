@@ -0,0 +1,212 @@
+package ch.keybridge.lib.dependency.io;
+
+import ch.keybridge.lib.dependency.model.License;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Writes the precompiled binary metadata index described in
+ * {@link MetadataIndex}.
+ * <p>
+ * Run at build time, after the dependency:tree and
+ * license:download-licenses goals, to place {@code metadata.idx} next to
+ * {@code dependency-tree.txt}:
+ * <pre>
+ * java ch.keybridge.lib.dependency.io.MetadataIndexWriter target/classes
+ * </pre>
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class MetadataIndexWriter {
+
+  /**
+   * Build directory layout, relative to the classes output directory.
+   */
+  private static final String BUILD_DIRECTORY = "META-INF/build";
+  private static final String DEPENDENCY_FILE = "dependency-tree.txt";
+  private static final String LICENSE_FILE = "licenses.xml";
+  private static final String INDEX_FILE = "metadata.idx";
+
+  /**
+   * Compile the metadata index of a build output directory.
+   * <p>
+   * The license file is optional; without it every artifact is mapped to an
+   * empty list of licenses.
+   *
+   * @param args the classes output directory, e.g. target/classes
+   * @throws IOException on read or write error
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      throw new IllegalArgumentException("Usage: MetadataIndexWriter <classes directory>");
+    }
+    Path buildDirectory = Paths.get(args[0]).resolve(BUILD_DIRECTORY);
+    MavenDependency hierarchy = DependencyReader.parseDependencyHierarchy(buildDirectory.resolve(DEPENDENCY_FILE));
+    Path licenseFile = buildDirectory.resolve(LICENSE_FILE);
+    LicenseSummary summary = Files.exists(licenseFile) ? LicenseReader.read(licenseFile) : new LicenseSummary();
+    Map<MavenArtifact, List<License>> licenses = LicenseReader.mapLicenses(summary, hierarchy);
+    try (OutputStream outputStream = Files.newOutputStream(buildDirectory.resolve(INDEX_FILE))) {
+      write(new MetadataIndex(hierarchy, licenses), outputStream);
+    }
+  }
+
+  /**
+   * Write a metadata index.
+   *
+   * @param index        the metadata to write
+   * @param outputStream the output stream; not closed by this method
+   * @throws IOException on write error
+   */
+  public static void write(MetadataIndex index, OutputStream outputStream) throws IOException {
+    /**
+     * Flatten the hierarchy into depth-first order with parent indexes.
+     */
+    List<MavenDependency> nodes = new ArrayList<>();
+    List<Integer> parents = new ArrayList<>();
+    Deque<MavenDependency> stack = new ArrayDeque<>();
+    Deque<Integer> stackParents = new ArrayDeque<>();
+    stack.push(index.getDependencyHierarchy());
+    stackParents.push(-1);
+    while (!stack.isEmpty()) {
+      MavenDependency node = stack.pop();
+      int position = nodes.size();
+      nodes.add(node);
+      parents.add(stackParents.pop());
+      List<MavenDependency> children = node.getTransitiveDependencies();
+      for (int i = children.size() - 1; i >= 0; i--) {
+        stack.push(children.get(i));
+        stackParents.push(position);
+      }
+    }
+
+    /**
+     * Deduplicate strings, artifacts and licenses.
+     */
+    Table<String> strings = new Table<>();
+    Table<MavenArtifact> artifacts = new Table<>();
+    Table<License> licenses = new Table<>();
+    for (MavenDependency node : nodes) {
+      addArtifact(node.getArtifact(), artifacts, strings);
+    }
+    for (Map.Entry<MavenArtifact, List<License>> entry : index.getLicenses().entrySet()) {
+      addArtifact(entry.getKey(), artifacts, strings);
+      for (License license : entry.getValue()) {
+        if (licenses.add(license)) {
+          strings.add(license.getName());
+          strings.add(license.getUrl());
+          strings.add(license.getDistribution());
+          strings.add(license.getFile());
+        }
+      }
+    }
+
+    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream));
+    out.writeInt(MetadataIndex.MAGIC);
+    out.writeShort(MetadataIndex.FORMAT_VERSION);
+
+    out.writeInt(strings.size());
+    for (String string : strings.values) {
+      if (string == null) {
+        out.writeInt(-1);
+      } else {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+      }
+    }
+
+    out.writeInt(artifacts.size());
+    for (MavenArtifact artifact : artifacts.values) {
+      out.writeInt(strings.indexOf(artifact.getGroupId()));
+      out.writeInt(strings.indexOf(artifact.getArtifactId()));
+      out.writeInt(strings.indexOf(artifact.getPackaging()));
+      out.writeInt(strings.indexOf(artifact.getVersion()));
+    }
+
+    out.writeInt(nodes.size());
+    for (int i = 0; i < nodes.size(); i++) {
+      MavenDependency node = nodes.get(i);
+      out.writeInt(artifacts.indexOf(node.getArtifact()));
+      out.writeByte(node.getScope() == null ? -1 : node.getScope().ordinal());
+      out.writeInt(parents.get(i));
+    }
+
+    out.writeInt(licenses.size());
+    for (License license : licenses.values) {
+      out.writeInt(strings.indexOf(license.getName()));
+      out.writeInt(strings.indexOf(license.getUrl()));
+      out.writeInt(strings.indexOf(license.getDistribution()));
+      out.writeInt(strings.indexOf(license.getFile()));
+    }
+
+    out.writeInt(index.getLicenses().size());
+    for (Map.Entry<MavenArtifact, List<License>> entry : index.getLicenses().entrySet()) {
+      out.writeInt(artifacts.indexOf(entry.getKey()));
+      out.writeInt(entry.getValue().size());
+      for (License license : entry.getValue()) {
+        out.writeInt(licenses.indexOf(license));
+      }
+    }
+    out.flush();
+  }
+
+  /**
+   * Add an artifact and its strings to the tables.
+   *
+   * @param artifact  the artifact
+   * @param artifacts the artifact table
+   * @param strings   the string table
+   */
+  private static void addArtifact(MavenArtifact artifact, Table<MavenArtifact> artifacts, Table<String> strings) {
+    if (artifacts.add(artifact)) {
+      strings.add(artifact.getGroupId());
+      strings.add(artifact.getArtifactId());
+      strings.add(artifact.getPackaging());
+      strings.add(artifact.getVersion());
+    }
+  }
+
+  /**
+   * An insertion-ordered table of distinct values and their indexes.
+   *
+   * @param <T> the value type
+   */
+  private static class Table<T> {
+
+    private final Map<T, Integer> indexes = new HashMap<>();
+    private final List<T> values = new ArrayList<>();
+
+    /**
+     * Add a value if not yet present.
+     *
+     * @param value the value, may be null
+     * @return true if the value was added
+     */
+    boolean add(T value) {
+      if (indexes.containsKey(value)) {
+        return false;
+      }
+      indexes.put(value, values.size());
+      values.add(value);
+      return true;
+    }
+
+    int indexOf(T value) {
+      return indexes.get(value);
+    }
+
+    int size() {
+      return values.size();
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package ch.keybridge.lib.dependency.io;
+
+import ch.keybridge.lib.dependency.model.Advisory;
+import ch.keybridge.lib.dependency.model.InternPool;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Read security advisories in the OSV format from a local snapshot, e.g.
+ * the Maven dump of the OSV database. Only the Maven packages of an
+ * advisory are read; advisories that affect no Maven package are skipped.
+ * <p>
+ * A snapshot is either a directory of JSON files, searched recursively, a
+ * ZIP archive of JSON files, or a single JSON file with one advisory or an
+ * array of advisories.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class OsvReader {
+
+  /**
+   * Read the advisories of a snapshot.
+   *
+   * @param snapshot a directory, ZIP archive or JSON file
+   * @return the advisories with Maven packages
+   * @throws IOException on read or parse error
+   */
+  public static List<Advisory> read(Path snapshot) throws IOException {
+    InternPool pool = new InternPool();
+    List<Advisory> advisories = new ArrayList<>();
+    if (Files.isDirectory(snapshot)) {
+      List<Path> files;
+      try (Stream<Path> paths = Files.walk(snapshot)) {
+        files = paths.filter(p -> p.getFileName().toString().endsWith(".json")).sorted().collect(Collectors.toList());
+      }
+      for (Path file : files) {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+          read(inputStream, pool, advisories, file.toString());
+        }
+      }
+    } else if (snapshot.getFileName().toString().endsWith(".zip")) {
+      try (ZipFile zip = new ZipFile(snapshot.toFile())) {
+        Enumeration<? extends ZipEntry> entries = zip.entries();
+        while (entries.hasMoreElements()) {
+          ZipEntry entry = entries.nextElement();
+          if (!entry.isDirectory() && entry.getName().endsWith(".json")) {
+            try (InputStream inputStream = zip.getInputStream(entry)) {
+              read(inputStream, pool, advisories, snapshot + "!/" + entry.getName());
+            }
+          }
+        }
+      }
+    } else {
+      try (InputStream inputStream = Files.newInputStream(snapshot)) {
+        read(inputStream, pool, advisories, snapshot.toString());
+      }
+    }
+    return advisories;
+  }
+
+  /**
+   * Read the advisories of one JSON document.
+   *
+   * @param inputStream a JSON document with one advisory or an array of
+   *                    advisories; not closed by this method
+   * @return the advisories with Maven packages
+   * @throws IOException on read or parse error
+   */
+  public static List<Advisory> read(InputStream inputStream) throws IOException {
+    List<Advisory> advisories = new ArrayList<>();
+    read(inputStream, new InternPool(), advisories, "stream");
+    return advisories;
+  }
+
+  private static void read(InputStream inputStream, InternPool pool, List<Advisory> advisories, String source) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+    byte[] buffer = new byte[8192];
+    for (int n; (n = inputStream.read(buffer)) > 0;) {
+      bytes.write(buffer, 0, n);
+    }
+    Object document;
+    try {
+      document = JsonParser.parse(new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new IOException("Unable to parse the advisory " + source, e);
+    }
+    if (document instanceof List) {
+      for (Object value : (List<?>) document) {
+        addAdvisory(value, pool, advisories);
+      }
+    } else {
+      addAdvisory(document, pool, advisories);
+    }
+  }
+
+  private static void addAdvisory(Object value, InternPool pool, List<Advisory> advisories) {
+    if (!(value instanceof Map)) {
+      return;
+    }
+    Map<?, ?> json = (Map<?, ?>) value;
+    List<Advisory.Affected> affected = new ArrayList<>();
+    for (Object a : list(json.get("affected"))) {
+      Map<?, ?> entry = map(a);
+      Map<?, ?> pkg = map(entry.get("package"));
+      String name = string(pkg.get("name"));
+      String ecosystem = string(pkg.get("ecosystem"));
+      int separator = name == null ? -1 : name.indexOf(':');
+      if (ecosystem == null || !ecosystem.startsWith("Maven") || separator < 0) {
+        continue;
+      }
+      List<Advisory.Range> ranges = new ArrayList<>();
+      for (Object r : list(entry.get("ranges"))) {
+        addRanges(map(r), pool, ranges);
+      }
+      List<String> versions = new ArrayList<>();
+      for (Object v : list(entry.get("versions"))) {
+        if (v instanceof String) {
+          versions.add(pool.intern((String) v));
+        }
+      }
+      affected.add(new Advisory.Affected(pool.intern(name.substring(0, separator)), pool.intern(name.substring(separator + 1)),
+                                         Collections.unmodifiableList(ranges), Collections.unmodifiableList(versions)));
+    }
+    if (affected.isEmpty()) {
+      return;
+    }
+    List<String> aliases = new ArrayList<>();
+    for (Object alias : list(json.get("aliases"))) {
+      if (alias instanceof String) {
+        aliases.add((String) alias);
+      }
+    }
+    advisories.add(new Advisory(string(json.get("id")), Collections.unmodifiableList(aliases), string(json.get("summary")),
+                                string(map(json.get("database_specific")).get("severity")), Collections.unmodifiableList(affected)));
+  }
+
+  /**
+   * Turn the events of an OSV range into intervals. Each introduced event
+   * opens an interval, which the next fixed or last_affected event closes;
+   * an interval still open at the end is unbounded. Git commit ranges do
+   * not apply to Maven versions and are skipped.
+   */
+  private static void addRanges(Map<?, ?> range, InternPool pool, List<Advisory.Range> ranges) {
+    if ("GIT".equals(range.get("type"))) {
+      return;
+    }
+    boolean open = false;
+    String introduced = null;
+    for (Object e : list(range.get("events"))) {
+      Map<?, ?> event = map(e);
+      if (event.containsKey("introduced")) {
+        if (!open) {
+          String version = string(event.get("introduced"));
+          introduced = version == null || version.equals("0") ? null : pool.intern(version);
+          open = true;
+        }
+      } else if (open && event.containsKey("fixed")) {
+        ranges.add(new Advisory.Range(introduced, pool.intern(string(event.get("fixed"))), null));
+        open = false;
+      } else if (open && event.containsKey("last_affected")) {
+        ranges.add(new Advisory.Range(introduced, null, pool.intern(string(event.get("last_affected")))));
+        open = false;
+      }
+    }
+    if (open) {
+      ranges.add(new Advisory.Range(introduced, null, null));
+    }
+  }
+
+  private static List<?> list(Object value) {
+    return value instanceof List ? (List<?>) value : Collections.emptyList();
+  }
+
+  private static Map<?, ?> map(Object value) {
+    return value instanceof Map ? (Map<?, ?>) value : Collections.emptyMap();
+  }
+
+  private static String string(Object value) {
+    return value instanceof String ? (String) value : null;
+  }
+}
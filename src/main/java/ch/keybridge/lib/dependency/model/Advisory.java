@@ -0,0 +1,75 @@
+package ch.keybridge.lib.dependency.model;
+
+import java.util.List;
+import lombok.Value;
+
+/**
+ * A security advisory for Maven artifacts, as published in the OSV format.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+@Value
+public class Advisory {
+
+  /**
+   * The advisory id, e.g. GHSA-jfh8-c2jp-5v3q.
+   */
+  private final String id;
+  /**
+   * Other ids of the same vulnerability, e.g. CVE-2021-44228.
+   */
+  private final List<String> aliases;
+  private final String summary;
+  /**
+   * The severity assigned by the database, e.g. CRITICAL; null if none.
+   */
+  private final String severity;
+  /**
+   * The affected Maven artifacts.
+   */
+  private final List<Affected> affected;
+
+  /**
+   * The affected versions of one Maven artifact.
+   */
+  @Value
+  public static class Affected {
+
+    private final String groupId;
+    private final String artifactId;
+    /**
+     * Affected version ranges.
+     */
+    private final List<Range> ranges;
+    /**
+     * Affected versions, listed exactly.
+     */
+    private final List<String> versions;
+  }
+
+  /**
+   * A range of affected versions. A version is affected if it is at least
+   * the introduced version and below the fixed version, or at most the last
+   * affected version.
+   */
+  @Value
+  public static class Range {
+
+    /**
+     * The first affected version; null if every version up to the upper
+     * bound is affected.
+     */
+    private final String introduced;
+    /**
+     * The first version that is no longer affected; null if there is none
+     * or the range ends at the last affected version.
+     */
+    private final String fixed;
+    /**
+     * The last affected version; null if the range ends at a fixed version
+     * or is open.
+     */
+    private final String lastAffected;
+  }
+}
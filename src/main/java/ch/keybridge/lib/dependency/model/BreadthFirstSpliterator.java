@@ -0,0 +1,62 @@
+package ch.keybridge.lib.dependency.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * An iterative level-order spliterator over a dependency hierarchy. It keeps
+ * one level in memory at a time. Splitting is inherited from
+ * {@link Spliterators.AbstractSpliterator}, which hands out batches of
+ * elements.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+class BreadthFirstSpliterator extends Spliterators.AbstractSpliterator<MavenDependency> {
+
+  /**
+   * Deepest level to visit; the root is level 0.
+   */
+  private final int maxDepth;
+  private List<MavenDependency> level;
+  private List<MavenDependency> nextLevel;
+  private int depth;
+  private int position;
+
+  /**
+   * Create a spliterator over a whole hierarchy.
+   *
+   * @param root     the root of the hierarchy
+   * @param maxDepth deepest level to visit; the root is level 0
+   */
+  BreadthFirstSpliterator(MavenDependency root, int maxDepth) {
+    super(Long.MAX_VALUE, ORDERED | NONNULL | IMMUTABLE);
+    this.maxDepth = maxDepth;
+    this.level = new ArrayList<>(1);
+    this.level.add(root);
+    this.nextLevel = new ArrayList<>();
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super MavenDependency> action) {
+    if (position == level.size()) {
+      if (nextLevel.isEmpty()) {
+        return false;
+      }
+      List<MavenDependency> previous = level;
+      previous.clear();
+      level = nextLevel;
+      nextLevel = previous;
+      position = 0;
+      depth++;
+    }
+    MavenDependency node = level.get(position++);
+    if (depth < maxDepth) {
+      nextLevel.addAll(node.getTransitiveDependencies());
+    }
+    action.accept(node);
+    return true;
+  }
+}
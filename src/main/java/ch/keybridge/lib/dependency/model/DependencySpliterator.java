@@ -0,0 +1,185 @@
+package ch.keybridge.lib.dependency.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * An iterative pre-order depth-first spliterator over a dependency
+ * hierarchy.
+ * <p>
+ * The traversal state is an explicit stack of frames, one per level, so the
+ * depth of the tree is bounded by the heap rather than the thread stack.
+ * Splitting hands the first half of the remaining siblings at the shallowest
+ * level that has two or more of them, together with everything below it on
+ * the stack, to a new spliterator; whole subtrees therefore go to other
+ * threads, which lets parallel streams scale with the breadth of the tree.
+ * <p>
+ * Over a frozen hierarchy without a depth limit the cached subtree sizes make
+ * the spliterator {@link #SIZED} and {@link #SUBSIZED}.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+class DependencySpliterator implements Spliterator<MavenDependency> {
+
+  /**
+   * Deepest level to visit; the root is level 0.
+   */
+  private final int maxDepth;
+  /**
+   * Whether subtree sizes are known exactly.
+   */
+  private final boolean sized;
+  /**
+   * Frames of the current path, the root frame first.
+   */
+  private final List<Frame> stack;
+
+  /**
+   * Create a spliterator over a whole hierarchy.
+   *
+   * @param root     the root of the hierarchy
+   * @param maxDepth deepest level to visit; the root is level 0
+   */
+  DependencySpliterator(MavenDependency root, int maxDepth) {
+    this.maxDepth = maxDepth;
+    this.sized = root.isFrozen() && maxDepth == Integer.MAX_VALUE;
+    this.stack = new ArrayList<>();
+    this.stack.add(newFrame(root, 0, false));
+  }
+
+  private DependencySpliterator(int maxDepth, boolean sized, List<Frame> stack) {
+    this.maxDepth = maxDepth;
+    this.sized = sized;
+    this.stack = stack;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super MavenDependency> action) {
+    while (!stack.isEmpty()) {
+      Frame top = stack.get(stack.size() - 1);
+      if (!top.visited) {
+        top.visited = true;
+        action.accept(top.node);
+        return true;
+      }
+      if (top.next < top.end) {
+        MavenDependency child = top.node.getTransitiveDependencies().get(top.next++);
+        top.remaining -= weight(child);
+        stack.add(newFrame(child, top.depth + 1, true));
+        action.accept(child);
+        return true;
+      }
+      stack.remove(stack.size() - 1);
+    }
+    return false;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super MavenDependency> action) {
+    while (tryAdvance(action)) {
+      // drain
+    }
+  }
+
+  @Override
+  public Spliterator<MavenDependency> trySplit() {
+    for (int level = 0; level < stack.size(); level++) {
+      Frame frame = stack.get(level);
+      if (frame.end - frame.next < 2) {
+        continue;
+      }
+      int mid = (frame.next + frame.end) >>> 1;
+      List<MavenDependency> children = frame.node.getTransitiveDependencies();
+      long prefixWeight = 0;
+      for (int i = frame.next; i < mid; i++) {
+        prefixWeight += weight(children.get(i));
+      }
+      /**
+       * The prefix is the first half of this frame's remaining children,
+       * preceded by the frame itself if not yet visited and by all deeper
+       * frames, which come first in encounter order.
+       */
+      List<Frame> prefix = new ArrayList<>(stack.size() - level);
+      prefix.add(new Frame(frame.node, frame.depth, frame.visited, frame.next, mid, prefixWeight));
+      prefix.addAll(stack.subList(level + 1, stack.size()));
+      stack.subList(level + 1, stack.size()).clear();
+      frame.visited = true;
+      frame.next = mid;
+      frame.remaining -= prefixWeight;
+      return new DependencySpliterator(maxDepth, sized, prefix);
+    }
+    return null;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Exact when {@link #SIZED}. Otherwise a lower bound: the unvisited frames
+   * plus the remaining direct children at each level, not counting their
+   * subtrees.
+   */
+  @Override
+  public long estimateSize() {
+    long size = 0;
+    for (Frame frame : stack) {
+      size += frame.remaining + (frame.visited ? 0 : 1);
+    }
+    return size;
+  }
+
+  @Override
+  public int characteristics() {
+    return sized
+           ? ORDERED | NONNULL | IMMUTABLE | SIZED | SUBSIZED
+           : ORDERED | NONNULL | IMMUTABLE;
+  }
+
+  /**
+   * Create the frame of a node at a depth, covering all of its children that
+   * are within the depth limit.
+   */
+  private Frame newFrame(MavenDependency node, int depth, boolean visited) {
+    List<MavenDependency> children = node.getTransitiveDependencies();
+    int end = depth < maxDepth ? children.size() : 0;
+    long remaining = end;
+    if (sized) {
+      remaining = node.subtreeSize() - 1;
+    }
+    return new Frame(node, depth, visited, 0, end, remaining);
+  }
+
+  /**
+   * Number of elements a child contributes: its subtree size when sized,
+   * otherwise one.
+   */
+  private long weight(MavenDependency child) {
+    return sized ? child.subtreeSize() : 1;
+  }
+
+  /**
+   * Traversal state at one level: a node, whether it has been emitted, the
+   * range of its children still to visit and the number of elements in that
+   * range.
+   */
+  private static class Frame {
+
+    final MavenDependency node;
+    final int depth;
+    boolean visited;
+    int next;
+    int end;
+    long remaining;
+
+    Frame(MavenDependency node, int depth, boolean visited, int next, int end, long remaining) {
+      this.node = node;
+      this.depth = depth;
+      this.visited = visited;
+      this.next = next;
+      this.end = end;
+      this.remaining = remaining;
+    }
+  }
+}
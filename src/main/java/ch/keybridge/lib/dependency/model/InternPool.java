@@ -0,0 +1,410 @@
+package ch.keybridge.lib.dependency.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A pool of canonical instances of coordinate strings, Maven artifacts,
+ * licenses and dependency subtrees.
+ * <p>
+ * Large dependency trees repeat the same groupIds, versions, artifacts and
+ * licenses many times. Readers route every value they create through a pool
+ * so that equal values share one instance; this reduces the retained heap
+ * and turns most equality checks into identity checks. Applications built
+ * on the same libraries also repeat whole subtrees, which
+ * {@link #intern(MavenDependency)} stores once.
+ * <p>
+ * A pool is thread-safe and may be shared between readers and threads. All
+ * tables are concurrent hash maps: lookups take no lock, and insertions lock
+ * only one bin. It holds strong references to everything it has seen, so it
+ * should live as long as the data read through it, not longer.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class InternPool {
+
+  private final ConcurrentMap<String, String> strings = new ConcurrentHashMap<>();
+  private final ConcurrentMap<MavenArtifact, MavenArtifact> artifacts = new ConcurrentHashMap<>();
+  private final ConcurrentMap<License, License> licenses = new ConcurrentHashMap<>();
+  private final ConcurrentMap<List<License>, List<License>> licenseLists = new ConcurrentHashMap<>();
+  /**
+   * The canonical licenses of every artifact read with licenses, shared by
+   * the license views of all hierarchies.
+   */
+  private final ConcurrentMap<MavenArtifact, List<License>> artifactLicenses = new ConcurrentHashMap<>();
+  /**
+   * Canonical frozen subtrees, keyed by their {@link Node}: the content
+   * hash, artifact and scope of a subtree and the identity of its canonical
+   * transitive dependencies. A lookup never walks a subtree.
+   */
+  private final ConcurrentMap<Node, MavenDependency> dependencies = new ConcurrentHashMap<>();
+
+  /**
+   * Get the canonical instance of a string.
+   *
+   * @param value a string, may be null
+   * @return the canonical instance, or null
+   */
+  public String intern(String value) {
+    if (value == null) {
+      return null;
+    }
+    String existing = strings.putIfAbsent(value, value);
+    return existing == null ? value : existing;
+  }
+
+  /**
+   * Get the canonical instance of an artifact, built from canonical strings.
+   *
+   * @param artifact an artifact, may be null
+   * @return the canonical instance, or null
+   */
+  public MavenArtifact intern(MavenArtifact artifact) {
+    if (artifact == null) {
+      return null;
+    }
+    MavenArtifact existing = artifacts.get(artifact);
+    if (existing != null) {
+      return existing;
+    }
+    return artifact(artifact.getGroupId(), artifact.getArtifactId(), artifact.getPackaging(), artifact.getVersion());
+  }
+
+  /**
+   * Get the canonical instance of an artifact with the given coordinates.
+   *
+   * @param groupId    the group id
+   * @param artifactId the artifact id
+   * @param packaging  the packaging, may be null
+   * @param version    the version
+   * @return the canonical artifact
+   */
+  public MavenArtifact artifact(String groupId, String artifactId, String packaging, String version) {
+    MavenArtifact artifact = new MavenArtifact(intern(groupId), intern(artifactId), intern(packaging), intern(version));
+    MavenArtifact existing = artifacts.putIfAbsent(artifact, artifact);
+    return existing == null ? artifact : existing;
+  }
+
+  /**
+   * Get the canonical instance of a license, built from canonical strings.
+   *
+   * @param license a license, may be null
+   * @return the canonical instance, or null
+   */
+  public License intern(License license) {
+    if (license == null) {
+      return null;
+    }
+    License existing = licenses.get(license);
+    if (existing != null) {
+      return existing;
+    }
+    return license(license.getName(), license.getUrl(), license.getDistribution(), license.getFile());
+  }
+
+  /**
+   * Get the canonical instance of a license with the given fields.
+   *
+   * @param name         the license name
+   * @param url          the license URL
+   * @param distribution the distribution mechanism
+   * @param file         the local license file name
+   * @return the canonical license
+   */
+  public License license(String name, String url, String distribution, String file) {
+    License license = new License(intern(name), intern(url), intern(distribution), intern(file));
+    License existing = licenses.putIfAbsent(license, license);
+    return existing == null ? license : existing;
+  }
+
+  /**
+   * Get the canonical instance of a list of licenses, built from canonical
+   * licenses.
+   *
+   * @param licenses a list of licenses, may be null
+   * @return the canonical unmodifiable list, or null
+   */
+  public List<License> intern(List<License> licenses) {
+    if (licenses == null) {
+      return null;
+    }
+    List<License> existing = licenseLists.get(licenses);
+    if (existing != null) {
+      return existing;
+    }
+    License[] canonical = new License[licenses.size()];
+    for (int i = 0; i < canonical.length; i++) {
+      canonical[i] = intern(licenses.get(i));
+    }
+    List<License> list = Collections.unmodifiableList(Arrays.asList(canonical));
+    existing = licenseLists.putIfAbsent(list, list);
+    return existing == null ? list : existing;
+  }
+
+  /**
+   * Add the licenses of artifacts to the pool and get the licenses of a
+   * hierarchy as a view of the pool. The view maps every distinct artifact
+   * of the hierarchy, in depth-first order, to its licenses; like
+   * LicenseReader.mapLicenses() it maps an artifact without licenses to an
+   * empty list.
+   * <p>
+   * The view holds no entries of its own, so hierarchies that share
+   * artifacts share their license lists and the retained heap grows with
+   * the number of distinct artifacts rather than with the number of
+   * hierarchies. An artifact has one license list in the pool: licenses
+   * added later for the same artifact replace it in every view. Lookups walk
+   * the hierarchy; copy the view into a map to query it often.
+   *
+   * @param hierarchy a frozen, preferably canonical, dependency hierarchy
+   * @param licenses  the licenses by artifact, may be empty
+   * @return an unmodifiable view of the licenses of the hierarchy
+   */
+  public Map<MavenArtifact, List<License>> licenses(MavenDependency hierarchy, Map<MavenArtifact, List<License>> licenses) {
+    for (Map.Entry<MavenArtifact, List<License>> entry : licenses.entrySet()) {
+      /**
+       * An empty list means the license file did not list the artifact; keep
+       * the licenses another hierarchy read for it.
+       */
+      if (!entry.getValue().isEmpty()) {
+        artifactLicenses.put(intern(entry.getKey()), intern(entry.getValue()));
+      }
+    }
+    return new LicenseView(hierarchy, artifactLicenses);
+  }
+
+  /**
+   * Get the canonical instance of a dependency subtree: a frozen hierarchy,
+   * equal to the given one, whose artifacts and transitive dependencies are
+   * all canonical. Equal subtrees of different hierarchies become one
+   * instance, so hierarchies that share libraries share their subtrees, and
+   * the retained heap grows with the number of distinct subtrees rather
+   * than with the number of hierarchies.
+   * <p>
+   * The lookup goes top-down: a subtree of canonical transitive
+   * dependencies, e.g. one returned by this method, is replaced whole
+   * without visiting them. Other subtrees are canonicalized bottom-up, one
+   * level at a time, so equal subtrees are found without comparing them
+   * deeply.
+   *
+   * @param dependency a dependency hierarchy, may be null
+   * @return the canonical frozen instance, or null
+   */
+  public MavenDependency intern(MavenDependency dependency) {
+    if (dependency == null) {
+      return null;
+    }
+    MavenDependency root = dependency.freeze();
+    MavenDependency existing = dependencies.get(new Node(root));
+    if (existing != null) {
+      return existing;
+    }
+    /**
+     * Canonicalize bottom-up with an explicit stack, as in
+     * MavenDependency.freeze(). Each entry is a dependency not in the pool
+     * and the canonical copies of its transitive dependencies completed so
+     * far.
+     */
+    Deque<MavenDependency> nodes = new ArrayDeque<>();
+    Deque<MavenDependency[]> children = new ArrayDeque<>();
+    Deque<int[]> positions = new ArrayDeque<>();
+    nodes.push(root);
+    children.push(new MavenDependency[root.getTransitiveDependencies().size()]);
+    positions.push(new int[1]);
+    MavenDependency canonical = null;
+    while (!nodes.isEmpty()) {
+      MavenDependency node = nodes.peek();
+      MavenDependency[] canonicalChildren = children.peek();
+      int[] position = positions.peek();
+      if (canonical != null) {
+        canonicalChildren[position[0]++] = canonical;
+        canonical = null;
+      }
+      if (position[0] < canonicalChildren.length) {
+        MavenDependency child = node.getTransitiveDependencies().get(position[0]);
+        canonical = dependencies.get(new Node(child));
+        if (canonical == null) {
+          nodes.push(child);
+          children.push(new MavenDependency[child.getTransitiveDependencies().size()]);
+          positions.push(new int[1]);
+        }
+      } else {
+        nodes.pop();
+        children.pop();
+        positions.pop();
+        canonical = canonical(node, canonicalChildren);
+      }
+    }
+    return canonical;
+  }
+
+  /**
+   * Add a frozen dependency to the pool, given the canonical copies of its
+   * transitive dependencies. The dependency itself is reused if it already
+   * holds canonical instances only.
+   */
+  private MavenDependency canonical(MavenDependency dependency, MavenDependency[] transitiveDependencies) {
+    MavenArtifact artifact = intern(dependency.getArtifact());
+    boolean reuse = artifact == dependency.getArtifact();
+    for (int i = 0; reuse && i < transitiveDependencies.length; i++) {
+      reuse = transitiveDependencies[i] == dependency.getTransitiveDependencies().get(i);
+    }
+    MavenDependency candidate = reuse
+                                ? dependency
+                                : new MavenDependency(artifact, dependency.getScope(), Arrays.asList(transitiveDependencies));
+    MavenDependency existing = dependencies.putIfAbsent(new Node(candidate), candidate);
+    return existing == null ? candidate : existing;
+  }
+
+  /**
+   * Get the number of distinct strings in the pool.
+   *
+   * @return string count
+   */
+  public int getStringCount() {
+    return strings.size();
+  }
+
+  /**
+   * Get the number of distinct artifacts in the pool.
+   *
+   * @return artifact count
+   */
+  public int getArtifactCount() {
+    return artifacts.size();
+  }
+
+  /**
+   * Get the number of distinct licenses in the pool.
+   *
+   * @return license count
+   */
+  public int getLicenseCount() {
+    return licenses.size();
+  }
+
+  /**
+   * Get the number of artifacts with licenses in the pool.
+   *
+   * @return licensed artifact count
+   */
+  public int getLicensedArtifactCount() {
+    return artifactLicenses.size();
+  }
+
+  /**
+   * Get the number of distinct dependency subtrees in the pool.
+   *
+   * @return subtree count
+   */
+  public int getDependencyCount() {
+    return dependencies.size();
+  }
+
+  /**
+   * The key of a frozen subtree. Two keys are equal if their subtrees have
+   * the same content hash, size, artifact and scope and the same transitive
+   * dependency instances. For canonical subtrees, whose transitive
+   * dependencies are canonical, this is equality of the whole subtree,
+   * decided in time proportional to the number of direct dependencies.
+   */
+  private static final class Node {
+
+    private final MavenDependency dependency;
+
+    Node(MavenDependency dependency) {
+      this.dependency = dependency;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Node)) {
+        return false;
+      }
+      MavenDependency a = dependency;
+      MavenDependency b = ((Node) o).dependency;
+      if (a == b) {
+        return true;
+      }
+      if (a.getContentHash() != b.getContentHash() || a.subtreeSize() != b.subtreeSize() || a.getScope() != b.getScope()
+        || !Objects.equals(a.getArtifact(), b.getArtifact())) {
+        return false;
+      }
+      List<MavenDependency> left = a.getTransitiveDependencies();
+      List<MavenDependency> right = b.getTransitiveDependencies();
+      if (left.size() != right.size()) {
+        return false;
+      }
+      for (int i = 0; i < left.size(); i++) {
+        if (left.get(i) != right.get(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return dependency.hashCode();
+    }
+  }
+
+  /**
+   * The licenses of the distinct artifacts of a hierarchy, looked up in the
+   * licenses of the pool.
+   */
+  private static final class LicenseView extends AbstractMap<MavenArtifact, List<License>> {
+
+    private final MavenDependency hierarchy;
+    private final Map<MavenArtifact, List<License>> licenses;
+
+    LicenseView(MavenDependency hierarchy, Map<MavenArtifact, List<License>> licenses) {
+      this.hierarchy = hierarchy;
+      this.licenses = licenses;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return hierarchy.stream().anyMatch(dependency -> dependency.getArtifact().equals(key));
+    }
+
+    @Override
+    public List<License> get(Object key) {
+      return containsKey(key) ? licenses((MavenArtifact) key) : null;
+    }
+
+    @Override
+    public Set<Map.Entry<MavenArtifact, List<License>>> entrySet() {
+      return new AbstractSet<Map.Entry<MavenArtifact, List<License>>>() {
+        @Override
+        public Iterator<Map.Entry<MavenArtifact, List<License>>> iterator() {
+          return hierarchy.stream()
+            .map(MavenDependency::getArtifact)
+            .distinct()
+            .<Map.Entry<MavenArtifact, List<License>>>map(artifact -> new AbstractMap.SimpleImmutableEntry<>(artifact, licenses(artifact)))
+            .iterator();
+        }
+
+        @Override
+        public int size() {
+          return (int) hierarchy.stream().map(MavenDependency::getArtifact).distinct().count();
+        }
+      };
+    }
+
+    private List<License> licenses(MavenArtifact artifact) {
+      return licenses.getOrDefault(artifact, Collections.emptyList());
+    }
+  }
+}
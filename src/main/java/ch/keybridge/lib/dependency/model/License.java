@@ -1,8 +1,13 @@
 package ch.keybridge.lib.dependency.model;
 
+import java.util.Objects;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
+import lombok.experimental.NonFinal;
 
 /**
  * @author Andrius Druzinis-Vitkus
@@ -27,6 +32,22 @@ public class License {
    * File name for the local copy of the license.
    */
   private final String file;
+  /**
+   * Hash code, computed on first use. Not computed in the constructor since
+   * JAXB sets the fields after construction. Transient, so ignored by JAXB.
+   */
+  @NonFinal
+  @Getter(AccessLevel.NONE)
+  @ToString.Exclude
+  private transient int hash;
+  /**
+   * SPDX identifier, looked up on first use; the empty string if the
+   * license is not known. Transient, so ignored by JAXB.
+   */
+  @NonFinal
+  @Getter(AccessLevel.NONE)
+  @ToString.Exclude
+  private transient String spdxId;
 
   public License() {
     this.name = null;
@@ -41,4 +62,51 @@ public class License {
     this.distribution = distribution;
     this.file = file;
   }
+
+  /**
+   * Get the SPDX identifier of this license, from its name or else its URL.
+   * The lookup is done once per instance; readers share one instance per
+   * distinct license.
+   *
+   * @return the SPDX identifier or expression, e.g. BSD-3-Clause; null if
+   *         the license is not known
+   * @see SpdxLicenses#identify(String, String)
+   */
+  public String getSpdxId() {
+    String id = spdxId;
+    if (id == null) {
+      id = SpdxLicenses.identify(name, url);
+      if (id == null) {
+        id = "";
+      }
+      spdxId = id;
+    }
+    return id.isEmpty() ? null : id;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof License)) {
+      return false;
+    }
+    License other = (License) o;
+    return hashCode() == other.hashCode()
+      && Objects.equals(name, other.name)
+      && Objects.equals(url, other.url)
+      && Objects.equals(distribution, other.distribution)
+      && Objects.equals(file, other.file);
+  }
+
+  @Override
+  public int hashCode() {
+    int h = hash;
+    if (h == 0) {
+      h = Objects.hash(name, url, distribution, file);
+      hash = h;
+    }
+    return h;
+  }
 }
@@ -1,6 +1,10 @@
 package ch.keybridge.lib.dependency.model;
 
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.Value;
+import lombok.experimental.NonFinal;
 
 /**
  * An immutable Maven artifact DTO.
@@ -14,12 +18,92 @@ public class MavenArtifact {
   private final String artifactId;
   private final String packaging;
   private final String version;
+  /**
+   * Hash code, computed once. Artifacts are used as map keys on every
+   * lookup path.
+   */
+  @Getter(AccessLevel.NONE)
+  private final int hash;
+  /**
+   * 64-bit content hash, computed on first use; 0 until then.
+   */
+  @NonFinal
+  @Getter(AccessLevel.NONE)
+  private transient volatile long contentHash;
 
   public MavenArtifact(String groupId, String artifactId, String packaging, String version) {
     this.groupId = groupId;
     this.artifactId = artifactId;
     this.version = version;
     this.packaging = packaging;
+    this.hash = Objects.hash(groupId, artifactId, packaging, version);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof MavenArtifact)) {
+      return false;
+    }
+    MavenArtifact other = (MavenArtifact) o;
+    return hash == other.hash
+      && Objects.equals(groupId, other.groupId)
+      && Objects.equals(artifactId, other.artifactId)
+      && Objects.equals(packaging, other.packaging)
+      && Objects.equals(version, other.version);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  /**
+   * Get a 64-bit FNV-1a hash of the coordinates of this artifact. Unlike
+   * {@link #hashCode()} it is wide enough to identify an artifact among
+   * millions, and it is the same on any JVM.
+   *
+   * @return the content hash
+   */
+  public long getContentHash() {
+    long h = contentHash;
+    if (h == 0) {
+      h = 0xcbf29ce484222325L;
+      h = fnv1a(h, groupId);
+      h = fnv1a(h, artifactId);
+      h = fnv1a(h, packaging);
+      h = fnv1a(h, version);
+      contentHash = h;
+    }
+    return h;
+  }
+
+  /**
+   * Hash a field and a separator that keeps adjacent fields apart. A null
+   * field hashes differently from an empty one.
+   */
+  private static long fnv1a(long h, String value) {
+    if (value != null) {
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        h = (h ^ (c & 0xff)) * 0x100000001b3L;
+        h = (h ^ (c >>> 8)) * 0x100000001b3L;
+      }
+      h = (h ^ ':') * 0x100000001b3L;
+    }
+    return (h ^ 0xff) * 0x100000001b3L;
+  }
+
+  /**
+   * Get the parsed version of this artifact, for ordering. Parsed versions
+   * are cached per version string.
+   *
+   * @return the parsed version, or null if the artifact has no version
+   */
+  public MavenVersion getMavenVersion() {
+    return version == null ? null : MavenVersion.of(version);
   }
 
   @Override
@@ -1,13 +1,31 @@
 package ch.keybridge.lib.dependency.model;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
+import lombok.experimental.NonFinal;
 
 /**
  * An immutable DTO that represents a Maven dependency: a Maven artifact, its scope in the POM, and its transitive
  * dependencies.
+ * <p>
+ * A dependency is either open or frozen. An open dependency, created with
+ * {@link #MavenDependency(MavenArtifact, MavenDependencyScope)}, has a
+ * mutable list of transitive dependencies that can be filled while a
+ * hierarchy is assembled. A frozen dependency, created with
+ * {@link #MavenDependency(MavenArtifact, MavenDependencyScope, List)} or
+ * {@link #freeze()}, is deeply immutable: its transitive dependencies are
+ * frozen, held in an exact-size array, and its content hash and subtree size
+ * are computed once. Frozen hierarchies are safe to share between threads without
+ * locks and cheap to use as map keys. The readers in this library return
+ * frozen hierarchies. A view, created with
+ * {@link #view(MavenArtifact, MavenDependencyScope, List)}, presents a
+ * dependency held in another representation and behaves like an open
+ * dependency whose transitive dependencies cannot be modified.
  *
  * @author Andrius Druzinis-Vitkus
  * @since 0.0.1 created 2019-02-07
@@ -16,25 +34,404 @@ import lombok.Value;
 public class MavenDependency {
   private final MavenArtifact artifact;
   private final MavenDependencyScope scope;
-  final List<MavenDependency> transitiveDependencies = new ArrayList<>();
+  final List<MavenDependency> transitiveDependencies;
+  /**
+   * Content hash of a frozen dependency, computed bottom-up from the
+   * artifact, the scope and the content hashes of the transitive
+   * dependencies.
+   */
+  @Getter(AccessLevel.NONE)
+  @ToString.Exclude
+  private final long contentHash;
+  /**
+   * Number of dependencies in the subtree of a frozen dependency, including
+   * itself; -1 for an open dependency.
+   */
+  @Getter(AccessLevel.NONE)
+  @ToString.Exclude
+  private final int size;
+  /**
+   * The flattened subtree of a frozen dependency, built on first use.
+   */
+  @NonFinal
+  @Getter(AccessLevel.NONE)
+  @ToString.Exclude
+  private volatile List<MavenDependency> flattened;
+
+  /**
+   * Create an open dependency with an empty, mutable list of transitive
+   * dependencies.
+   *
+   * @param artifact the Maven artifact
+   * @param scope    the scope, or null for the root of a hierarchy
+   */
+  public MavenDependency(MavenArtifact artifact, MavenDependencyScope scope) {
+    this(artifact, scope, new ArrayList<>(), 0, -1);
+  }
+
+  /**
+   * Create a frozen dependency. Open transitive dependencies are frozen.
+   *
+   * @param artifact               the Maven artifact
+   * @param scope                  the scope, or null for the root of a
+   *                               hierarchy
+   * @param transitiveDependencies the transitive dependencies; copied
+   */
+  public MavenDependency(MavenArtifact artifact, MavenDependencyScope scope, List<MavenDependency> transitiveDependencies) {
+    this(artifact, scope, freezeAll(transitiveDependencies));
+  }
+
+  /**
+   * Create a dependency over a list of transitive dependencies, which is used
+   * as is.
+   *
+   * @param contentHash the content hash, or 0 for an open dependency
+   * @param size        the subtree size, or -1 for an open dependency
+   */
+  private MavenDependency(MavenArtifact artifact, MavenDependencyScope scope, List<MavenDependency> transitiveDependencies,
+                          long contentHash, int size) {
+    this.artifact = artifact;
+    this.scope = scope;
+    this.transitiveDependencies = transitiveDependencies;
+    this.contentHash = contentHash;
+    this.size = size;
+  }
+
+  /**
+   * Create a read-only view of a dependency held in another representation.
+   * The list of transitive dependencies is used as is, without copying or
+   * freezing, so it may create its elements on demand. It must be
+   * unmodifiable and must not change.
+   * <p>
+   * A view behaves like an open dependency: hash code and flattening walk the
+   * subtree. Call {@link #freeze()} to get a frozen copy.
+   *
+   * @param artifact               the Maven artifact
+   * @param scope                  the scope, or null for the root of a
+   *                               hierarchy
+   * @param transitiveDependencies an unmodifiable list of transitive
+   *                               dependencies
+   * @return a view dependency
+   */
+  public static MavenDependency view(MavenArtifact artifact, MavenDependencyScope scope, List<MavenDependency> transitiveDependencies) {
+    return new MavenDependency(artifact, scope, transitiveDependencies, 0, -1);
+  }
+
+  /**
+   * Create a frozen dependency from an array of frozen dependencies, which is
+   * used as is.
+   */
+  private MavenDependency(MavenArtifact artifact, MavenDependencyScope scope, MavenDependency[] transitiveDependencies) {
+    this.artifact = artifact;
+    this.scope = scope;
+    this.transitiveDependencies = transitiveDependencies.length == 0
+                                  ? Collections.emptyList()
+                                  : new FrozenList(transitiveDependencies);
+    long h = baseContentHash(artifact, scope);
+    int s = 1;
+    for (MavenDependency dependency : transitiveDependencies) {
+      h = combine(h, dependency.contentHash);
+      s += dependency.size;
+    }
+    this.contentHash = h;
+    this.size = s;
+  }
+
+  /**
+   * Test whether this dependency is frozen, i.e. deeply immutable.
+   *
+   * @return true if frozen
+   */
+  public boolean isFrozen() {
+    return size >= 0;
+  }
 
   /**
-   * Get a flattened collection of dependencies stored in this hierarchy.
+   * Get a frozen copy of this hierarchy. A frozen dependency returns itself;
+   * frozen subtrees of an open hierarchy are reused as they are.
+   *
+   * @return the frozen hierarchy
+   */
+  public MavenDependency freeze() {
+    if (isFrozen()) {
+      return this;
+    }
+    /**
+     * Freeze bottom-up with an explicit stack so deep hierarchies do not
+     * exhaust the thread stack. Each entry is an open dependency and the
+     * frozen copies of its transitive dependencies completed so far.
+     */
+    Deque<MavenDependency> nodes = new ArrayDeque<>();
+    Deque<MavenDependency[]> children = new ArrayDeque<>();
+    Deque<int[]> positions = new ArrayDeque<>();
+    nodes.push(this);
+    children.push(new MavenDependency[transitiveDependencies.size()]);
+    positions.push(new int[1]);
+    MavenDependency frozen = null;
+    while (!nodes.isEmpty()) {
+      MavenDependency node = nodes.peek();
+      MavenDependency[] frozenChildren = children.peek();
+      int[] position = positions.peek();
+      if (frozen != null) {
+        frozenChildren[position[0]++] = frozen;
+        frozen = null;
+      }
+      if (position[0] < frozenChildren.length) {
+        MavenDependency child = node.transitiveDependencies.get(position[0]);
+        if (child.isFrozen()) {
+          frozen = child;
+        } else {
+          nodes.push(child);
+          children.push(new MavenDependency[child.transitiveDependencies.size()]);
+          positions.push(new int[1]);
+        }
+      } else {
+        nodes.pop();
+        children.pop();
+        positions.pop();
+        frozen = new MavenDependency(node.artifact, node.scope, frozenChildren);
+      }
+    }
+    return frozen;
+  }
+
+  /**
+   * Get a flattened collection of dependencies stored in this hierarchy, in
+   * depth-first order.
+   * <p>
+   * For a frozen hierarchy the collection is computed once, cached and
+   * unmodifiable. Otherwise a new modifiable collection is returned.
    * @return flattened collection of dependencies
    */
   public Collection<MavenDependency> getFlattenedDependencies() {
+    if (isFrozen()) {
+      List<MavenDependency> result = flattened;
+      if (result == null) {
+        MavenDependency[] dependencies = new MavenDependency[size];
+        int[] count = new int[1];
+        new DependencySpliterator(this, Integer.MAX_VALUE).forEachRemaining(d -> dependencies[count[0]++] = d);
+        result = new FrozenList(dependencies);
+        flattened = result;
+      }
+      return result;
+    }
     Collection<MavenDependency> dependencies = new ArrayList<>();
-    addRecursively(this, dependencies);
+    new DependencySpliterator(this, Integer.MAX_VALUE).forEachRemaining(dependencies::add);
     return dependencies;
   }
 
   /**
-   * Internal method to traverse the dependency hierarchy.
-   * @param dependency a valid MavenDependency
-   * @param collector a collection into which all dependencies will be added.
+   * Stream this dependency and all of its transitive dependencies in
+   * depth-first order. The stream splits along subtrees, so it can be
+   * processed in parallel.
+   * @return stream of dependencies
+   */
+  public Stream<MavenDependency> stream() {
+    return stream(TraversalOrder.DEPTH_FIRST, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Stream this dependency and all of its transitive dependencies.
+   * @param order the traversal order
+   * @return stream of dependencies
+   */
+  public Stream<MavenDependency> stream(TraversalOrder order) {
+    return stream(order, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Stream this dependency and its transitive dependencies down to a maximum
+   * depth. The traversal is iterative, so deep hierarchies do not exhaust the
+   * thread stack.
+   * @param order the traversal order
+   * @param maxDepth the deepest level to include: 0 for this dependency only,
+   * 1 to add its direct dependencies, and so on
+   * @return stream of dependencies
+   */
+  public Stream<MavenDependency> stream(TraversalOrder order, int maxDepth) {
+    if (maxDepth < 0) {
+      throw new IllegalArgumentException("Negative depth: " + maxDepth);
+    }
+    Spliterator<MavenDependency> spliterator = order == TraversalOrder.BREADTH_FIRST
+                                               ? new BreadthFirstSpliterator(this, maxDepth)
+                                               : new DependencySpliterator(this, maxDepth);
+    return StreamSupport.stream(spliterator, false);
+  }
+
+  /**
+   * Get the number of dependencies in the subtree of a frozen dependency,
+   * including itself.
+   *
+   * @return subtree size, or -1 if this dependency is open
+   */
+  int subtreeSize() {
+    return size;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof MavenDependency)) {
+      return false;
+    }
+    /**
+     * Compare both trees pairwise with an explicit stack so deep hierarchies
+     * do not exhaust the thread stack. Frozen pairs with different content
+     * hashes or sizes differ; identical subtrees are skipped.
+     */
+    Deque<MavenDependency> left = new ArrayDeque<>();
+    Deque<MavenDependency> right = new ArrayDeque<>();
+    left.push(this);
+    right.push((MavenDependency) o);
+    while (!left.isEmpty()) {
+      MavenDependency a = left.pop();
+      MavenDependency b = right.pop();
+      if (a == b) {
+        continue;
+      }
+      if (a.isFrozen() && b.isFrozen() && (a.contentHash != b.contentHash || a.size != b.size)) {
+        return false;
+      }
+      if (!Objects.equals(a.artifact, b.artifact) || a.scope != b.scope
+        || a.transitiveDependencies.size() != b.transitiveDependencies.size()) {
+        return false;
+      }
+      for (int i = a.transitiveDependencies.size() - 1; i >= 0; i--) {
+        left.push(a.transitiveDependencies.get(i));
+        right.push(b.transitiveDependencies.get(i));
+      }
+    }
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Constant time for a frozen dependency. An open dependency hashes its
+   * whole subtree on every call.
+   */
+  @Override
+  public int hashCode() {
+    long h = getContentHash();
+    return (int) (h ^ (h >>> 32));
+  }
+
+  /**
+   * Get a 64-bit hash of the content of this dependency and its whole
+   * subtree: artifacts, scopes and order. Equal dependencies have equal
+   * content hashes on any JVM, and different subtrees collide with
+   * negligible probability, so two subtrees with the same content hash can
+   * be treated as identical without comparing them.
+   * <p>
+   * Constant time for a frozen dependency. An open dependency hashes its
+   * whole subtree on every call.
+   *
+   * @return the content hash
+   */
+  public long getContentHash() {
+    if (isFrozen()) {
+      return contentHash;
+    }
+    /**
+     * Hash bottom-up with an explicit stack, as freeze() does. Each entry is
+     * an open dependency, the hash of it and its transitive dependencies
+     * completed so far, and the position of the next one. Frozen subtrees
+     * contribute their cached hash.
+     */
+    Deque<MavenDependency> nodes = new ArrayDeque<>();
+    Deque<long[]> hashes = new ArrayDeque<>();
+    Deque<int[]> positions = new ArrayDeque<>();
+    nodes.push(this);
+    hashes.push(new long[]{baseContentHash(artifact, scope)});
+    positions.push(new int[1]);
+    while (true) {
+      MavenDependency node = nodes.peek();
+      long[] hash = hashes.peek();
+      int[] position = positions.peek();
+      if (position[0] < node.transitiveDependencies.size()) {
+        MavenDependency child = node.transitiveDependencies.get(position[0]++);
+        if (child.isFrozen()) {
+          hash[0] = combine(hash[0], child.contentHash);
+        } else {
+          nodes.push(child);
+          hashes.push(new long[]{baseContentHash(child.artifact, child.scope)});
+          positions.push(new int[1]);
+        }
+      } else {
+        nodes.pop();
+        hashes.pop();
+        positions.pop();
+        if (nodes.isEmpty()) {
+          return hash[0];
+        }
+        long[] parent = hashes.peek();
+        parent[0] = combine(parent[0], hash[0]);
+      }
+    }
+  }
+
+  /**
+   * Content hash of the artifact and scope. The scope ordinal is used rather
+   * than the enum's identity hash code so that hashes are stable across JVMs.
    */
-  private static void addRecursively(MavenDependency dependency, Collection<MavenDependency> collector) {
-    collector.add(dependency);
-    dependency.getTransitiveDependencies().forEach(t -> addRecursively(t, collector));
+  private static long baseContentHash(MavenArtifact artifact, MavenDependencyScope scope) {
+    long h = artifact == null ? 0 : artifact.getContentHash();
+    return mix(h + (scope == null ? 0 : scope.ordinal() + 1));
+  }
+
+  /**
+   * Fold the content hash of the next transitive dependency into a hash.
+   * Order-sensitive: a dependency's position among its siblings matters.
+   */
+  private static long combine(long h, long child) {
+    return mix(31 * h + child);
+  }
+
+  /**
+   * The 64-bit finalizer of MurmurHash3: every input bit affects every
+   * output bit.
+   */
+  static long mix(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    return h ^ (h >>> 33);
+  }
+
+  /**
+   * Freeze a list of dependencies into an exact-size array.
+   */
+  private static MavenDependency[] freezeAll(List<MavenDependency> dependencies) {
+    MavenDependency[] frozen = new MavenDependency[dependencies.size()];
+    for (int i = 0; i < frozen.length; i++) {
+      frozen[i] = dependencies.get(i).freeze();
+    }
+    return frozen;
+  }
+
+  /**
+   * An unmodifiable list view over an array that is never modified after
+   * construction.
+   */
+  private static class FrozenList extends AbstractList<MavenDependency> implements RandomAccess {
+
+    private final MavenDependency[] elements;
+
+    FrozenList(MavenDependency[] elements) {
+      this.elements = elements;
+    }
+
+    @Override
+    public MavenDependency get(int index) {
+      return elements[index];
+    }
+
+    @Override
+    public int size() {
+      return elements.length;
+    }
   }
 }
@@ -15,6 +15,12 @@ public enum MavenDependencyScope {
   SYSTEM,
   IMPORT;
 
+  /**
+   * Cached copy of {@link #values()}, which otherwise clones the array on
+   * every call.
+   */
+  private static final MavenDependencyScope[] VALUES = values();
+
   /**
    * Parse from string (case-insensitive).
    * @param value a scope name
@@ -22,6 +28,11 @@ public enum MavenDependencyScope {
    */
   public static MavenDependencyScope fromString(String value) {
     Objects.requireNonNull(value, "maven dependency scope");
-    return valueOf(value.toUpperCase());
+    for (MavenDependencyScope scope : VALUES) {
+      if (scope.name().equalsIgnoreCase(value)) {
+        return scope;
+      }
+    }
+    throw new IllegalArgumentException("Unknown maven dependency scope: " + value);
   }
 }
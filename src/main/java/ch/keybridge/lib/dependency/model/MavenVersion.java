@@ -0,0 +1,412 @@
+package ch.keybridge.lib.dependency.model;
+
+import ch.keybridge.lib.dependency.util.CacheCounter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A Maven version, parsed once and ordered by the rules of Maven's
+ * ComparableVersion.
+ * <p>
+ * A version is split into numbers and qualifiers at '.', '-' and at every
+ * transition between digits and letters. Numbers compare numerically, with
+ * no limit on their size. Qualifiers order as
+ * {@code alpha < beta < milestone < rc = cr < snapshot < "" = ga = final =
+ * release < sp}, then any other qualifier, alphabetically. A single letter
+ * followed by a digit abbreviates a qualifier: {@code a1} is
+ * {@code alpha-1}, {@code b1} is {@code beta-1} and {@code m1} is
+ * {@code milestone-1}. Trailing zeros and release qualifiers are ignored, so
+ * {@code 1}, {@code 1.0}, {@code 1.0.0} and {@code 1.0.0.Final} are equal.
+ * <p>
+ * Instances are immutable. {@link #of(String)} caches them per distinct
+ * version string, up to a fixed number of strings, so that the versions of
+ * a dependency tree are parsed once; {@link #ofUncached(String)} does not cache,
+ * for versions that are only used once, such as advisory bounds.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public final class MavenVersion implements Comparable<MavenVersion> {
+
+  /**
+   * The well-known qualifiers in order. The empty string is a release.
+   */
+  private static final List<String> QUALIFIERS = Arrays.asList("alpha", "beta", "milestone", "rc", "snapshot", "", "sp");
+  /**
+   * The rank of a release among the qualifiers.
+   */
+  private static final int RELEASE = QUALIFIERS.indexOf("");
+  /**
+   * Parsed versions by version string.
+   */
+  private static final ConcurrentMap<String, MavenVersion> CACHE = new ConcurrentHashMap<>();
+  /**
+   * The most version strings cached. Further strings are parsed on every
+   * call; a dependency tree has a few thousand distinct versions at most.
+   */
+  private static final int CACHE_LIMIT = 8192;
+  private static final CacheCounter COUNTER = CacheCounter.of("maven-version");
+
+  private final String version;
+  private final ListItem items;
+  /**
+   * Hash of the normalized parts, so that versions that compare equal hash
+   * equal.
+   */
+  private final int hash;
+
+  private MavenVersion(String version) {
+    this.version = version;
+    this.items = parse(version);
+    this.hash = items.hashCode();
+  }
+
+  /**
+   * Get the parsed form of a version string.
+   *
+   * @param version the version, e.g. 4.0.1.Final
+   * @return the shared instance for the string, or a new instance once the
+   *         cache is full
+   */
+  public static MavenVersion of(String version) {
+    MavenVersion result = CACHE.get(version);
+    if (result == null) {
+      COUNTER.miss();
+      result = new MavenVersion(version);
+      if (CACHE.size() < CACHE_LIMIT) {
+        MavenVersion existing = CACHE.putIfAbsent(version, result);
+        if (existing != null) {
+          result = existing;
+        }
+      }
+    } else {
+      COUNTER.hit();
+    }
+    return result;
+  }
+
+  /**
+   * Parse a version string without caching it.
+   *
+   * @param version the version, e.g. 4.0.1.Final
+   * @return a new instance
+   */
+  public static MavenVersion ofUncached(String version) {
+    return new MavenVersion(version);
+  }
+
+  /**
+   * Test whether this version orders before another.
+   *
+   * @param other the other version
+   * @return true if this version is lower
+   */
+  public boolean isBefore(MavenVersion other) {
+    return compareTo(other) < 0;
+  }
+
+  /**
+   * Test whether this version orders after another.
+   *
+   * @param other the other version
+   * @return true if this version is higher
+   */
+  public boolean isAfter(MavenVersion other) {
+    return compareTo(other) > 0;
+  }
+
+  /**
+   * Test whether this version is a snapshot, i.e. ends in -SNAPSHOT.
+   *
+   * @return true for a snapshot
+   */
+  public boolean isSnapshot() {
+    return version.regionMatches(true, version.length() - 8, "SNAPSHOT", 0, 8);
+  }
+
+  @Override
+  public int compareTo(MavenVersion other) {
+    if (this == other) {
+      return 0;
+    }
+    return items.compareTo(other.items);
+  }
+
+  /**
+   * Versions are equal if they order the same, even if they are written
+   * differently, e.g. 1.0 and 1.0.0.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof MavenVersion)) {
+      return false;
+    }
+    MavenVersion other = (MavenVersion) o;
+    return hash == other.hash && items.compareTo(other.items) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  /**
+   * Get the version string this version was parsed from.
+   */
+  @Override
+  public String toString() {
+    return version;
+  }
+
+  /**
+   * Split a version into nested lists of numbers and qualifiers. A '-', and
+   * a transition between digits and letters, opens a nested list, so that
+   * {@code 1-1} orders after {@code 1} but before {@code 1.1}.
+   */
+  private static ListItem parse(String version) {
+    String value = version.toLowerCase(Locale.ENGLISH);
+    ListItem root = new ListItem();
+    ListItem list = root;
+    Deque<ListItem> lists = new ArrayDeque<>();
+    lists.push(list);
+    boolean digit = false;
+    int start = 0;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '.' || c == '-') {
+        list.add(i == start ? NumberItem.ZERO : item(digit, value.substring(start, i)));
+        start = i + 1;
+        if (c == '-') {
+          list = list.addList();
+          lists.push(list);
+        }
+      } else if (Character.isDigit(c)) {
+        if (!digit && i > start) {
+          list.add(new QualifierItem(value.substring(start, i), true));
+          start = i;
+          list = list.addList();
+          lists.push(list);
+        }
+        digit = true;
+      } else {
+        if (digit && i > start) {
+          list.add(item(true, value.substring(start, i)));
+          start = i;
+          list = list.addList();
+          lists.push(list);
+        }
+        digit = false;
+      }
+    }
+    if (value.length() > start) {
+      list.add(item(digit, value.substring(start)));
+    }
+    /**
+     * Normalize innermost lists first, so emptied lists drop from their
+     * parents.
+     */
+    while (!lists.isEmpty()) {
+      lists.pop().normalize();
+    }
+    return root;
+  }
+
+  private static Item item(boolean digit, String value) {
+    return digit ? new NumberItem(value) : new QualifierItem(value, false);
+  }
+
+  /**
+   * A part of a version. Comparing to null compares to a missing part, i.e.
+   * to a zero or a release.
+   */
+  private interface Item {
+
+    int compareTo(Item other);
+
+    /**
+     * Test whether this part equals a missing one and can be dropped from
+     * the end of a list.
+     */
+    boolean isNull();
+  }
+
+  /**
+   * A number of any size, as its digits without leading zeros.
+   */
+  private static final class NumberItem implements Item {
+
+    static final NumberItem ZERO = new NumberItem("0");
+
+    private final String digits;
+
+    NumberItem(String value) {
+      int i = 0;
+      while (i < value.length() - 1 && value.charAt(i) == '0') {
+        i++;
+      }
+      this.digits = value.substring(i);
+    }
+
+    @Override
+    public int compareTo(Item other) {
+      if (other == null) {
+        return isNull() ? 0 : 1;
+      }
+      if (other instanceof NumberItem) {
+        String o = ((NumberItem) other).digits;
+        return digits.length() != o.length() ? Integer.compare(digits.length(), o.length()) : Integer.signum(digits.compareTo(o));
+      }
+      /**
+       * Numbers order after qualifiers and nested lists.
+       */
+      return 1;
+    }
+
+    @Override
+    public boolean isNull() {
+      return digits.equals("0");
+    }
+
+    @Override
+    public int hashCode() {
+      return digits.hashCode();
+    }
+  }
+
+  /**
+   * A qualifier, ranked by the well-known qualifiers.
+   */
+  private static final class QualifierItem implements Item {
+
+    private final String value;
+    /**
+     * The position in QUALIFIERS, or QUALIFIERS.size() for any other
+     * qualifier.
+     */
+    private final int rank;
+
+    QualifierItem(String value, boolean followedByDigit) {
+      if (followedByDigit && value.length() == 1) {
+        switch (value.charAt(0)) {
+          case 'a':
+            value = "alpha";
+            break;
+          case 'b':
+            value = "beta";
+            break;
+          case 'm':
+            value = "milestone";
+            break;
+          default:
+        }
+      }
+      switch (value) {
+        case "ga":
+        case "final":
+        case "release":
+          value = "";
+          break;
+        case "cr":
+          value = "rc";
+          break;
+        default:
+      }
+      int index = QUALIFIERS.indexOf(value);
+      this.value = value;
+      this.rank = index < 0 ? QUALIFIERS.size() : index;
+    }
+
+    @Override
+    public int compareTo(Item other) {
+      if (other == null) {
+        return Integer.compare(rank, RELEASE);
+      }
+      if (other instanceof QualifierItem) {
+        QualifierItem o = (QualifierItem) other;
+        int result = Integer.compare(rank, o.rank);
+        return result != 0 || rank < QUALIFIERS.size() ? result : Integer.signum(value.compareTo(o.value));
+      }
+      /**
+       * Qualifiers order before numbers and nested lists.
+       */
+      return -1;
+    }
+
+    @Override
+    public boolean isNull() {
+      return rank == RELEASE;
+    }
+
+    @Override
+    public int hashCode() {
+      return rank < QUALIFIERS.size() ? rank : value.hashCode();
+    }
+  }
+
+  /**
+   * A list of parts, nested after a '-' or a digit-letter transition.
+   */
+  private static final class ListItem extends ArrayList<Item> implements Item {
+
+    private static final long serialVersionUID = 1L;
+
+    ListItem addList() {
+      ListItem list = new ListItem();
+      add(list);
+      return list;
+    }
+
+    /**
+     * Drop trailing parts that equal a missing one, up to the last nested
+     * list.
+     */
+    void normalize() {
+      for (int i = size() - 1; i >= 0; i--) {
+        Item last = get(i);
+        if (last.isNull()) {
+          remove(i);
+        } else if (!(last instanceof ListItem)) {
+          break;
+        }
+      }
+      trimToSize();
+    }
+
+    @Override
+    public int compareTo(Item other) {
+      if (other == null) {
+        return isEmpty() ? 0 : get(0).compareTo(null);
+      }
+      if (other instanceof NumberItem) {
+        return -1;
+      }
+      if (other instanceof QualifierItem) {
+        return 1;
+      }
+      ListItem o = (ListItem) other;
+      for (int i = 0; i < size() || i < o.size(); i++) {
+        Item left = i < size() ? get(i) : null;
+        Item right = i < o.size() ? o.get(i) : null;
+        int result = left == null ? (right == null ? 0 : -right.compareTo(null)) : left.compareTo(right);
+        if (result != 0) {
+          return result;
+        }
+      }
+      return 0;
+    }
+
+    @Override
+    public boolean isNull() {
+      return isEmpty();
+    }
+  }
+}
@@ -0,0 +1,254 @@
+package ch.keybridge.lib.dependency.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Map the free-text license names and URLs of Maven POMs to SPDX license
+ * identifiers.
+ * <p>
+ * Names and URLs are normalized before lookup, so that "The Apache Software
+ * License, Version 2.0", "Apache License 2.0" and "Apache-2.0" all find the
+ * same entry. Names are lower-cased and split into words and numbers,
+ * filler words such as "the", "license" and "version" are dropped, and
+ * trailing ".0" is removed from version numbers. URLs lose their scheme,
+ * "www.", file extension and trailing slash. The lookup tables are
+ * normalized once, when the class is loaded, and are immutable.
+ * <p>
+ * Dual-licensed artifacts that name both licenses at once, such as
+ * GlassFish's CDDL + GPL, map to an SPDX expression with OR.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public final class SpdxLicenses {
+
+  /**
+   * SPDX identifiers by normalized license name.
+   */
+  private static final Map<String, String> BY_NAME;
+  /**
+   * SPDX identifiers by normalized license URL.
+   */
+  private static final Map<String, String> BY_URL;
+
+  static {
+    Map<String, String> names = new HashMap<>();
+    Map<String, String> urls = new HashMap<>();
+    add(names, urls, "Apache-2.0",
+        new String[]{"Apache License, Version 2.0", "The Apache Software License, Version 2.0", "Apache Software License 2.0",
+                     "Apache 2", "ASL 2.0", "Apache Public License 2.0", "The Apache License, Version 2.0"},
+        new String[]{"http://www.apache.org/licenses/LICENSE-2.0", "http://www.apache.org/licenses/LICENSE-2.0.txt",
+                     "http://www.apache.org/licenses/LICENSE-2.0.html", "https://opensource.org/licenses/Apache-2.0",
+                     "http://www.opensource.org/licenses/apache2.0.php"});
+    add(names, urls, "MIT",
+        new String[]{"MIT License", "The MIT License", "The MIT License (MIT)", "Bouncy Castle Licence"},
+        new String[]{"https://opensource.org/licenses/MIT", "http://www.opensource.org/licenses/mit-license.php",
+                     "http://www.bouncycastle.org/licence.html"});
+    add(names, urls, "BSD-2-Clause",
+        new String[]{"BSD 2-Clause License", "The BSD 2-Clause License", "Simplified BSD License", "FreeBSD License"},
+        new String[]{"https://opensource.org/licenses/BSD-2-Clause"});
+    add(names, urls, "BSD-3-Clause",
+        new String[]{"BSD 3-Clause License", "The BSD 3-Clause License", "New BSD License", "The New BSD License",
+                     "Modified BSD License", "Revised BSD License", "Eclipse Distribution License - v 1.0", "EDL 1.0"},
+        new String[]{"https://opensource.org/licenses/BSD-3-Clause", "http://www.opensource.org/licenses/bsd-license.php",
+                     "http://www.eclipse.org/org/documents/edl-v10.php"});
+    add(names, urls, "EPL-1.0",
+        new String[]{"Eclipse Public License 1.0", "Eclipse Public License - v 1.0", "EPL 1.0"},
+        new String[]{"http://www.eclipse.org/legal/epl-v10.html", "https://opensource.org/licenses/EPL-1.0"});
+    add(names, urls, "EPL-2.0",
+        new String[]{"Eclipse Public License 2.0", "Eclipse Public License - v 2.0", "EPL 2.0"},
+        new String[]{"https://www.eclipse.org/legal/epl-2.0/", "http://www.eclipse.org/legal/epl-v20.html",
+                     "https://opensource.org/licenses/EPL-2.0"});
+    add(names, urls, "LGPL-2.1-only",
+        new String[]{"GNU Lesser General Public License v2.1", "GNU Lesser General Public License, Version 2.1",
+                     "LGPL 2.1", "GNU LGPL 2.1", "LGPLv2.1"},
+        new String[]{"http://www.gnu.org/licenses/old-licenses/lgpl-2.1.html", "https://opensource.org/licenses/LGPL-2.1"});
+    add(names, urls, "LGPL-3.0-only",
+        new String[]{"GNU Lesser General Public License v3.0", "GNU Lesser General Public License, Version 3",
+                     "LGPL 3.0", "GNU LGPL 3", "LGPLv3"},
+        new String[]{"http://www.gnu.org/licenses/lgpl-3.0.html", "http://www.gnu.org/licenses/lgpl.html",
+                     "https://opensource.org/licenses/LGPL-3.0"});
+    add(names, urls, "GPL-2.0-only",
+        new String[]{"GNU General Public License v2.0", "GNU General Public License, Version 2", "GPL 2.0", "GPLv2"},
+        new String[]{"http://www.gnu.org/licenses/old-licenses/gpl-2.0.html", "https://opensource.org/licenses/GPL-2.0"});
+    add(names, urls, "GPL-2.0-only WITH Classpath-exception-2.0",
+        new String[]{"GNU General Public License, version 2, with the Classpath Exception",
+                     "GNU General Public License, version 2 with the GNU Classpath Exception", "GPL2 w/ CPE",
+                     "GPLv2 with Classpath Exception", "GPLv2+CE"},
+        new String[]{"http://openjdk.java.net/legal/gplv2+ce.html", "https://www.gnu.org/software/classpath/license.html"});
+    add(names, urls, "GPL-3.0-only",
+        new String[]{"GNU General Public License v3.0", "GNU General Public License, Version 3", "GPL 3.0", "GPLv3"},
+        new String[]{"http://www.gnu.org/licenses/gpl-3.0.html", "https://opensource.org/licenses/GPL-3.0"});
+    add(names, urls, "AGPL-3.0-only",
+        new String[]{"GNU Affero General Public License v3.0", "GNU Affero General Public License, Version 3", "AGPL 3.0", "AGPLv3"},
+        new String[]{"http://www.gnu.org/licenses/agpl-3.0.html", "https://opensource.org/licenses/AGPL-3.0"});
+    add(names, urls, "CDDL-1.0",
+        new String[]{"Common Development and Distribution License 1.0", "Common Development and Distribution License (CDDL) v1.0",
+                     "CDDL 1.0", "CDDL License"},
+        new String[]{"https://opensource.org/licenses/CDDL-1.0", "https://glassfish.dev.java.net/public/CDDLv1.0.html"});
+    add(names, urls, "CDDL-1.1",
+        new String[]{"Common Development and Distribution License 1.1", "CDDL 1.1"},
+        new String[]{"https://javaee.github.io/glassfish/LICENSE"});
+    add(names, urls, "CDDL-1.1 OR GPL-2.0-only WITH Classpath-exception-2.0",
+        new String[]{"CDDL + GPLv2 with classpath exception", "CDDL+GPL License", "CDDL/GPLv2+CE", "Dual license consisting of the CDDL v1.1 and GPL v2"},
+        new String[]{"https://glassfish.java.net/public/CDDL+GPL_1_1.html", "https://oss.oracle.com/licenses/CDDL+GPL-1.1",
+                     "https://github.com/javaee/javax.annotation/blob/master/LICENSE"});
+    add(names, urls, "MPL-1.1",
+        new String[]{"Mozilla Public License 1.1", "MPL 1.1"},
+        new String[]{"http://www.mozilla.org/MPL/MPL-1.1.html", "https://opensource.org/licenses/MPL-1.1"});
+    add(names, urls, "MPL-2.0",
+        new String[]{"Mozilla Public License 2.0", "Mozilla Public License, Version 2.0", "MPL 2.0"},
+        new String[]{"https://www.mozilla.org/MPL/2.0/", "https://opensource.org/licenses/MPL-2.0"});
+    add(names, urls, "CC0-1.0",
+        new String[]{"CC0", "CC0 1.0 Universal", "Public Domain, per Creative Commons CC0", "Creative Commons Zero"},
+        new String[]{"http://creativecommons.org/publicdomain/zero/1.0/"});
+    add(names, urls, "Unlicense",
+        new String[]{"The Unlicense"},
+        new String[]{"http://unlicense.org/"});
+    add(names, urls, "ISC",
+        new String[]{"ISC License"},
+        new String[]{"https://opensource.org/licenses/ISC"});
+    add(names, urls, "Zlib",
+        new String[]{"zlib License", "The zlib/libpng License"},
+        new String[]{"https://opensource.org/licenses/Zlib"});
+    BY_NAME = Collections.unmodifiableMap(names);
+    BY_URL = Collections.unmodifiableMap(urls);
+  }
+
+  private SpdxLicenses() {
+  }
+
+  /**
+   * Add a license to the lookup tables. The identifier is also a name.
+   */
+  private static void add(Map<String, String> names, Map<String, String> urls, String id, String[] aliases, String[] links) {
+    put(names, normalizeName(id), id);
+    for (String alias : aliases) {
+      put(names, normalizeName(alias), id);
+    }
+    for (String link : links) {
+      put(urls, normalizeUrl(link), id);
+    }
+  }
+
+  /**
+   * Add a table entry, failing if two licenses normalize to the same key.
+   */
+  private static void put(Map<String, String> table, String key, String id) {
+    String existing = table.put(key, id);
+    if (existing != null && !existing.equals(id)) {
+      throw new IllegalStateException("Both " + existing + " and " + id + " normalize to " + key);
+    }
+  }
+
+  /**
+   * Find the SPDX identifier of a license by its name, or else by its URL.
+   *
+   * @param name the license name, e.g. New BSD License; may be null
+   * @param url  the license URL; may be null
+   * @return the SPDX identifier or expression, e.g. BSD-3-Clause; null if
+   *         the license is not known
+   */
+  public static String identify(String name, String url) {
+    String id = name == null ? null : BY_NAME.get(normalizeName(name));
+    if (id == null && url != null) {
+      id = BY_URL.get(normalizeUrl(url));
+    }
+    return id;
+  }
+
+  /**
+   * Normalize a license name: lower case words and numbers separated by
+   * single spaces, without filler words, with a letter-digit boundary as a
+   * word break ("gplv2" is "gpl 2") and without trailing ".0" in numbers.
+   *
+   * @param name the name
+   * @return the normalized name
+   */
+  static String normalizeName(String name) {
+    String value = name.toLowerCase(Locale.ENGLISH);
+    StringBuilder sb = new StringBuilder(value.length());
+    int i = 0;
+    while (i < value.length()) {
+      char c = value.charAt(i);
+      if (!Character.isLetterOrDigit(c)) {
+        i++;
+        continue;
+      }
+      int start = i;
+      if (Character.isDigit(c)) {
+        while (i < value.length() && (Character.isDigit(value.charAt(i))
+                                      || (value.charAt(i) == '.' && i + 1 < value.length() && Character.isDigit(value.charAt(i + 1))))) {
+          i++;
+        }
+        String number = value.substring(start, i);
+        while (number.endsWith(".0")) {
+          number = number.substring(0, number.length() - 2);
+        }
+        append(sb, number);
+      } else {
+        while (i < value.length() && Character.isLetter(value.charAt(i))) {
+          i++;
+        }
+        String word = value.substring(start, i);
+        /**
+         * A "v" before a number is a version prefix: gplv2, v2.1.
+         */
+        if (word.endsWith("v") && i < value.length() && Character.isDigit(value.charAt(i))) {
+          word = word.substring(0, word.length() - 1);
+        }
+        switch (word) {
+          case "":
+          case "the":
+          case "license":
+          case "licence":
+          case "licenses":
+          case "version":
+          case "v":
+            break;
+          default:
+            append(sb, word);
+        }
+      }
+    }
+    return sb.toString();
+  }
+
+  private static void append(StringBuilder sb, String word) {
+    if (sb.length() > 0) {
+      sb.append(' ');
+    }
+    sb.append(word);
+  }
+
+  /**
+   * Normalize a license URL: lower case, without scheme, "www.", file
+   * extension or trailing slash.
+   *
+   * @param url the URL
+   * @return the normalized URL
+   */
+  static String normalizeUrl(String url) {
+    String value = url.trim().toLowerCase(Locale.ENGLISH);
+    int scheme = value.indexOf("://");
+    if (scheme >= 0) {
+      value = value.substring(scheme + 3);
+    }
+    if (value.startsWith("www.")) {
+      value = value.substring(4);
+    }
+    while (value.endsWith("/")) {
+      value = value.substring(0, value.length() - 1);
+    }
+    for (String extension : new String[]{".html", ".htm", ".php", ".txt"}) {
+      if (value.endsWith(extension)) {
+        value = value.substring(0, value.length() - extension.length());
+        break;
+      }
+    }
+    return value;
+  }
+}
@@ -0,0 +1,21 @@
+package ch.keybridge.lib.dependency.model;
+
+/**
+ * The order in which a dependency hierarchy is traversed.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public enum TraversalOrder {
+  /**
+   * Pre-order depth-first: a dependency, then the full subtree of each of its
+   * transitive dependencies in turn. This is the order of the
+   * dependency:tree output.
+   */
+  DEPTH_FIRST,
+  /**
+   * Level order: the root, then all direct dependencies, then all of their
+   * transitive dependencies, and so on.
+   */
+  BREADTH_FIRST
+}
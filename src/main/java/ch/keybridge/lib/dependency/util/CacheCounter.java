@@ -0,0 +1,78 @@
+package ch.keybridge.lib.dependency.util;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide hit and miss counts of a cache.
+ * <p>
+ * Every cache in this library counts its lookups in a counter registered by
+ * name, e.g. {@code maven-version}. Instances of the same kind of cache, such
+ * as the response caches of several AppMetadata instances, share one
+ * counter. Counting uses {@link LongAdder}, so it does not contend between
+ * threads.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public final class CacheCounter {
+
+  private static final ConcurrentMap<String, CacheCounter> COUNTERS = new ConcurrentHashMap<>();
+
+  private final String name;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  private CacheCounter(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Get the counter of a cache, registering it on first use.
+   *
+   * @param name the cache name
+   * @return the shared counter
+   */
+  public static CacheCounter of(String name) {
+    return COUNTERS.computeIfAbsent(name, CacheCounter::new);
+  }
+
+  /**
+   * Get the current counts of every registered cache.
+   *
+   * @return the statistics by cache name, in name order
+   */
+  public static Map<String, CacheStatistics> getStatistics() {
+    Map<String, CacheStatistics> statistics = new TreeMap<>();
+    for (CacheCounter counter : COUNTERS.values()) {
+      statistics.put(counter.name, counter.getSnapshot());
+    }
+    return statistics;
+  }
+
+  /**
+   * Count a lookup that found its value in the cache.
+   */
+  public void hit() {
+    hits.increment();
+  }
+
+  /**
+   * Count a lookup that had to compute or load its value.
+   */
+  public void miss() {
+    misses.increment();
+  }
+
+  /**
+   * Get the current counts.
+   *
+   * @return the statistics of this cache
+   */
+  public CacheStatistics getSnapshot() {
+    return new CacheStatistics(name, hits.sum(), misses.sum());
+  }
+}
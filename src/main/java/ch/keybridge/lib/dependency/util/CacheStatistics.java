@@ -0,0 +1,27 @@
+package ch.keybridge.lib.dependency.util;
+
+import lombok.Value;
+
+/**
+ * The hit and miss counts of a cache at one point in time.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+@Value
+public class CacheStatistics {
+
+  private final String name;
+  private final long hits;
+  private final long misses;
+
+  /**
+   * Get the share of lookups that were hits.
+   *
+   * @return the hit ratio between 0 and 1; 0 if there were no lookups
+   */
+  public double getHitRatio() {
+    long lookups = hits + misses;
+    return lookups == 0 ? 0 : (double) hits / lookups;
+  }
+}
@@ -1,31 +1,175 @@
 package ch.keybridge.lib.dependency.util;
 
+import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.FileSystems;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility methods for accessing files inside the JAR.
+ * <p>
+ * Resources may live in a directory of an exploded deployment or inside a
+ * JAR or WAR. {@link #openResource(String)} and {@link #mapResource(String)}
+ * work for both without extracting anything to temporary files: directory
+ * resources are read from the file system, memory-mapped where possible,
+ * and archive resources are streamed from the class loader.
+ *
  * @author Key Bridge
  * @since 0.0.1 created 2019-02-07
  */
 public class ResourceUtility {
 
   /**
-   * Get a Path to a file inside the JAR.
+   * Zip file systems opened for archive resources, by archive URI. A zip file
+   * system can only be opened once per archive, so it is kept open and reused
+   * for the lifetime of the class loader.
+   */
+  private static final Map<URI, FileSystem> ZIP_FILE_SYSTEMS = new ConcurrentHashMap<>();
+
+  /**
+   * Test whether a file exists inside the JAR.
+   * @param path file path within the JAR.
+   * @return true if the file is found.
+   */
+  public static boolean hasResource(String path) {
+    return ResourceUtility.class.getClassLoader().getResource(path) != null;
+  }
+
+  /**
+   * Open a stream to a file inside the JAR.
+   * @param path file path within the JAR.
+   * @return an unbuffered stream; the caller must close it
+   * @throws FileNotFoundException in case the file is not found.
+   */
+  public static InputStream openResource(String path) throws FileNotFoundException {
+    InputStream inputStream = ResourceUtility.class.getClassLoader().getResourceAsStream(path);
+    if (inputStream == null) throw new FileNotFoundException("Resource not found: " + path);
+    return inputStream;
+  }
+
+  /**
+   * Get the content of a file inside the JAR as a read-only buffer. A file in
+   * a directory is memory-mapped; a file in an archive is read into a heap
+   * buffer in one sequential pass.
+   * @param path file path within the JAR.
+   * @return the file content
+   * @throws IOException in case the file is not found or cannot be read.
+   */
+  public static ByteBuffer mapResource(String path) throws IOException {
+    return mapResource(getResourceUrl(path));
+  }
+
+  /**
+   * Get the content of a resource as a read-only buffer, as
+   * {@link #mapResource(String)} does for a resource of this class loader.
+   * @param url the resource URL
+   * @return the file content
+   * @throws IOException in case the file is not found or cannot be read.
+   */
+  public static ByteBuffer mapResource(URL url) throws IOException {
+    if ("file".equals(url.getProtocol())) {
+      try (FileChannel channel = FileChannel.open(toPath(url), StandardOpenOption.READ)) {
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      }
+    }
+    try (InputStream inputStream = url.openStream()) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+      byte[] buffer = new byte[8192];
+      int count;
+      while ((count = inputStream.read(buffer)) != -1) {
+        bytes.write(buffer, 0, count);
+      }
+      return ByteBuffer.wrap(bytes.toByteArray()).asReadOnlyBuffer();
+    }
+  }
+
+  /**
+   * Get a Path to a file inside the JAR. A file inside an archive is resolved
+   * in a zip file system that is opened once and then reused.
    * @param path file path within the JAR.
    * @return resolved Path
    * @throws FileNotFoundException in case the file is not found.
    */
   public static Path getResourcePath(String path) throws FileNotFoundException {
+    return toPath(getResourceUrl(path));
+  }
+
+  /**
+   * Get a Path to a resource, as {@link #getResourcePath(String)} does for a
+   * resource of this class loader.
+   * @param url the resource URL
+   * @return resolved Path
+   * @throws FileNotFoundException in case the file cannot be accessed as a
+   *                               Path.
+   */
+  public static Path getResourcePath(URL url) throws FileNotFoundException {
+    return toPath(url);
+  }
+
+  /**
+   * Find a file inside the JAR.
+   */
+  private static URL getResourceUrl(String path) throws FileNotFoundException {
     URL url = ResourceUtility.class.getClassLoader().getResource(path);
     if (url == null) throw new FileNotFoundException("Resource not found: " + path);
+    return url;
+  }
+
+  /**
+   * Convert a resource URL into a Path, opening a zip file system for
+   * archive URLs.
+   */
+  private static Path toPath(URL url) throws FileNotFoundException {
+    try {
+      URI uri = url.toURI();
+      if (!"jar".equals(uri.getScheme())) {
+        return Paths.get(uri);
+      }
+      /**
+       * A jar URI has the form jar:{archive}!/{entry}. Nested archives, such
+       * as a JAR inside a WAR, have no zip file system; use
+       * openResource(String) for those.
+       */
+      String spec = uri.toString();
+      int separator = spec.indexOf("!/");
+      if (separator < 0 || spec.indexOf("!/", separator + 2) >= 0) {
+        throw new FileNotFoundException("Error when accessing path " + url);
+      }
+      ZIP_FILE_SYSTEMS.computeIfAbsent(URI.create(spec.substring(0, separator)), ResourceUtility::openZipFileSystem);
+      return Paths.get(uri);
+    } catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+      FileNotFoundException exception = new FileNotFoundException("Error when accessing path " + url);
+      exception.initCause(e);
+      throw exception;
+    }
+  }
+
+  /**
+   * Open the zip file system of an archive, or get it if it was opened
+   * elsewhere.
+   */
+  private static FileSystem openZipFileSystem(URI archive) {
     try {
-      return Paths.get(url.toURI());
-    } catch (URISyntaxException e) {
-      throw new FileNotFoundException("Error when accessing path " + url);
+      return FileSystems.newFileSystem(archive, Collections.<String, Object>emptyMap());
+    } catch (FileSystemAlreadyExistsException e) {
+      return FileSystems.getFileSystem(archive);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Cannot open archive " + archive, e);
     }
   }
 }
@@ -1,16 +1,38 @@
 package ch.keybridge.lib.dependency;
 
 import ch.keybridge.lib.dependency.io.DependencyWriter;
+import ch.keybridge.lib.dependency.io.LicenseReader;
 import ch.keybridge.lib.dependency.model.License;
 import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.util.ResourceUtility;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * @author Andrius Druzinis-Vitkus
@@ -19,6 +41,9 @@ import static org.junit.Assert.assertEquals;
 public class AppMetadataTest {
   private AppMetadata metadata;
 
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
   @Before
   public void setUp() throws IOException {
     metadata = AppMetadata.getInstance();
@@ -78,4 +103,164 @@ public class AppMetadataTest {
     Path licensePath = metadata.resolveLicencePath(license);
     Files.readAllLines(licensePath).forEach(System.out::println);
   }
-}
\ No newline at end of file
+
+  /**
+   * The shared instance is loaded once, also under concurrent first access,
+   * and replaced by reload/invalidate.
+   */
+  @Test
+  public void testSharedInstance() throws Exception {
+    AppMetadata.invalidate();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Callable<AppMetadata>> tasks = new ArrayList<>();
+      for (int i = 0; i < 32; i++) {
+        tasks.add(AppMetadata::getSharedInstance);
+      }
+      List<Future<AppMetadata>> results = executor.invokeAll(tasks);
+      AppMetadata shared = results.get(0).get();
+      for (Future<AppMetadata> result : results) {
+        assertSame(shared, result.get());
+      }
+
+      AppMetadata reloaded = AppMetadata.reload();
+      assertNotSame(shared, reloaded);
+      assertSame(reloaded, AppMetadata.getSharedInstance());
+
+      AppMetadata.invalidate();
+      assertNotSame(reloaded, AppMetadata.getSharedInstance());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * The asynchronous and lazy factories load the same metadata, and the
+   * licenses are not loaded until they are needed.
+   */
+  @Test
+  public void testAsyncInstance() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      AppMetadata async = AppMetadata.getInstanceAsync(executor).get();
+      assertEquals(metadata.getApplicationArtifact(), async.getApplicationArtifact());
+      assertEquals(metadata.getDependencyHierarchy(), async.getDependencyHierarchy());
+      assertEquals(metadata.getLicenses(), async.getLicenses());
+      assertTrue(async.isLicenseDataLoaded());
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(metadata.getDependencyHierarchy(), AppMetadata.getInstanceAsync().get().getDependencyHierarchy());
+
+    AppMetadata lazy = AppMetadata.getLazyInstance();
+    assertEquals(metadata.getApplicationArtifact(), lazy.getApplicationArtifact());
+    assertFalse(lazy.isLicenseDataLoaded());
+    assertEquals(metadata.getLicenses(), lazy.getLicenses());
+    assertTrue(lazy.isLicenseDataLoaded());
+  }
+
+  /**
+   * Without an index the dependency tree and license files are parsed.
+   */
+  @Test
+  public void testTextFiles() throws IOException {
+    Path build = MetadataFixtures.buildDirectory(folder.getRoot().toPath());
+    AppMetadata text = AppMetadata.getInstance(build.toUri().toURL());
+    assertEquals("web-cbrs-boundary", text.getApplicationArtifact().getArtifactId());
+    assertEquals(LicenseReader.mapLicenses(LicenseReader.read(build.resolve("licenses.xml")), text.getDependencyHierarchy()),
+                 text.getLicenses());
+
+    License license = text.getLicenses().values().stream().flatMap(List::stream).findFirst().get();
+    try (InputStream content = text.openLicenseContent(license)) {
+      assertTrue(content.read() >= 0);
+    }
+    assertTrue(text.resolveLicencePath(license).startsWith(build));
+  }
+
+  /**
+   * Without an index the asynchronous factory parses both files in parallel,
+   * each on its own task.
+   */
+  @Test
+  public void testAsyncTextFiles() throws Exception {
+    Path build = MetadataFixtures.buildDirectory(folder.getRoot().toPath());
+    URL directory = build.toUri().toURL();
+    AppMetadata text = AppMetadata.getInstance(directory);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      AtomicInteger tasks = new AtomicInteger();
+      AppMetadata async = AppMetadata.getInstanceAsync(directory, task -> {
+        tasks.incrementAndGet();
+        executor.execute(task);
+      }).get();
+      assertEquals(2, tasks.get());
+      assertEquals(text.getDependencyHierarchy(), async.getDependencyHierarchy());
+      assertEquals(text.getLicenses(), async.getLicenses());
+    } finally {
+      executor.shutdown();
+    }
+
+    Files.delete(build.resolve("dependency-tree.txt"));
+    try {
+      AppMetadata.getInstanceAsync(directory, Runnable::run).join();
+      fail("a missing dependency tree fails the future");
+    } catch (CompletionException e) {
+      assertTrue(e.getCause() instanceof IOException);
+    }
+  }
+
+  /**
+   * Whether there is an index is decided when a section is first loaded,
+   * not when the instance is created.
+   */
+  @Test
+  public void testIndexProbedOnFirstLoad() throws Exception {
+    Path build = folder.newFolder("build").toPath();
+    List<Runnable> tasks = new ArrayList<>();
+    CompletableFuture<AppMetadata> future = AppMetadata.getInstanceAsync(build.toUri().toURL(), tasks::add);
+    Files.copy(ResourceUtility.getResourcePath(AppMetadata.INDEX_FILE), build.resolve("metadata.idx"));
+    while (!tasks.isEmpty()) {
+      tasks.remove(0).run();
+    }
+    assertEquals(metadata.getDependencyHierarchy(), future.get().getDependencyHierarchy());
+  }
+
+  /**
+   * A truncated index is reported, not silently replaced by the text files.
+   */
+  @Test
+  public void testTruncatedIndex() throws IOException {
+    Path build = MetadataFixtures.buildDirectory(folder.getRoot().toPath());
+    byte[] index = Files.readAllBytes(ResourceUtility.getResourcePath(AppMetadata.INDEX_FILE));
+    Files.write(build.resolve("metadata.idx"), Arrays.copyOf(index, index.length / 2));
+    try {
+      AppMetadata.getInstance(build.toUri().toURL());
+      fail("a truncated index is an error");
+    } catch (IOException e) {
+      assertEquals("Truncated or corrupt metadata index", e.getMessage());
+    }
+  }
+
+  /**
+   * A negative or oversized table count is reported before an array is
+   * allocated for it.
+   */
+  @Test
+  public void testCorruptIndexCount() throws IOException {
+    Path build = MetadataFixtures.buildDirectory(folder.getRoot().toPath());
+    byte[] index = Files.readAllBytes(ResourceUtility.getResourcePath(AppMetadata.INDEX_FILE));
+    for (int count : new int[]{-1, Integer.MAX_VALUE}) {
+      /**
+       * The string count follows the magic number and the format version.
+       */
+      ByteBuffer.wrap(index).putInt(6, count);
+      Files.write(build.resolve("metadata.idx"), index);
+      try {
+        AppMetadata.getInstance(build.toUri().toURL());
+        fail("a corrupt count is an error");
+      } catch (IOException e) {
+        assertEquals("Truncated or corrupt metadata index", e.getMessage());
+      }
+    }
+  }
+}
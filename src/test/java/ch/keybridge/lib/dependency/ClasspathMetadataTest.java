@@ -0,0 +1,83 @@
+package ch.keybridge.lib.dependency;
+
+import ch.keybridge.lib.dependency.io.LicenseReader;
+import ch.keybridge.lib.dependency.model.License;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static ch.keybridge.lib.dependency.MetadataFixtures.PLUGIN_TREE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class ClasspathMetadataTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testDiscover() throws IOException {
+    /**
+     * An exploded application with licenses, a plugin JAR, and the same
+     * plugin again.
+     */
+    Path classes = folder.newFolder("classes").toPath();
+    Path build = MetadataFixtures.buildDirectory(classes);
+    URL[] urls = {classes.toUri().toURL(), MetadataFixtures.jar(folder.newFile("plugin.jar"), PLUGIN_TREE).toURI().toURL(),
+                  MetadataFixtures.jar(folder.newFile("plugin-copy.jar"), PLUGIN_TREE).toURI().toURL()};
+
+    try (URLClassLoader classLoader = new URLClassLoader(urls, null)) {
+      ClasspathMetadata metadata = ClasspathMetadata.discover(classLoader, 2);
+      List<MavenArtifact> applications = new ArrayList<>(metadata.getApplications().keySet());
+      assertEquals(Arrays.asList("web-cbrs-boundary", "plugin"),
+                   Arrays.asList(applications.get(0).getArtifactId(), applications.get(1).getArtifactId()));
+
+      AppMetadata application = metadata.getApplication(applications.get(0));
+      assertEquals(LicenseReader.mapLicenses(LicenseReader.read(build.resolve("licenses.xml")), application.getDependencyHierarchy()),
+                   application.getLicenses());
+      AppMetadata plugin = metadata.getApplication(applications.get(1));
+      assertEquals(2, plugin.getDependencies().size());
+      assertTrue(plugin.getLicenses().isEmpty());
+      assertEquals(application.getLicenses(), metadata.getLicenses());
+      /**
+       * Both trees were read through one pool.
+       */
+      MavenArtifact jdom = plugin.getDependencyHierarchy().getTransitiveDependencies().get(0).getArtifact();
+      assertTrue(application.getIndex().getByArtifact(jdom).get(0).getArtifact() == jdom);
+
+      License license = application.getLicenses().values().stream().flatMap(List::stream).findFirst().get();
+      try (InputStream content = metadata.openLicenseContent(applications.get(0), license)) {
+        assertTrue(content.read() >= 0);
+      }
+      /**
+       * License contents resolve in the module's own directory.
+       */
+      assertTrue(application.resolveLicencePath(license).startsWith(build));
+      try (InputStream content = application.openLicenseContent(license)) {
+        assertTrue(content.read() >= 0);
+      }
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void testUnreadableModule() throws IOException {
+    File jar = MetadataFixtures.archive(folder.newFile("broken.jar"), AppMetadata.INDEX_FILE, new byte[]{1, 2, 3});
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[]{jar.toURI().toURL()}, null)) {
+      ClasspathMetadata.discover(classLoader, 1);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package ch.keybridge.lib.dependency;
+
+import ch.keybridge.lib.dependency.io.DependencyReader;
+import ch.keybridge.lib.dependency.model.DependencyFixtures;
+import ch.keybridge.lib.dependency.model.License;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import ch.keybridge.lib.dependency.model.MavenDependencyScope;
+import ch.keybridge.lib.dependency.model.MavenVersion;
+import ch.keybridge.lib.dependency.util.ResourceUtility;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class DependencyIndexTest {
+
+  private MavenDependency hierarchy;
+  private DependencyIndex index;
+
+  @Before
+  public void setUp() throws IOException {
+    hierarchy = DependencyReader.parseDependencyHierarchy(ResourceUtility.getResourcePath("exampledata/outfile-tree.txt"));
+    Map<MavenArtifact, List<License>> licenses = new HashMap<>();
+    licenses.put(DependencyReader.parseArtifact("jdom:jdom:jar:1.0"),
+                 Collections.singletonList(new License("BSD", null, "repo", null)));
+    index = new DependencyIndex(hierarchy, licenses);
+  }
+
+  @Test
+  public void testLookups() {
+    assertEquals(hierarchy.getFlattenedDependencies().stream()
+      .filter(d -> d.getArtifact().getGroupId().equals("org.geotools"))
+      .count(), index.getByGroupId("org.geotools").size());
+    assertEquals(1, index.getByGroupArtifact("jdom", "jdom").size());
+    assertEquals(1, index.getByCoordinate("jdom:jdom:jar:1.0").size());
+    assertEquals(1, index.getByCoordinate("jdom:jdom:1.0").size());
+    assertEquals(index.getByCoordinate("jdom:jdom:1.0"), index.getByLicense("BSD"));
+    assertEquals(hierarchy.getFlattenedDependencies().size() - 1, index.getByScope(MavenDependencyScope.COMPILE).size()
+                                                                   + index.getByScope(MavenDependencyScope.PROVIDED).size()
+                                                                   + index.getByScope(MavenDependencyScope.TEST).size()
+                                                                   + index.getByScope(MavenDependencyScope.RUNTIME).size());
+    assertTrue(index.getByGroupId("no.such.group").isEmpty());
+    assertTrue(index.getByGroupArtifact("jdom", "no-such-artifact").isEmpty());
+  }
+
+  /**
+   * The short coordinate merges the packagings of an artifact.
+   */
+  @Test
+  public void testCoordinatePackagings() throws IOException {
+    MavenDependency tree = DependencyFixtures.tree("keybridge.lib:app:jar:1.0\n+- junit:junit:jar:4.12:compile\n\\- junit:junit:test-jar:4.12:test\n");
+    DependencyIndex packagings = new DependencyIndex(tree, Collections.emptyMap());
+    assertEquals(1, packagings.getByCoordinate("junit:junit:jar:4.12").size());
+    assertEquals(1, packagings.getByCoordinate("junit:junit:test-jar:4.12").size());
+    assertEquals(tree.getTransitiveDependencies(), packagings.getByCoordinate("junit:junit:4.12"));
+  }
+
+  @Test
+  public void testVersionRange() {
+    NavigableMap<MavenVersion, List<MavenDependency>> versions = index.getVersions("org.geotools");
+    assertEquals(index.getByGroupId("org.geotools").size(), versions.values().stream().mapToInt(List::size).sum());
+    MavenVersion lowest = versions.firstKey();
+    assertTrue(versions.headMap(lowest, false).isEmpty());
+    assertEquals(versions.get(lowest), versions.headMap(lowest, true).firstEntry().getValue());
+    assertEquals(1, index.getVersions("jdom", "jdom").size());
+    assertEquals(1, index.getVersions("jdom", "jdom").tailMap(MavenVersion.of("1.0-rc1"), true).size());
+    assertTrue(index.getVersions("jdom", "jdom").headMap(MavenVersion.of("1.0.0.Final"), false).isEmpty());
+    assertSame(index.getVersions("jdom"), index.getVersions("jdom"));
+    assertTrue(index.getVersions("no.such.group").isEmpty());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testUnmodifiable() {
+    index.getByGroupId("org.geotools").clear();
+  }
+}
@@ -0,0 +1,95 @@
+package ch.keybridge.lib.dependency;
+
+import ch.keybridge.lib.dependency.util.ResourceUtility;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Module layouts shared by the metadata tests.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public final class MetadataFixtures {
+
+  /**
+   * The dependency tree of a plugin with one dependency.
+   */
+  public static final String PLUGIN_TREE = "keybridge.plugin:plugin:jar:1.0\n+- jdom:jdom:jar:1.0:compile\n";
+
+  private MetadataFixtures() {
+  }
+
+  /**
+   * Write a zip archive, e.g. a JAR or a WAR.
+   *
+   * @param file    the archive file
+   * @param entries the content of each entry, by entry name
+   * @return the archive file
+   * @throws IOException on error
+   */
+  public static File archive(File file, Map<String, byte[]> entries) throws IOException {
+    try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(file.toPath()))) {
+      for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+        out.putNextEntry(new ZipEntry(entry.getKey()));
+        out.write(entry.getValue());
+      }
+    }
+    return file;
+  }
+
+  /**
+   * Write a zip archive with a single entry.
+   *
+   * @param file    the archive file
+   * @param name    the entry name
+   * @param content the entry content
+   * @return the archive file
+   * @throws IOException on error
+   */
+  public static File archive(File file, String name, byte[] content) throws IOException {
+    return archive(file, Collections.singletonMap(name, content));
+  }
+
+  /**
+   * Write a JAR whose only metadata is a dependency tree.
+   *
+   * @param file the JAR file
+   * @param tree the dependency tree
+   * @return the JAR file
+   * @throws IOException on error
+   */
+  public static File jar(File file, String tree) throws IOException {
+    return archive(file, AppMetadata.DEPENDENCY_FILE, tree.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Create the META-INF/build directory of an exploded module from the
+   * example data: a dependency tree, a license file and the license
+   * contents, but no index.
+   *
+   * @param classes the class path root of the module
+   * @return the META-INF/build directory
+   * @throws IOException on error
+   */
+  public static Path buildDirectory(Path classes) throws IOException {
+    Path build = Files.createDirectories(classes.resolve("META-INF/build"));
+    Files.createDirectory(build.resolve("licenses"));
+    Files.copy(ResourceUtility.getResourcePath("exampledata/outfile-tree.txt"), build.resolve("dependency-tree.txt"));
+    Files.copy(ResourceUtility.getResourcePath("exampledata/licenses.xml"), build.resolve("licenses.xml"));
+    try (Stream<Path> files = Files.list(ResourceUtility.getResourcePath("exampledata/licenses"))) {
+      for (Path file : (Iterable<Path>) files::iterator) {
+        Files.copy(file, build.resolve("licenses").resolve(file.getFileName().toString()));
+      }
+    }
+    return build;
+  }
+}
@@ -0,0 +1,78 @@
+package ch.keybridge.lib.dependency;
+
+import ch.keybridge.lib.dependency.MetadataMetrics.Phase;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import ch.keybridge.lib.dependency.model.MavenVersion;
+import ch.keybridge.lib.dependency.util.CacheCounter;
+import ch.keybridge.lib.dependency.util.CacheStatistics;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class MetadataMetricsTest {
+
+  @Test
+  public void testMetrics() throws IOException {
+    AppMetadata metadata = AppMetadata.getInstance();
+    MetadataMetrics metrics = metadata.getMetrics();
+    System.out.println(metrics);
+
+    assertEquals(metadata.getDependencies().size(), metrics.getDependencyCount());
+    assertEquals(metadata.getDependencies().stream().map(MavenDependency::getArtifact).distinct().count(), metrics.getArtifactCount());
+    assertEquals(metadata.getLicenses().values().stream().flatMap(List::stream).distinct().count(), metrics.getLicenseCount());
+    assertTrue(metrics.getEstimatedRetainedBytes() > 100L * metrics.getDependencyCount());
+    assertEquals(Phase.values().length, metrics.getPhaseNanos().size());
+    assertTrue(metrics.getPhaseMillis(Phase.READ_INDEX) + metrics.getPhaseMillis(Phase.PARSE_DEPENDENCIES) > 0);
+    assertTrue(metrics.getLoadMillis() >= metrics.getPhaseMillis(Phase.RESOLVE));
+  }
+
+  @Test
+  public void testCacheCounter() {
+    CacheStatistics before = CacheCounter.of("maven-version").getSnapshot();
+    MavenVersion.of("0.0.1-metrics-test");
+    MavenVersion.of("0.0.1-metrics-test");
+    CacheStatistics after = CacheCounter.getStatistics().get("maven-version");
+    assertEquals(before.getMisses() + 1, after.getMisses());
+    assertEquals(before.getHits() + 1, after.getHits());
+    assertEquals(0.5, new CacheStatistics("test", 1, 1).getHitRatio(), 0);
+    assertEquals(0, new CacheStatistics("test", 0, 0).getHitRatio(), 0);
+  }
+
+  @Test
+  public void testMBean() throws IOException, JMException {
+    ObjectName name = MetadataMetrics.registerMBean();
+    try {
+      assertEquals(name, MetadataMetrics.registerMBean());
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      assertEquals(AppMetadata.getSharedInstance().getDependencies().size(), server.getAttribute(name, "DependencyCount"));
+      assertTrue((Long) server.getAttribute(name, "EstimatedRetainedBytes") > 0);
+      /**
+       * Map attributes are open tabular data; each row is a key and a value.
+       */
+      TabularData hits = (TabularData) server.getAttribute(name, "CacheHits");
+      Map<Object, Object> rows = hits.values().stream()
+        .map(row -> (CompositeData) row)
+        .collect(Collectors.toMap(row -> row.get("key"), row -> row.get("value")));
+      assertTrue((Long) rows.get("shared-instance") > 0);
+    } finally {
+      MetadataMetrics.unregisterMBean();
+    }
+    assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+  }
+}
@@ -0,0 +1,70 @@
+package ch.keybridge.lib.dependency;
+
+import ch.keybridge.lib.dependency.io.DependencyFormat;
+import ch.keybridge.lib.dependency.io.DependencyWriter;
+import ch.keybridge.lib.dependency.io.LicenseFormat;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class MetadataResponseCacheTest {
+
+  @Test
+  public void testResponses() throws IOException {
+    AppMetadata metadata = AppMetadata.getInstance();
+    MetadataResponseCache cache = metadata.getResponseCache();
+    assertSame(cache, metadata.getResponseCache());
+
+    MetadataResponseCache.Response tree = cache.getDependencies(DependencyFormat.TREE);
+    assertSame(tree, cache.getDependencies(DependencyFormat.TREE));
+    StringBuilder expected = new StringBuilder();
+    DependencyWriter.write(metadata.getDependencyHierarchy(), DependencyFormat.TREE, expected);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    tree.writeTo(out);
+    assertEquals(expected.toString(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+    assertEquals(out.size(), tree.getContentLength());
+
+    ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+    tree.writeGzipTo(gzipped);
+    assertEquals(gzipped.size(), tree.getGzipContentLength());
+    ByteArrayOutputStream unzipped = new ByteArrayOutputStream();
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.toByteArray()))) {
+      byte[] buffer = new byte[4096];
+      int count;
+      while ((count = in.read(buffer)) != -1) {
+        unzipped.write(buffer, 0, count);
+      }
+    }
+    assertArrayEquals(out.toByteArray(), unzipped.toByteArray());
+
+    MetadataResponseCache.Response json = cache.getDependencies(DependencyFormat.JSON);
+    assertEquals("application/json", json.getContentType());
+    assertNotEquals(tree.getETag(), json.getETag());
+    assertEquals(json.getETag(), new MetadataResponseCache(metadata, false).getDependencies(DependencyFormat.JSON).getETag());
+
+    assertTrue(tree.matches(tree.getETag()));
+    assertTrue(tree.matches("\"other\", W/" + tree.getGzipETag()));
+    assertTrue(tree.matches("*"));
+    assertFalse(tree.matches(json.getETag()));
+    assertFalse(tree.matches(null));
+
+    MetadataResponseCache.Response licenses = cache.getLicenses(LicenseFormat.CSV);
+    ByteArrayOutputStream csv = new ByteArrayOutputStream();
+    licenses.writeTo(csv);
+    assertTrue(new String(csv.toByteArray(), StandardCharsets.UTF_8).startsWith("groupId,artifactId,packaging,version,license,url"));
+  }
+}
@@ -0,0 +1,220 @@
+package ch.keybridge.lib.dependency;
+
+import ch.keybridge.lib.dependency.io.DependencyReader;
+import ch.keybridge.lib.dependency.io.LicenseReader;
+import ch.keybridge.lib.dependency.model.InternPool;
+import ch.keybridge.lib.dependency.model.License;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import ch.keybridge.lib.dependency.model.MavenDependencyScope;
+import ch.keybridge.lib.dependency.util.ResourceUtility;
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class MetadataStoreTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * The tree of an application, renamed, so that many applications share
+   * every subtree below the root.
+   */
+  private static byte[] application(String tree, int i) {
+    return tree.replaceFirst("web-cbrs-boundary", "app-" + i).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void testSharedSubtrees() throws IOException {
+    String tree = new String(Files.readAllBytes(ResourceUtility.getResourcePath("exampledata/outfile-tree.txt")), StandardCharsets.UTF_8);
+    byte[] licenses = Files.readAllBytes(ResourceUtility.getResourcePath("exampledata/licenses.xml"));
+    MetadataStore store = new MetadataStore();
+    AppMetadata first = store.read(new ByteArrayInputStream(application(tree, 1)), new ByteArrayInputStream(licenses));
+    int subtrees = store.getPool().getDependencyCount();
+    int artifacts = store.getPool().getArtifactCount();
+    AppMetadata second = store.read(new ByteArrayInputStream(application(tree, 2)), new ByteArrayInputStream(licenses));
+
+    /**
+     * The second application adds only its root.
+     */
+    assertEquals(subtrees + 1, store.getPool().getDependencyCount());
+    assertEquals(artifacts + 1, store.getPool().getArtifactCount());
+    assertEquals(2, store.getApplications().size());
+    MavenDependency a = first.getDependencyHierarchy();
+    MavenDependency b = second.getDependencyHierarchy();
+    for (int i = 0; i < a.getTransitiveDependencies().size(); i++) {
+      assertSame(a.getTransitiveDependencies().get(i), b.getTransitiveDependencies().get(i));
+    }
+    MavenArtifact shared = a.getTransitiveDependencies().get(0).getArtifact();
+    assertSame(first.getLicenses().get(shared), second.getLicenses().get(shared));
+    assertEquals(LicenseReader.mapLicenses(LicenseReader.read(new ByteArrayInputStream(licenses)), b), second.getLicenses());
+    assertEquals(b.getArtifact(), second.getLicenses().keySet().iterator().next());
+
+    /**
+     * The stored metadata equals the metadata read on its own.
+     */
+    MavenDependency alone = DependencyReader.parseDependencyHierarchy(new ByteArrayInputStream(application(tree, 1)), new InternPool());
+    assertEquals(alone, a);
+    assertSame(first, store.get(a.getArtifact()));
+    assertSame(first, store.remove(a.getArtifact()));
+    assertNull(store.get(a.getArtifact()));
+    assertEquals(1, store.getApplications().size());
+  }
+
+  /**
+   * An application that differs by one version adds no licenses to the
+   * pool, and its license map is still complete.
+   */
+  @Test
+  public void testSharedLicenses() throws IOException {
+    String tree = new String(Files.readAllBytes(ResourceUtility.getResourcePath("exampledata/outfile-tree.txt")), StandardCharsets.UTF_8);
+    byte[] licenses = Files.readAllBytes(ResourceUtility.getResourcePath("exampledata/licenses.xml"));
+    MetadataStore store = new MetadataStore();
+    store.read(new ByteArrayInputStream(application(tree, 1)), new ByteArrayInputStream(licenses));
+    int licensed = store.getPool().getLicensedArtifactCount();
+    assertTrue(licensed > 0);
+    byte[] changed = new String(application(tree, 2), StandardCharsets.UTF_8).replace("primefaces:jar:6.2", "primefaces:jar:6.3")
+      .getBytes(StandardCharsets.UTF_8);
+    AppMetadata second = store.read(new ByteArrayInputStream(changed), new ByteArrayInputStream(licenses));
+
+    assertEquals(licensed, store.getPool().getLicensedArtifactCount());
+    MavenDependency hierarchy = second.getDependencyHierarchy();
+    Map<MavenArtifact, List<License>> expected = LicenseReader.mapLicenses(LicenseReader.read(new ByteArrayInputStream(licenses)), hierarchy);
+    assertEquals(expected, second.getLicenses());
+    assertEquals(expected.size(), second.getLicenses().size());
+    assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(second.getLicenses().keySet()));
+    assertNull(second.getLicenses().get(new MavenArtifact("g", "absent", "jar", "1")));
+  }
+
+  /**
+   * License contents are read from the directory of the application, and
+   * cannot be opened without one.
+   */
+  @Test
+  public void testLicenseContent() throws IOException {
+    Path build = MetadataFixtures.buildDirectory(folder.getRoot().toPath());
+    MetadataStore store = new MetadataStore();
+    AppMetadata metadata;
+    try (InputStream tree = Files.newInputStream(build.resolve("dependency-tree.txt"));
+         InputStream licenses = Files.newInputStream(build.resolve("licenses.xml"))) {
+      metadata = store.read(tree, licenses, build.toUri().toURL());
+    }
+    License license = metadata.getLicenses().values().stream().flatMap(List::stream).findFirst().get();
+    try (InputStream content = metadata.openLicenseContent(license)) {
+      assertTrue(content.read() >= 0);
+    }
+    assertTrue(metadata.resolveLicencePath(license).startsWith(build));
+
+    AppMetadata detached = store.add(metadata.getDependencyHierarchy(), metadata.getLicenses());
+    try {
+      detached.openLicenseContent(license);
+      fail("license contents need a directory");
+    } catch (FileNotFoundException e) {
+      assertTrue(e.getMessage().startsWith("No license content"));
+    }
+  }
+
+  @Test
+  public void testIntern() {
+    InternPool pool = new InternPool();
+    MavenDependency open = new MavenDependency(new MavenArtifact("g", "app", "war", "1"), null);
+    MavenDependency lib = new MavenDependency(new MavenArtifact("g", "lib", "jar", "1"), null);
+    open.getTransitiveDependencies().add(lib);
+    MavenDependency canonical = pool.intern(open);
+    assertTrue(canonical.isFrozen());
+    assertEquals(open.freeze(), canonical);
+    assertSame(canonical, pool.intern(open.freeze()));
+    assertSame(canonical.getTransitiveDependencies().get(0), pool.intern(lib));
+    assertEquals(2, pool.getDependencyCount());
+    List<License> licenses = new ArrayList<>();
+    licenses.add(new License("MIT", null, null, null));
+    assertSame(pool.intern(licenses), pool.intern(new ArrayList<>(licenses)));
+  }
+
+  /**
+   * Interning does not recurse on the thread stack, and a second copy of a
+   * deep chain becomes the first.
+   */
+  @Test
+  public void testInternDeepChain() {
+    InternPool pool = new InternPool();
+    MavenDependency first = pool.intern(chain(100_000));
+    assertSame(first, pool.intern(chain(100_000)));
+    assertSame(first, pool.intern(first));
+    assertEquals(100_001, pool.getDependencyCount());
+  }
+
+  /**
+   * Create an open chain of dependencies.
+   */
+  private static MavenDependency chain(int depth) {
+    MavenDependency root = new MavenDependency(new MavenArtifact("g", "root", "jar", "1"), null);
+    MavenDependency parent = root;
+    for (int i = 0; i < depth; i++) {
+      MavenDependency child = new MavenDependency(new MavenArtifact("g", "a" + i, "jar", "1"), MavenDependencyScope.COMPILE);
+      parent.getTransitiveDependencies().add(child);
+      parent = child;
+    }
+    return root;
+  }
+
+  @Test
+  public void testConcurrentIngestion() throws IOException, InterruptedException, ExecutionException {
+    String tree = new String(Files.readAllBytes(ResourceUtility.getResourcePath("exampledata/outfile-tree.txt")), StandardCharsets.UTF_8);
+    MetadataStore store = new MetadataStore();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<AppMetadata>> futures = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        int n = i;
+        futures.add(executor.submit(() -> {
+          try (InputStream inputStream = new ByteArrayInputStream(application(tree, n % 16))) {
+            return store.read(inputStream, null);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }));
+      }
+      MavenDependency first = null;
+      for (Future<AppMetadata> future : futures) {
+        MavenDependency hierarchy = future.get().getDependencyHierarchy();
+        first = first == null ? hierarchy : first;
+        assertSame(first.getTransitiveDependencies().get(0), hierarchy.getTransitiveDependencies().get(0));
+      }
+      assertEquals(16, store.getApplications().size());
+      assertNotNull(first);
+      MetadataStore single = new MetadataStore();
+      single.read(new ByteArrayInputStream(application(tree, 0)), null);
+      assertEquals(single.getPool().getDependencyCount() - 1 + 16, store.getPool().getDependencyCount());
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
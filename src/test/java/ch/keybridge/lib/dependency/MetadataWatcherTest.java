@@ -0,0 +1,134 @@
+package ch.keybridge.lib.dependency;
+
+import ch.keybridge.lib.dependency.util.ResourceUtility;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class MetadataWatcherTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path build;
+  private String tree;
+  private long modified = System.currentTimeMillis();
+
+  @Before
+  public void setUp() throws IOException {
+    build = folder.newFolder("META-INF", "build").toPath();
+    tree = new String(Files.readAllBytes(ResourceUtility.getResourcePath("exampledata/outfile-tree.txt")), StandardCharsets.UTF_8);
+    write("dependency-tree.txt", tree);
+    Files.copy(ResourceUtility.getResourcePath("exampledata/licenses.xml"), build.resolve("licenses.xml"));
+  }
+
+  /**
+   * Write a file with a modification time later than any before, so the
+   * change is seen regardless of the file system's time resolution.
+   */
+  private void write(String name, String content) throws IOException {
+    Path file = build.resolve(name);
+    Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    modified += 2000;
+    Files.setLastModifiedTime(file, FileTime.fromMillis(modified));
+  }
+
+  @Test
+  public void testRefresh() throws IOException {
+    try (MetadataWatcher watcher = MetadataWatcher.watch(build, 60000)) {
+      AppMetadata first = watcher.getMetadata();
+      assertEquals("web-cbrs-boundary", first.getApplicationArtifact().getArtifactId());
+      assertFalse(first.getLicenses().isEmpty());
+      assertEquals(1, watcher.getReloadCount());
+
+      /**
+       * Unchanged, and rewritten with the same content.
+       */
+      assertTrue(watcher.refresh());
+      write("dependency-tree.txt", tree);
+      assertTrue(watcher.refresh());
+      assertEquals(1, watcher.getReloadCount());
+      assertSame(first, watcher.getMetadata());
+
+      /**
+       * Only the license file changed: the hierarchy is reused.
+       */
+      write("licenses.xml", new String(Files.readAllBytes(build.resolve("licenses.xml")), StandardCharsets.UTF_8) + "\n");
+      assertTrue(watcher.refresh());
+      assertEquals(2, watcher.getReloadCount());
+      assertSame(first.getDependencyHierarchy(), watcher.getMetadata().getDependencyHierarchy());
+      assertEquals(first.getLicenses(), watcher.getMetadata().getLicenses());
+
+      /**
+       * A broken file keeps the previous snapshot.
+       */
+      AppMetadata second = watcher.getMetadata();
+      write("dependency-tree.txt", "");
+      assertFalse(watcher.refresh());
+      assertNotNull(watcher.getLastFailure());
+      assertSame(second, watcher.getMetadata());
+
+      write("dependency-tree.txt", tree.replaceFirst("1\\.5\\.1", "1.5.2"));
+      assertTrue(watcher.refresh());
+      assertNull(watcher.getLastFailure());
+      assertEquals(3, watcher.getReloadCount());
+      assertEquals("1.5.2", watcher.getMetadata().getApplicationArtifact().getVersion());
+    }
+  }
+
+  /**
+   * An index older than the dependency tree is stale: the text files are
+   * read until the index is written again.
+   */
+  @Test
+  public void testStaleIndex() throws IOException {
+    Path index = build.resolve("metadata.idx");
+    Files.copy(ResourceUtility.getResourcePath(AppMetadata.INDEX_FILE), index);
+    modified += 2000;
+    Files.setLastModifiedTime(index, FileTime.fromMillis(modified));
+    try (MetadataWatcher watcher = MetadataWatcher.watch(build, 60000)) {
+      assertEquals("mavenator", watcher.getMetadata().getApplicationArtifact().getArtifactId());
+
+      write("dependency-tree.txt", tree.replaceFirst("1\\.5\\.1", "1.5.2"));
+      assertTrue(watcher.refresh());
+      assertEquals(2, watcher.getReloadCount());
+      assertEquals("web-cbrs-boundary", watcher.getMetadata().getApplicationArtifact().getArtifactId());
+      assertEquals("1.5.2", watcher.getMetadata().getApplicationArtifact().getVersion());
+
+      modified += 2000;
+      Files.setLastModifiedTime(index, FileTime.fromMillis(modified));
+      assertTrue(watcher.refresh());
+      assertEquals(3, watcher.getReloadCount());
+      assertEquals("mavenator", watcher.getMetadata().getApplicationArtifact().getArtifactId());
+    }
+  }
+
+  @Test
+  public void testWatch() throws IOException, InterruptedException {
+    try (MetadataWatcher watcher = MetadataWatcher.watch(build, 50)) {
+      write("dependency-tree.txt", tree.replaceFirst("1\\.5\\.1", "1.5.2"));
+      for (int i = 0; i < 600 && watcher.getReloadCount() < 2; i++) {
+        Thread.sleep(50);
+      }
+      assertEquals(2, watcher.getReloadCount());
+      assertEquals("1.5.2", watcher.getMetadata().getApplicationArtifact().getVersion());
+    }
+  }
+}
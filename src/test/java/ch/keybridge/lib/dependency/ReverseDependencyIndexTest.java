@@ -0,0 +1,71 @@
+package ch.keybridge.lib.dependency;
+
+import ch.keybridge.lib.dependency.analysis.DependencyPath;
+import ch.keybridge.lib.dependency.io.DependencyReader;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import ch.keybridge.lib.dependency.util.ResourceUtility;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+import static ch.keybridge.lib.dependency.model.DependencyFixtures.dependency;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class ReverseDependencyIndexTest {
+
+  @Test
+  public void testSharedSubtree() {
+    MavenDependency x = dependency("x", "1");
+    MavenDependency a = dependency("a", "1", x);
+    MavenDependency b = dependency("b", "1", dependency("c", "1", x));
+    MavenDependency d = dependency("d", "1");
+    MavenDependency hierarchy = dependency("app", "1", a, d, b, dependency("x", "2"));
+    ReverseDependencyIndex index = new ReverseDependencyIndex(hierarchy);
+
+    List<DependencyPath> paths = index.getPaths(x.getArtifact());
+    assertEquals(2, paths.size());
+    assertEquals("g:app:jar:1 > g:a:jar:1 > g:x:jar:1", paths.get(0).toString());
+    assertEquals("g:app:jar:1 > g:b:jar:1 > g:c:jar:1 > g:x:jar:1", paths.get(1).toString());
+    assertEquals(Arrays.asList(a, b), index.getDirectDependencies(x.getArtifact()));
+    assertEquals(Arrays.asList("a", "c"), Arrays.asList(index.getParents(x.getArtifact()).get(0).getArtifact().getArtifactId(),
+                                                        index.getParents(x.getArtifact()).get(1).getArtifact().getArtifactId()));
+
+    assertEquals(3, index.getPaths("g", "x").size());
+    assertEquals(3, index.getDirectDependencies("g", "x").size());
+    assertEquals(Arrays.asList(d), index.getDirectDependencies(d.getArtifact()));
+
+    assertTrue(index.getDirectDependencies(hierarchy.getArtifact()).isEmpty());
+    assertTrue(index.getParents(hierarchy.getArtifact()).isEmpty());
+    assertEquals(1, index.getPaths(hierarchy.getArtifact()).get(0).getLength());
+    assertTrue(index.getPaths("g", "none").isEmpty());
+  }
+
+  /**
+   * Every dependency of the example hierarchy is reached through a path that
+   * starts with the direct dependency reported for it.
+   */
+  @Test
+  public void testExampleHierarchy() throws IOException {
+    MavenDependency hierarchy = DependencyReader.parseDependencyHierarchy(ResourceUtility.getResourcePath("exampledata/outfile-tree.txt"));
+    ReverseDependencyIndex index = new ReverseDependencyIndex(hierarchy);
+    int paths = 0;
+    for (MavenDependency dependency : hierarchy.getFlattenedDependencies()) {
+      MavenArtifact artifact = dependency.getArtifact();
+      for (DependencyPath path : index.getPaths(artifact)) {
+        assertEquals(artifact, path.getArtifact());
+        if (path.getLength() > 1) {
+          assertTrue(index.getDirectDependencies(artifact).stream().anyMatch(direct -> direct.getArtifact().equals(path.get(1))));
+        }
+        paths++;
+      }
+    }
+    assertTrue(paths >= hierarchy.getFlattenedDependencies().size());
+  }
+}
@@ -0,0 +1,103 @@
+package ch.keybridge.lib.dependency.analysis;
+
+import ch.keybridge.lib.dependency.io.DependencyReader;
+import ch.keybridge.lib.dependency.model.Advisory;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import ch.keybridge.lib.dependency.util.ResourceUtility;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class AdvisoryIndexTest {
+
+  private Path snapshot;
+  private AdvisoryIndex index;
+
+  @Before
+  public void setUp() throws IOException {
+    snapshot = ResourceUtility.getResourcePath("exampledata/osv");
+    index = AdvisoryIndex.read(snapshot);
+  }
+
+  private static List<String> ids(List<Advisory> advisories) {
+    return advisories.stream().map(Advisory::getId).collect(Collectors.toList());
+  }
+
+  @Test
+  public void testRead() throws IOException {
+    assertEquals(3, index.size());
+    assertSame(index, AdvisoryIndex.read(snapshot));
+  }
+
+  @Test
+  public void testMatchArtifact() {
+    List<String> databind = Collections.singletonList("GHSA-9mxf-g3x6-wv74");
+    assertEquals(databind, ids(index.match(new MavenArtifact("com.fasterxml.jackson.core", "jackson-databind", "jar", "2.9.4"))));
+    assertEquals(databind, ids(index.match(new MavenArtifact("com.fasterxml.jackson.core", "jackson-databind", "jar", "2.7.0"))));
+    assertEquals(databind, ids(index.match(new MavenArtifact("com.fasterxml.jackson.core", "jackson-databind", "jar", "2.8.11"))));
+    assertTrue(index.match(new MavenArtifact("com.fasterxml.jackson.core", "jackson-databind", "jar", "2.7.9.3")).isEmpty());
+    assertTrue(index.match(new MavenArtifact("com.fasterxml.jackson.core", "jackson-databind", "jar", "2.9.5")).isEmpty());
+    assertTrue(index.match(new MavenArtifact("com.fasterxml.jackson.core", "jackson-databind", "jar", "2.6.7")).isEmpty());
+    /**
+     * Listed in versions and covered by a range, reported once.
+     */
+    assertEquals(Arrays.asList("OSV-TEST-0002"), ids(index.match(new MavenArtifact("jdom", "jdom", "jar", "1.0"))));
+    assertEquals(Arrays.asList("OSV-TEST-0002"), ids(index.match(new MavenArtifact("jdom", "jdom", "jar", "0.9"))));
+    assertTrue(index.match(new MavenArtifact("jdom", "jdom", "jar", "1.1")).isEmpty());
+    assertTrue(index.match(new MavenArtifact("commons-pool", "commons-pool", "jar", "1.5.5")).isEmpty());
+  }
+
+  @Test
+  public void testMatchHierarchy() throws IOException {
+    MavenDependency hierarchy = DependencyReader.parseDependencyHierarchy(ResourceUtility.getResourcePath("exampledata/outfile-tree.txt"));
+    List<String> matches = index.match(hierarchy).stream().map(AdvisoryMatch::toString).collect(Collectors.toList());
+    assertEquals(3, matches.size());
+    assertTrue(matches.contains("com.fasterxml.jackson.core:jackson-databind:jar:2.9.4 GHSA-9mxf-g3x6-wv74"));
+    assertTrue(matches.contains("commons-pool:commons-pool:jar:1.5.4 OSV-TEST-0001"));
+    assertTrue(matches.contains("jdom:jdom:jar:1.0 OSV-TEST-0002"));
+  }
+
+  /**
+   * Every interval that contains a version is found, however the intervals
+   * overlap.
+   */
+  @Test
+  public void testOverlappingRanges() {
+    List<Advisory.Range> ranges = Arrays.asList(new Advisory.Range(null, "1.5", null),
+                                                new Advisory.Range("1.0", "3.0", null),
+                                                new Advisory.Range("1.2", null, "1.4"),
+                                                new Advisory.Range("2.0", null, null),
+                                                new Advisory.Range("1.1", "1.2", null));
+    List<Advisory> advisories = new ArrayList<>();
+    for (int i = 0; i < ranges.size(); i++) {
+      advisories.add(new Advisory("A" + i, Collections.emptyList(), null, null, Collections.singletonList(
+                                  new Advisory.Affected("g", "a", Collections.singletonList(ranges.get(i)), Collections.emptyList()))));
+    }
+    AdvisoryIndex overlapping = new AdvisoryIndex(advisories);
+    assertEquals(Arrays.asList("A0"), ids(overlapping.match(new MavenArtifact("g", "a", "jar", "0.1"))));
+    assertEquals(Arrays.asList("A0", "A1", "A4"), sorted(overlapping.match(new MavenArtifact("g", "a", "jar", "1.1"))));
+    assertEquals(Arrays.asList("A0", "A1", "A2"), sorted(overlapping.match(new MavenArtifact("g", "a", "jar", "1.4"))));
+    assertEquals(Arrays.asList("A1"), sorted(overlapping.match(new MavenArtifact("g", "a", "jar", "1.5"))));
+    assertEquals(Arrays.asList("A1", "A3"), sorted(overlapping.match(new MavenArtifact("g", "a", "jar", "2.0"))));
+    assertEquals(Arrays.asList("A3"), sorted(overlapping.match(new MavenArtifact("g", "a", "jar", "99"))));
+  }
+
+  private static List<String> sorted(List<Advisory> advisories) {
+    return ids(advisories).stream().sorted().collect(Collectors.toList());
+  }
+}
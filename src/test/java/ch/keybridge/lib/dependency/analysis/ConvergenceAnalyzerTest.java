@@ -0,0 +1,59 @@
+package ch.keybridge.lib.dependency.analysis;
+
+import ch.keybridge.lib.dependency.io.DependencyReader;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import ch.keybridge.lib.dependency.util.ResourceUtility;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+import static ch.keybridge.lib.dependency.model.DependencyFixtures.dependency;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class ConvergenceAnalyzerTest {
+
+  @Test
+  public void testAnalyze() {
+    MavenDependency hierarchy = dependency("app", "1",
+                                           dependency("a", "1", dependency("x", "1", dependency("y", "2"))),
+                                           dependency("b", "1", dependency("x", "2")),
+                                           dependency("y", "1"),
+                                           dependency("c", "1", dependency("x", "1")));
+    List<VersionConflict> conflicts = ConvergenceAnalyzer.analyze(hierarchy);
+    assertEquals(2, conflicts.size());
+
+    VersionConflict x = conflicts.get(0);
+    assertEquals("x", x.getArtifactId());
+    assertEquals(Arrays.asList("1", "2"), x.getVersions());
+    assertEquals("1", x.getResolved().getVersion());
+    assertEquals("g:app:jar:1 > g:a:jar:1 > g:x:jar:1", x.getResolvedPath().toString());
+    assertEquals(2, x.getPaths("1").size());
+    assertEquals("g:app:jar:1 > g:c:jar:1 > g:x:jar:1", x.getPaths("1").get(1).toString());
+    assertEquals(1, x.getPaths("2").size());
+    assertTrue(x.getPaths("3").isEmpty());
+
+    /**
+     * The nearer occurrence wins even though it comes later.
+     */
+    VersionConflict y = conflicts.get(1);
+    assertEquals(Arrays.asList("2", "1"), y.getVersions());
+    assertEquals("1", y.getResolved().getVersion());
+    assertEquals(2, y.getResolvedPath().getLength());
+    assertEquals("g:y [2, 1] -> 1", y.toString());
+  }
+
+  /**
+   * A dependency:tree report lists each artifact once, so it converges.
+   */
+  @Test
+  public void testConverged() throws IOException {
+    MavenDependency hierarchy = DependencyReader.parseDependencyHierarchy(ResourceUtility.getResourcePath("exampledata/outfile-tree.txt"));
+    assertTrue(ConvergenceAnalyzer.analyze(hierarchy).isEmpty());
+  }
+}
@@ -0,0 +1,88 @@
+package ch.keybridge.lib.dependency.analysis;
+
+import ch.keybridge.lib.dependency.io.DependencyReader;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import ch.keybridge.lib.dependency.util.ResourceUtility;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+import static ch.keybridge.lib.dependency.model.DependencyFixtures.dependency;
+import static ch.keybridge.lib.dependency.model.DependencyFixtures.root;
+import static ch.keybridge.lib.dependency.model.MavenDependencyScope.COMPILE;
+import static ch.keybridge.lib.dependency.model.MavenDependencyScope.RUNTIME;
+import static ch.keybridge.lib.dependency.model.MavenDependencyScope.TEST;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class DependencyDiffTest {
+
+  @Test
+  public void testIdentical() throws IOException {
+    MavenDependency first = DependencyReader.parseDependencyHierarchy(ResourceUtility.getResourcePath("exampledata/outfile-tree.txt"));
+    MavenDependency second = DependencyReader.parseDependencyHierarchy(ResourceUtility.getResourcePath("exampledata/outfile-tree.txt"));
+    assertEquals(first.getContentHash(), second.getContentHash());
+    assertTrue(DependencyDiff.compare(first, second).isEmpty());
+  }
+
+  @Test
+  public void testChanges() {
+    MavenDependency before = root("app", "1",
+                                        dependency("a", "1", COMPILE, dependency("x", "1", COMPILE)),
+                                        dependency("b", "1", COMPILE),
+                                        dependency("c", "1", TEST));
+    MavenDependency after = root("app", "1",
+                                       dependency("a", "1", COMPILE, dependency("x", "2", COMPILE)),
+                                       dependency("d", "1", COMPILE),
+                                       dependency("b", "1", RUNTIME));
+    DependencyDiff diff = DependencyDiff.compare(before, after);
+    assertEquals(4, diff.getChanges().size());
+
+    List<DependencyChange> added = diff.getChanges(DependencyChange.Type.ADDED);
+    assertEquals(1, added.size());
+    assertEquals("g:app:jar:1 > g:d:jar:1", added.get(0).getPath().toString());
+    assertNull(added.get(0).getBefore());
+
+    List<DependencyChange> removed = diff.getChanges(DependencyChange.Type.REMOVED);
+    assertEquals(1, removed.size());
+    assertEquals("c", removed.get(0).getBefore().getArtifact().getArtifactId());
+
+    List<DependencyChange> versions = diff.getChanges(DependencyChange.Type.VERSION_CHANGED);
+    assertEquals(1, versions.size());
+    assertEquals(Arrays.asList(after.getArtifact(),
+                               after.getTransitiveDependencies().get(0).getArtifact(),
+                               new MavenArtifact("g", "x", "jar", "2")),
+                 versions.get(0).getPath().getArtifacts());
+    assertEquals("1", versions.get(0).getBefore().getArtifact().getVersion());
+
+    List<DependencyChange> scopes = diff.getChanges(DependencyChange.Type.SCOPE_CHANGED);
+    assertEquals(1, scopes.size());
+    assertEquals(COMPILE, scopes.get(0).getBefore().getScope());
+    assertEquals(RUNTIME, scopes.get(0).getAfter().getScope());
+  }
+
+  /**
+   * Open and frozen dependencies have the same content hash; order and
+   * scope change it.
+   */
+  @Test
+  public void testContentHash() {
+    MavenDependency frozen = root("app", "1", dependency("a", "1", COMPILE), dependency("b", "1", COMPILE));
+    MavenDependency open = new MavenDependency(frozen.getArtifact(), null);
+    open.getTransitiveDependencies().addAll(frozen.getTransitiveDependencies());
+    assertEquals(frozen.getContentHash(), open.getContentHash());
+    assertEquals(frozen.hashCode(), open.hashCode());
+
+    MavenDependency reordered = root("app", "1", dependency("b", "1", COMPILE), dependency("a", "1", COMPILE));
+    assertTrue(frozen.getContentHash() != reordered.getContentHash());
+    MavenDependency rescoped = root("app", "1", dependency("a", "1", TEST), dependency("b", "1", COMPILE));
+    assertTrue(frozen.getContentHash() != rescoped.getContentHash());
+  }
+}
@@ -0,0 +1,65 @@
+package ch.keybridge.lib.dependency.analysis;
+
+import ch.keybridge.lib.dependency.analysis.LicensePolicy.Decision;
+import ch.keybridge.lib.dependency.io.DependencyReader;
+import ch.keybridge.lib.dependency.io.LicenseReader;
+import ch.keybridge.lib.dependency.model.License;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import ch.keybridge.lib.dependency.util.ResourceUtility;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class LicensePolicyTest {
+
+  private static final License MIT = new License("The MIT License", null, "repo", null);
+  private static final License GPL = new License("GNU General Public License, Version 2", null, "repo", null);
+  private static final License DUAL = new License("CDDL+GPL License", null, "repo", null);
+  private static final License UNKNOWN = new License("Proprietary", null, "repo", null);
+
+  @Test
+  public void testEvaluateLicenses() {
+    LicensePolicy policy = new LicensePolicy(Arrays.asList("MIT", "CDDL-1.1"), Arrays.asList("GPL-2.0-only"));
+    assertEquals(Decision.ALLOW, policy.evaluate(MIT));
+    assertEquals(Decision.DENY, policy.evaluate(GPL));
+    assertEquals(Decision.REVIEW, policy.evaluate(UNKNOWN));
+    /**
+     * Either license of a dual-licensed artifact may be chosen.
+     */
+    assertEquals(Decision.ALLOW, policy.evaluate(DUAL));
+    assertEquals(Decision.ALLOW, policy.evaluate(Arrays.asList(GPL, MIT)));
+    assertEquals(Decision.REVIEW, policy.evaluate(Collections.<License>emptyList()));
+
+    Map<String, Decision> decisions = new HashMap<>();
+    decisions.put("CDDL-1.1 OR GPL-2.0-only WITH Classpath-exception-2.0", Decision.DENY);
+    assertEquals(Decision.DENY, new LicensePolicy(decisions, Decision.ALLOW).evaluate(DUAL));
+    assertEquals(Decision.ALLOW, new LicensePolicy(decisions, Decision.ALLOW).evaluate(UNKNOWN));
+  }
+
+  @Test
+  public void testEvaluateApplication() throws IOException {
+    MavenDependency hierarchy = DependencyReader.parseDependencyHierarchy(ResourceUtility.getResourcePath("exampledata/outfile-tree.txt"));
+    Map<MavenArtifact, List<License>> licenses = LicenseReader.mapLicenses(LicenseReader.read(ResourceUtility.getResourcePath("exampledata/licenses.xml")), hierarchy);
+    LicensePolicy policy = new LicensePolicy(Arrays.asList("MIT", "BSD-3-Clause"), Arrays.asList("EPL-1.0"));
+    LicenseReport report = policy.evaluate(licenses);
+    assertEquals(licenses.size(), report.getDecisions().size());
+    assertEquals(Decision.DENY, report.getDecision());
+    for (Map.Entry<MavenArtifact, List<License>> entry : licenses.entrySet()) {
+      assertEquals(policy.evaluate(entry.getValue()), report.getDecision(entry.getKey()));
+    }
+    assertEquals(report.getDecisions().size(), report.getArtifacts(Decision.ALLOW).size()
+                                               + report.getArtifacts(Decision.REVIEW).size()
+                                               + report.getArtifacts(Decision.DENY).size());
+  }
+}
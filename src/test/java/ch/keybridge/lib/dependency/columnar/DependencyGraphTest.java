@@ -0,0 +1,88 @@
+package ch.keybridge.lib.dependency.columnar;
+
+import ch.keybridge.lib.dependency.io.DependencyReader;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import ch.keybridge.lib.dependency.util.ResourceUtility;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class DependencyGraphTest {
+
+  private Path dependencyTree;
+  private MavenDependency hierarchy;
+
+  @Before
+  public void setUp() throws IOException {
+    dependencyTree = ResourceUtility.getResourcePath("exampledata/outfile-tree.txt");
+    hierarchy = DependencyReader.parseDependencyHierarchy(dependencyTree);
+  }
+
+  @Test
+  public void testView() throws IOException {
+    DependencyGraph graph = DependencyReader.parseDependencyGraph(dependencyTree, new CoordinateTable());
+    assertEquals(hierarchy.getFlattenedDependencies().size(), graph.size());
+    MavenDependency view = graph.asDependency();
+    assertFalse(view.isFrozen());
+    assertEquals(hierarchy, view);
+    assertEquals(view, hierarchy);
+    assertEquals(hierarchy.hashCode(), view.hashCode());
+    assertEquals(hierarchy, view.freeze());
+    assertEquals(new ArrayList<>(hierarchy.getFlattenedDependencies()), view.stream().collect(Collectors.toList()));
+    assertEquals(graph.size(), DependencyGraph.of(hierarchy).size());
+  }
+
+  @Test
+  public void testColumns() {
+    DependencyGraph graph = DependencyGraph.of(hierarchy);
+    List<MavenDependency> flattened = new ArrayList<>(hierarchy.getFlattenedDependencies());
+    assertEquals(DependencyGraph.NONE, graph.getParent(0));
+    assertEquals(0, graph.getDepth(0));
+    assertNull(graph.getScope(0));
+    assertEquals(graph.size(), graph.getSubtreeEnd(0));
+    for (int node = 0; node < graph.size(); node++) {
+      MavenDependency dependency = flattened.get(node);
+      assertEquals(dependency.getArtifact(), graph.getArtifact(node));
+      assertEquals(dependency.getScope(), graph.getScope(node));
+      assertEquals(dependency.getFlattenedDependencies().size(), graph.getSubtreeEnd(node) - node);
+      int children = 0;
+      for (int child = graph.getFirstChild(node); child != DependencyGraph.NONE; child = graph.getNextSibling(child)) {
+        assertEquals(node, graph.getParent(child));
+        assertEquals(graph.getDepth(node) + 1, graph.getDepth(child));
+        children++;
+      }
+      assertEquals(dependency.getTransitiveDependencies().size(), children);
+    }
+  }
+
+  @Test
+  public void testSharedCoordinates() {
+    CoordinateTable coordinates = new CoordinateTable();
+    DependencyGraph first = DependencyGraph.of(hierarchy, coordinates);
+    int distinct = coordinates.size();
+    DependencyGraph second = DependencyGraph.of(hierarchy, coordinates);
+    assertEquals(distinct, coordinates.size());
+    for (int node = 0; node < first.size(); node++) {
+      assertEquals(first.getCoordinate(node), second.getCoordinate(node));
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testInvalidDepth() {
+    new DependencyGraph.Builder(new CoordinateTable())
+      .add(0, hierarchy.getArtifact(), null)
+      .add(2, hierarchy.getArtifact(), null);
+  }
+}
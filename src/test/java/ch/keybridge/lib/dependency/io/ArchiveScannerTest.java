@@ -0,0 +1,78 @@
+package ch.keybridge.lib.dependency.io;
+
+import ch.keybridge.lib.dependency.util.ResourceUtility;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static ch.keybridge.lib.dependency.MetadataFixtures.PLUGIN_TREE;
+import static ch.keybridge.lib.dependency.MetadataFixtures.archive;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class ArchiveScannerTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testScan() throws IOException {
+    File directory = folder.newFolder("fleet");
+    File nested = new File(directory, "nested");
+    assertTrue(nested.mkdir());
+    /**
+     * A WAR with licenses, a plugin JAR, a JAR without metadata, a broken
+     * tree and a file that is not a zip.
+     */
+    Map<String, byte[]> war = new HashMap<>();
+    war.put("WEB-INF/classes/META-INF/build/dependency-tree.txt",
+            Files.readAllBytes(ResourceUtility.getResourcePath("exampledata/outfile-tree.txt")));
+    war.put("WEB-INF/classes/META-INF/build/licenses.xml",
+            Files.readAllBytes(ResourceUtility.getResourcePath("exampledata/licenses.xml")));
+    archive(new File(nested, "app.war"), war);
+    archive(new File(directory, "plugin.jar"),
+            "META-INF/build/dependency-tree.txt", PLUGIN_TREE.getBytes(StandardCharsets.UTF_8));
+    archive(new File(directory, "plain.jar"), "META-INF/MANIFEST.MF", new byte[0]);
+    archive(new File(directory, "broken.jar"), "META-INF/build/dependency-tree.txt", new byte[0]);
+    Files.write(new File(directory, "corrupt.jar").toPath(), new byte[]{1, 2, 3});
+    Files.write(new File(directory, "readme.txt").toPath(), new byte[]{1, 2, 3});
+
+    Map<String, ArchiveInventory> inventories = new HashMap<>();
+    int reported = new ArchiveScanner(2).scan(directory.toPath(),
+                                              inventory -> inventories.put(inventory.getArchive().getFileName().toString(), inventory));
+    assertEquals(4, reported);
+    assertEquals(4, inventories.size());
+    assertFalse(inventories.containsKey("plain.jar"));
+
+    ArchiveInventory app = inventories.get("app.war");
+    assertNull(app.getError());
+    assertEquals("WEB-INF/classes/META-INF/build/", app.getDirectory());
+    assertEquals("web-cbrs-boundary", app.getApplicationArtifact().getArtifactId());
+    assertEquals(LicenseReader.mapLicenses(LicenseReader.read(ResourceUtility.getResourcePath("exampledata/licenses.xml")),
+                                           app.getDependencyHierarchy()),
+                 app.getLicenses());
+
+    ArchiveInventory plugin = inventories.get("plugin.jar");
+    assertEquals("META-INF/build/", plugin.getDirectory());
+    assertEquals(1, plugin.getDependencyHierarchy().getTransitiveDependencies().size());
+    assertTrue(plugin.getLicenses().isEmpty());
+
+    assertNotNull(inventories.get("broken.jar").getError());
+    assertNull(inventories.get("broken.jar").getDependencyHierarchy());
+    assertNotNull(inventories.get("corrupt.jar").getError());
+  }
+}
@@ -0,0 +1,74 @@
+package ch.keybridge.lib.dependency.io;
+
+import ch.keybridge.lib.dependency.model.InternPool;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import ch.keybridge.lib.dependency.util.ResourceUtility;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class DependencyWriterTest {
+
+  private Path dependencyTree;
+  private MavenDependency hierarchy;
+
+  @Before
+  public void setUp() throws IOException {
+    dependencyTree = ResourceUtility.getResourcePath("exampledata/outfile-tree.txt");
+    hierarchy = DependencyReader.parseDependencyHierarchy(dependencyTree);
+  }
+
+  /**
+   * The tree format reproduces the dependency:tree output it was read from.
+   */
+  @Test
+  public void testTreeRoundTrip() throws IOException {
+    StringBuilder tree = new StringBuilder();
+    DependencyWriter.write(hierarchy, DependencyFormat.TREE, tree);
+    assertEquals(String.join("\n", Files.readAllLines(dependencyTree)) + "\n", tree.toString());
+
+    MavenDependency reread = DependencyReader.parseDependencyHierarchy(
+      new ByteArrayInputStream(tree.toString().getBytes(StandardCharsets.UTF_8)), new InternPool());
+    assertEquals(hierarchy, reread);
+  }
+
+  @Test
+  public void testFormats() throws IOException {
+    int size = hierarchy.getFlattenedDependencies().size();
+
+    StringBuilder csv = new StringBuilder();
+    DependencyWriter.write(hierarchy, DependencyFormat.CSV, csv);
+    String[] rows = csv.toString().split("\n");
+    assertEquals(size + 1, rows.length);
+    assertEquals("depth,groupId,artifactId,packaging,version,scope", rows[0]);
+    assertEquals("1,keybridge.faces,faces-common,jar,4.0.0,compile", rows[2]);
+
+    StringBuilder dot = new StringBuilder();
+    DependencyWriter.write(hierarchy, DependencyFormat.DOT, dot);
+    assertTrue(dot.toString().startsWith("digraph dependencies {\n  \"keybridge.application:web-cbrs-boundary:war:1.5.1\";\n"));
+    assertEquals(size + 2, dot.toString().split("\n").length);
+
+    StringBuilder json = new StringBuilder();
+    DependencyWriter.write(hierarchy, DependencyFormat.JSON, json);
+    assertTrue(json.toString().startsWith("{\"groupId\":\"keybridge.application\",\"artifactId\":\"web-cbrs-boundary\""));
+    assertEquals(size, json.toString().split("\\{").length - 1);
+    assertEquals(size, json.toString().split("]}").length - 1);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DependencyWriter.write(hierarchy, DependencyFormat.JSON, Channels.newChannel(bytes));
+    assertEquals(json.toString(), new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+  }
+}
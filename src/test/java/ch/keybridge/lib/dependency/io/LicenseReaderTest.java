@@ -1,9 +1,13 @@
 package ch.keybridge.lib.dependency.io;
 
+import ch.keybridge.lib.dependency.model.License;
 import ch.keybridge.lib.dependency.util.ResourceUtility;
+import java.io.InputStream;
 import java.nio.file.Path;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+
 /**
  * @author Andrius Druzinis-Vitkus
  * @since 0.0.1 created 2019-02-07
@@ -16,4 +20,32 @@ public class LicenseReaderTest {
     final Path licenseListFile = ResourceUtility.getResourcePath("exampledata/licenses.xml");
     System.out.println(LicenseReader.read(licenseListFile));
   }
-}
\ No newline at end of file
+
+  /**
+   * The streaming reader and the JAXB reader produce the same summary.
+   */
+  @Test
+  public void testStreamingMatchesJaxb() throws Exception {
+    final Path licenseListFile = ResourceUtility.getResourcePath("exampledata/licenses.xml");
+    LicenseSummary streamed = LicenseReader.read(licenseListFile);
+    assertEquals(LicenseReader.readJaxb(licenseListFile), streamed);
+
+    assertEquals(3, streamed.getDependencies().size());
+    LicenseSummary.Dependency dependency = streamed.getDependencies().get(0);
+    assertEquals("org.hamcrest:hamcrest-core:1.3", dependency.getVersionedArtifactName());
+    assertEquals(new License("New BSD License", "http://www.opensource.org/licenses/bsd-license.php", "repo",
+                             "new bsd license - bsd-license.php.html"),
+                 dependency.getLicenses().get(0));
+  }
+
+  /**
+   * Reading a resource stream gives the same summary as reading its path.
+   */
+  @Test
+  public void testReadFromStream() throws Exception {
+    final Path licenseListFile = ResourceUtility.getResourcePath("exampledata/licenses.xml");
+    try (InputStream inputStream = ResourceUtility.openResource("exampledata/licenses.xml")) {
+      assertEquals(LicenseReader.read(licenseListFile), LicenseReader.read(inputStream));
+    }
+  }
+}
@@ -1,14 +1,20 @@
 package ch.keybridge.lib.dependency.io;
 
+import ch.keybridge.lib.dependency.model.InternPool;
 import ch.keybridge.lib.dependency.model.MavenDependency;
 import ch.keybridge.lib.dependency.model.MavenDependencyScope;
 import ch.keybridge.lib.dependency.util.ResourceUtility;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringWriter;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Andrius Druzinis-Vitkus
@@ -86,4 +92,35 @@ public class MavenDependencyReaderTest {
      */
 //    DependencyWriter.printHierarchy(hierarchy, Files.newBufferedWriter("/path/to/file"));
   }
-}
\ No newline at end of file
+
+  /**
+   * Artifacts and coordinate strings read through one pool are shared.
+   */
+  @Test
+  public void testInterning() throws IOException {
+    final Path dependencyTreeFile = ResourceUtility.getResourcePath("exampledata/outfile-tree.txt");
+    InternPool pool = new InternPool();
+    MavenDependency first = DependencyReader.parseDependencyHierarchy(dependencyTreeFile, pool);
+    MavenDependency second = DependencyReader.parseDependencyHierarchy(dependencyTreeFile, pool);
+    assertSame(first.getArtifact(), second.getArtifact());
+
+    List<String> groupIds = new ArrayList<>();
+    first.getFlattenedDependencies().stream()
+      .map(d -> d.getArtifact().getGroupId())
+      .filter("org.geotools"::equals)
+      .forEach(groupIds::add);
+    assertTrue(groupIds.size() > 1);
+    groupIds.forEach(groupId -> assertSame(groupIds.get(0), groupId));
+  }
+
+  /**
+   * Reading a resource stream gives the same hierarchy as reading its path.
+   */
+  @Test
+  public void testReadFromStream() throws IOException {
+    MavenDependency fromPath = DependencyReader.parseDependencyHierarchy(ResourceUtility.getResourcePath("exampledata/outfile-tree.txt"));
+    try (InputStream inputStream = ResourceUtility.openResource("exampledata/outfile-tree.txt")) {
+      assertEquals(fromPath, DependencyReader.parseDependencyHierarchy(inputStream, new InternPool()));
+    }
+  }
+}
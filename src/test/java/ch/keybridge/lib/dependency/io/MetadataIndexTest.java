@@ -0,0 +1,63 @@
+package ch.keybridge.lib.dependency.io;
+
+import ch.keybridge.lib.dependency.model.InternPool;
+import ch.keybridge.lib.dependency.model.MavenArtifact;
+import ch.keybridge.lib.dependency.model.MavenDependency;
+import ch.keybridge.lib.dependency.util.ResourceUtility;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class MetadataIndexTest {
+
+  /**
+   * Writing and reading an index reproduces the hierarchy and the license
+   * mapping.
+   */
+  @Test
+  public void testRoundTrip() throws IOException {
+    MavenDependency hierarchy = DependencyReader.parseDependencyHierarchy(ResourceUtility.getResourcePath("exampledata/outfile-tree.txt"));
+    LicenseSummary summary = LicenseReader.read(ResourceUtility.getResourcePath("exampledata/licenses.xml"));
+    MetadataIndex index = new MetadataIndex(hierarchy, LicenseReader.mapLicenses(summary, hierarchy));
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    MetadataIndexWriter.write(index, outputStream);
+
+    MetadataIndex read = MetadataIndexReader.read(new ByteArrayInputStream(outputStream.toByteArray()));
+    assertEquals(index.getDependencyHierarchy(), read.getDependencyHierarchy());
+    assertEquals(index.getLicenses(), read.getLicenses());
+    assertEquals(hierarchy.getFlattenedDependencies(), read.getDependencyHierarchy().getFlattenedDependencies());
+  }
+
+  /**
+   * Indexes read through one pool share their artifacts and licenses.
+   */
+  @Test
+  public void testPool() throws IOException {
+    MavenDependency hierarchy = DependencyReader.parseDependencyHierarchy(ResourceUtility.getResourcePath("exampledata/outfile-tree.txt"));
+    LicenseSummary summary = LicenseReader.read(ResourceUtility.getResourcePath("exampledata/licenses.xml"));
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    MetadataIndexWriter.write(new MetadataIndex(hierarchy, LicenseReader.mapLicenses(summary, hierarchy)), outputStream);
+
+    InternPool pool = new InternPool();
+    MetadataIndex first = MetadataIndexReader.read(new ByteArrayInputStream(outputStream.toByteArray()), pool);
+    MetadataIndex second = MetadataIndexReader.read(new ByteArrayInputStream(outputStream.toByteArray()), pool);
+    assertSame(first.getDependencyHierarchy().getArtifact(), second.getDependencyHierarchy().getArtifact());
+    MavenArtifact licensed = first.getLicenses().keySet().iterator().next();
+    assertSame(first.getLicenses().get(licensed), second.getLicenses().get(licensed));
+  }
+
+  @Test(expected = IOException.class)
+  public void testInvalidIndex() throws IOException {
+    MetadataIndexReader.read(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6}));
+  }
+}
@@ -0,0 +1,67 @@
+package ch.keybridge.lib.dependency.model;
+
+import ch.keybridge.lib.dependency.io.DependencyReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Small hierarchies shared by the tests.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public final class DependencyFixtures {
+
+  private DependencyFixtures() {
+  }
+
+  /**
+   * Create a frozen jar root dependency in group "g", without a scope.
+   *
+   * @param artifactId the artifact id
+   * @param version    the version
+   * @param children   the transitive dependencies
+   * @return the dependency
+   */
+  public static MavenDependency root(String artifactId, String version, MavenDependency... children) {
+    return new MavenDependency(new MavenArtifact("g", artifactId, "jar", version), null, Arrays.asList(children));
+  }
+
+  /**
+   * Create a frozen jar dependency in group "g" with compile scope.
+   *
+   * @param artifactId the artifact id
+   * @param version    the version
+   * @param children   the transitive dependencies
+   * @return the dependency
+   */
+  public static MavenDependency dependency(String artifactId, String version, MavenDependency... children) {
+    return dependency(artifactId, version, MavenDependencyScope.COMPILE, children);
+  }
+
+  /**
+   * Create a frozen jar dependency in group "g".
+   *
+   * @param artifactId the artifact id
+   * @param version    the version
+   * @param scope      the scope
+   * @param children   the transitive dependencies
+   * @return the dependency
+   */
+  public static MavenDependency dependency(String artifactId, String version, MavenDependencyScope scope, MavenDependency... children) {
+    return new MavenDependency(new MavenArtifact("g", artifactId, "jar", version), scope, Arrays.asList(children));
+  }
+
+  /**
+   * Parse a hierarchy in the dependency:tree format.
+   *
+   * @param text the tree
+   * @return the hierarchy
+   * @throws IOException if the tree cannot be parsed
+   */
+  public static MavenDependency tree(String text) throws IOException {
+    return DependencyReader.parseDependencyHierarchy(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), new InternPool());
+  }
+}
@@ -0,0 +1,172 @@
+package ch.keybridge.lib.dependency.model;
+
+import ch.keybridge.lib.dependency.io.DependencyReader;
+import ch.keybridge.lib.dependency.util.ResourceUtility;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class MavenDependencyTest {
+
+  private MavenDependency hierarchy;
+
+  @Before
+  public void setUp() throws IOException {
+    hierarchy = DependencyReader.parseDependencyHierarchy(ResourceUtility.getResourcePath("exampledata/outfile-tree.txt"));
+  }
+
+  /**
+   * Reference pre-order traversal.
+   */
+  private static void addRecursively(MavenDependency dependency, List<MavenDependency> collector) {
+    collector.add(dependency);
+    dependency.getTransitiveDependencies().forEach(t -> addRecursively(t, collector));
+  }
+
+  @Test
+  public void testDepthFirst() {
+    List<MavenDependency> expected = new ArrayList<>();
+    addRecursively(hierarchy, expected);
+    assertEquals(expected, new ArrayList<>(hierarchy.getFlattenedDependencies()));
+    assertEquals(expected, hierarchy.stream().collect(Collectors.toList()));
+    assertEquals(expected, hierarchy.stream().parallel().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void testBreadthFirst() {
+    List<MavenDependency> levelOrder = hierarchy.stream(TraversalOrder.BREADTH_FIRST).collect(Collectors.toList());
+    assertEquals(hierarchy.getFlattenedDependencies().size(), levelOrder.size());
+    assertEquals(hierarchy, levelOrder.get(0));
+    assertEquals(hierarchy.getTransitiveDependencies(), levelOrder.subList(1, 1 + hierarchy.getTransitiveDependencies().size()));
+  }
+
+  @Test
+  public void testDepthLimit() {
+    assertEquals(1, hierarchy.stream(TraversalOrder.DEPTH_FIRST, 0).count());
+    assertEquals(1 + hierarchy.getTransitiveDependencies().size(), hierarchy.stream(TraversalOrder.DEPTH_FIRST, 1).count());
+    assertEquals(1 + hierarchy.getTransitiveDependencies().size(), hierarchy.stream(TraversalOrder.BREADTH_FIRST, 1).count());
+  }
+
+  /**
+   * Parallel traversal of a wide and deep tree visits every node once, in
+   * encounter order.
+   */
+  @Test
+  public void testParallel() {
+    MavenDependency root = new MavenDependency(new MavenArtifact("g", "root", "jar", "1"), null);
+    List<MavenDependency> expected = new ArrayList<>();
+    expected.add(root);
+    for (int i = 0; i < 100; i++) {
+      MavenDependency parent = new MavenDependency(new MavenArtifact("g", "a" + i, "jar", "1"), MavenDependencyScope.COMPILE);
+      root.getTransitiveDependencies().add(parent);
+      expected.add(parent);
+      for (int j = 0; j < 100; j++) {
+        MavenDependency child = new MavenDependency(new MavenArtifact("g", "a" + i + "-" + j, "jar", "1"), MavenDependencyScope.COMPILE);
+        parent.getTransitiveDependencies().add(child);
+        expected.add(child);
+      }
+    }
+    assertEquals(expected, root.stream().parallel().collect(Collectors.toList()));
+    assertEquals(expected, root.freeze().stream().parallel().collect(Collectors.toList()));
+  }
+
+  /**
+   * Traversal does not recurse on the thread stack.
+   */
+  @Test
+  public void testDeepHierarchy() {
+    MavenDependency root = new MavenDependency(new MavenArtifact("g", "root", "jar", "1"), null);
+    MavenDependency parent = root;
+    for (int i = 0; i < 100_000; i++) {
+      MavenDependency child = new MavenDependency(new MavenArtifact("g", "a", "jar", "1"), MavenDependencyScope.COMPILE);
+      parent.getTransitiveDependencies().add(child);
+      parent = child;
+    }
+    assertEquals(100_001, root.getFlattenedDependencies().size());
+    assertEquals(100_001, root.stream(TraversalOrder.BREADTH_FIRST).count());
+    assertEquals(100_001, root.freeze().getFlattenedDependencies().size());
+  }
+
+  /**
+   * Equality and hashing do not recurse on the thread stack, for open and
+   * frozen hierarchies.
+   */
+  @Test
+  public void testDeepEquals() {
+    MavenDependency left = chain(100_000, "a");
+    MavenDependency right = chain(100_000, "a");
+    assertEquals(left, right);
+    assertEquals(left.hashCode(), right.hashCode());
+    assertEquals(left.freeze(), right.freeze());
+    assertEquals(left, right.freeze());
+    assertEquals(left.getContentHash(), left.freeze().getContentHash());
+    assertNotEquals(left, chain(100_000, "b"));
+    assertNotEquals(left.freeze(), chain(100_000, "b").freeze());
+  }
+
+  /**
+   * Create an open chain of dependencies whose deepest artifact has an id.
+   */
+  private static MavenDependency chain(int depth, String leaf) {
+    MavenDependency root = new MavenDependency(new MavenArtifact("g", "root", "jar", "1"), null);
+    MavenDependency parent = root;
+    for (int i = 0; i < depth; i++) {
+      MavenDependency child = new MavenDependency(new MavenArtifact("g", i == depth - 1 ? leaf : "a", "jar", "1"),
+                                                  MavenDependencyScope.COMPILE);
+      parent.getTransitiveDependencies().add(child);
+      parent = child;
+    }
+    return root;
+  }
+
+  /**
+   * Parsed hierarchies are frozen: immutable, with cached hash codes and
+   * exact sizes.
+   */
+  @Test
+  public void testFrozen() {
+    assertTrue(hierarchy.isFrozen());
+    assertSame(hierarchy, hierarchy.freeze());
+    assertSame(hierarchy.getFlattenedDependencies(), hierarchy.getFlattenedDependencies());
+    assertEquals(hierarchy.getFlattenedDependencies().size(), hierarchy.stream().spliterator().getExactSizeIfKnown());
+    try {
+      hierarchy.getTransitiveDependencies().add(hierarchy);
+      fail("frozen dependencies are immutable");
+    } catch (UnsupportedOperationException expected) {
+    }
+  }
+
+  /**
+   * Open and frozen hierarchies with the same content are equal and have the
+   * same hash code.
+   */
+  @Test
+  public void testOpenEqualsFrozen() {
+    MavenDependency open = new MavenDependency(hierarchy.getArtifact(), null);
+    for (MavenDependency dependency : hierarchy.getTransitiveDependencies()) {
+      MavenDependency child = new MavenDependency(dependency.getArtifact(), dependency.getScope());
+      child.getTransitiveDependencies().addAll(dependency.getTransitiveDependencies());
+      open.getTransitiveDependencies().add(child);
+    }
+    assertFalse(open.isFrozen());
+    assertEquals(hierarchy, open);
+    assertEquals(open, hierarchy);
+    assertEquals(hierarchy.hashCode(), open.hashCode());
+    assertEquals(hierarchy, open.freeze());
+    assertEquals(hierarchy.hashCode(), open.freeze().hashCode());
+  }
+}
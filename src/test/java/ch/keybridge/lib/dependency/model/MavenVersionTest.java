@@ -0,0 +1,74 @@
+package ch.keybridge.lib.dependency.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Ordering cases from the tests of Maven's ComparableVersion.
+ *
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class MavenVersionTest {
+
+  private static final String[] QUALIFIERS = {
+    "1-alpha2snapshot", "1-alpha2", "1-alpha-123", "1-beta-2", "1-beta123", "1-m2", "1-m11", "1-rc", "1-cr2",
+    "1-rc123", "1-SNAPSHOT", "1", "1-sp", "1-sp2", "1-sp123", "1-abc", "1-def", "1-pom-1", "1-1-snapshot",
+    "1-1", "1-2", "1-123"
+  };
+
+  private static final String[] NUMBERS = {
+    "2.0", "2-1", "2.0.a", "2.0.0.a", "2.0.2", "2.0.123", "2.1.0", "2.1-a", "2.1b", "2.1-c", "2.1-1", "2.1.0.1",
+    "2.2", "2.123", "11.a2", "11.a11", "11.b2", "11.b11", "11.m2", "11.m11", "11", "11.a", "11b", "11c", "11m"
+  };
+
+  private static void assertOrdered(String[] versions) {
+    for (int i = 0; i < versions.length; i++) {
+      for (int j = i + 1; j < versions.length; j++) {
+        MavenVersion low = MavenVersion.of(versions[i]);
+        MavenVersion high = MavenVersion.of(versions[j]);
+        assertTrue(low + " < " + high, low.compareTo(high) < 0);
+        assertTrue(high + " > " + low, high.compareTo(low) > 0);
+      }
+    }
+  }
+
+  @Test
+  public void testOrder() {
+    assertOrdered(QUALIFIERS);
+    assertOrdered(NUMBERS);
+    assertTrue(MavenVersion.of("4.0.1.Final").isBefore(MavenVersion.of("4.0.10.Final")));
+    assertTrue(MavenVersion.of("2.3.1").isAfter(MavenVersion.of("2.3.1-rc1")));
+    assertTrue(MavenVersion.of("12345678901234567890").isAfter(MavenVersion.of("9223372036854775807")));
+  }
+
+  @Test
+  public void testEquivalent() {
+    String[] equal = {"1", "1.0", "1.0.0", "1-0", "1.0-0", "1.ga", "1-ga", "1.final", "1.0.0.Final", "1-release"};
+    for (String a : equal) {
+      for (String b : equal) {
+        assertEquals(a + " = " + b, 0, MavenVersion.of(a).compareTo(MavenVersion.of(b)));
+        assertEquals(MavenVersion.of(a), MavenVersion.of(b));
+        assertEquals(MavenVersion.of(a).hashCode(), MavenVersion.of(b).hashCode());
+      }
+    }
+    assertEquals(MavenVersion.of("1a1"), MavenVersion.of("1-alpha-1"));
+    assertEquals(MavenVersion.of("1cr1"), MavenVersion.of("1rc1"));
+    assertEquals(MavenVersion.of("1.0-SNAPSHOT"), MavenVersion.of("1-snapshot"));
+  }
+
+  @Test
+  public void testCache() {
+    assertSame(MavenVersion.of("1.2.3"), MavenVersion.of(new String("1.2.3")));
+    assertNotSame(MavenVersion.of("1.2.3"), MavenVersion.ofUncached("1.2.3"));
+    assertEquals(MavenVersion.of("1.2.3"), MavenVersion.ofUncached("1.2.3"));
+    assertEquals("1.0.0.Final", MavenVersion.of("1.0.0.Final").toString());
+    assertTrue(MavenVersion.of("1.0-SNAPSHOT").isSnapshot());
+    assertFalse(MavenVersion.of("1.0").isSnapshot());
+  }
+}
@@ -0,0 +1,46 @@
+package ch.keybridge.lib.dependency.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class SpdxLicensesTest {
+
+  @Test
+  public void testNormalize() {
+    assertEquals("apache 2", SpdxLicenses.normalizeName("Apache License, Version 2.0"));
+    assertEquals("apache 2", SpdxLicenses.normalizeName("Apache-2.0"));
+    assertEquals("lgpl 2.1", SpdxLicenses.normalizeName("LGPLv2.1"));
+    assertEquals("eclipse public 1", SpdxLicenses.normalizeName("Eclipse Public License - v 1.0"));
+    assertEquals("opensource.org/licenses/bsd-license", SpdxLicenses.normalizeUrl("http://www.opensource.org/licenses/bsd-license.php"));
+    assertEquals("apache.org/licenses/license-2.0", SpdxLicenses.normalizeUrl("https://www.apache.org/licenses/LICENSE-2.0/"));
+  }
+
+  @Test
+  public void testIdentify() {
+    assertEquals("Apache-2.0", SpdxLicenses.identify("The Apache Software License, Version 2.0", null));
+    assertEquals("Apache-2.0", SpdxLicenses.identify("Apache 2", null));
+    assertEquals("Apache-2.0", SpdxLicenses.identify("Some Apache license", "http://www.apache.org/licenses/LICENSE-2.0.txt"));
+    assertEquals("MIT", SpdxLicenses.identify("The MIT License", null));
+    assertEquals("BSD-3-Clause", SpdxLicenses.identify("New BSD License", null));
+    assertEquals("EPL-1.0", SpdxLicenses.identify("Eclipse Public License 1.0", null));
+    assertEquals("GPL-2.0-only WITH Classpath-exception-2.0", SpdxLicenses.identify("GPL2 w/ CPE", null));
+    assertEquals("CDDL-1.1 OR GPL-2.0-only WITH Classpath-exception-2.0", SpdxLicenses.identify("CDDL + GPLv2 with classpath exception", null));
+    assertNull(SpdxLicenses.identify("BSD", null));
+    assertNull(SpdxLicenses.identify(null, null));
+  }
+
+  @Test
+  public void testLicense() {
+    assertEquals("MIT", new License("The MIT License", null, "repo", null).getSpdxId());
+    assertEquals("MIT", new License("Bouncy Castle Licence", "http://www.bouncycastle.org/licence.html", "repo", null).getSpdxId());
+    License unknown = new License("Proprietary", "https://example.com/license", "repo", null);
+    assertNull(unknown.getSpdxId());
+    assertNull(unknown.getSpdxId());
+  }
+}
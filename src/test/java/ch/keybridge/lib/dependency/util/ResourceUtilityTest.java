@@ -0,0 +1,91 @@
+package ch.keybridge.lib.dependency.util;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Andrius Druzinis-Vitkus
+ * @since 0.2.0 created 2026-10-17
+ */
+public class ResourceUtilityTest {
+
+  private static final String ENTRY = "META-INF/build/dependency-tree.txt";
+  private static final String CONTENT = "keybridge.lib:app:jar:1.0\n";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * A resource inside a JAR is resolved in the zip file system of the JAR,
+   * and read either way.
+   */
+  @Test
+  public void testArchiveResource() throws IOException {
+    File jar = folder.newFile("app.jar");
+    try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar.toPath()))) {
+      out.putNextEntry(new ZipEntry(ENTRY));
+      out.write(CONTENT.getBytes(StandardCharsets.UTF_8));
+    }
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[]{jar.toURI().toURL()}, null)) {
+      URL url = classLoader.getResource(ENTRY);
+      assertEquals("jar", url.getProtocol());
+
+      Path path = ResourceUtility.getResourcePath(url);
+      assertEquals(CONTENT, new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+      /**
+       * The zip file system is opened once and reused.
+       */
+      assertTrue(path.getFileSystem() == ResourceUtility.getResourcePath(url).getFileSystem());
+
+      ByteBuffer buffer = ResourceUtility.mapResource(url);
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+      assertEquals(CONTENT, new String(bytes, StandardCharsets.UTF_8));
+    }
+  }
+
+  /**
+   * A resource inside a nested archive, such as a JAR inside a WAR, has no
+   * Path.
+   */
+  @Test
+  public void testNestedArchiveResource() throws IOException {
+    /**
+     * The JDK does not create nested jar URLs; application servers and boot
+     * loaders create them with their own handlers.
+     */
+    URLStreamHandler handler = new URLStreamHandler() {
+      @Override
+      protected URLConnection openConnection(URL u) throws IOException {
+        throw new IOException("Not supported");
+      }
+    };
+    URL url = new URL(null, "jar:jar:" + folder.newFile("app.war").toURI() + "!/WEB-INF/lib/app.jar!/" + ENTRY, handler);
+    try {
+      ResourceUtility.getResourcePath(url);
+      fail("a nested archive has no zip file system");
+    } catch (FileNotFoundException e) {
+      assertEquals("Error when accessing path " + url, e.getMessage());
+      assertNull(e.getCause());
+    }
+  }
+}